@@ -0,0 +1,70 @@
+package com.moim.moimbackend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 캐시 적중 경로 비용 (16스레드 동시 호출).
+ *
+ * - manyGatherings: 1천 개 모임에 고르게 분산 (일반 폴링 트래픽)
+ * - hotGathering: 모든 스레드가 같은 모임 (인기 모임 폴링, 같은 묶음/항목을 동시에 읽음)
+ * - invalidateMix: 적중 99% + 무효화 후 재저장 1% (투표가 계속 들어오는 모임)
+ *
+ * 적중 경로에 전역 락이 있으면 hotGathering/manyGatherings 모두 스레드 수만큼 느려진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+public class JsonResponseCacheBenchmark {
+
+    private static final int GATHERINGS = 1_000;
+    private static final long VERSION = 1L;
+
+    private JsonResponseCache cache;
+    private String[] shareCodes;
+    private Map<String, Object> body;
+
+    @Setup
+    public void setUp() {
+        cache = new JsonResponseCache(new ObjectMapper(), 64L * 1024 * 1024, true);
+        body = Map.of("title", "금요일 회식", "description", "x".repeat(2048));
+        shareCodes = new String[GATHERINGS];
+        for (int i = 0; i < GATHERINGS; i++) {
+            shareCodes[i] = "code" + i;
+            cache.get(shareCodes[i], "detail", VERSION, () -> body);
+        }
+    }
+
+    @Benchmark
+    public Object manyGatherings() {
+        String shareCode = shareCodes[ThreadLocalRandom.current().nextInt(GATHERINGS)];
+        return cache.get(shareCode, "detail", VERSION, () -> body);
+    }
+
+    @Benchmark
+    public Object hotGathering() {
+        return cache.get(shareCodes[0], "detail", VERSION, () -> body);
+    }
+
+    @Benchmark
+    public Object invalidateMix() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String shareCode = shareCodes[random.nextInt(GATHERINGS)];
+        if (random.nextInt(100) == 0) {
+            cache.invalidate(shareCode);
+        }
+        return cache.get(shareCode, "detail", VERSION, () -> body);
+    }
+}
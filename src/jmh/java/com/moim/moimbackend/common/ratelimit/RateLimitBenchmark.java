@@ -0,0 +1,53 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter가 요청마다 추가하는 비용 (16스레드 동시 호출).
+ *
+ * - manyClients: 1만 개 IP에 고르게 분산 (일반 트래픽, stripe 경합 낮음)
+ * - singleClient: 모든 스레드가 같은 IP (같은 stripe 락 + 같은 버킷 CAS 경합, 최악의 경우)
+ *
+ * 한도는 충분히 크게 둬서 거절 경로가 아니라 통과 경로를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+public class RateLimitBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private InMemoryRateLimitStore store;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryRateLimitStore(1_000_000_000L, 1_000_000_000L, 100_000, 600);
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public boolean manyClients() {
+        String ip = clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return store.tryConsume(ip, false).isAllowed();
+    }
+
+    @Benchmark
+    public boolean singleClient() {
+        return store.tryConsume("10.0.0.1", false).isAllowed();
+    }
+}
@@ -0,0 +1,80 @@
+package com.moim.moimbackend.common.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 해시/검증 비교.
+ *
+ * - legacy*: 변경 전 구현 (호출마다 getInstance + getBytes + HexFormat, String.equals 비교)
+ * - hash/matches: 현재 TokenHashUtil (풀에서 빌린 다이제스트, 버퍼 재사용, 바이트 고정 시간 비교)
+ * - signedVerify: 서명 토큰 검증 (HMAC만, DB 해시 조회 경로는 여기에 왕복 비용이 추가됨)
+ *
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm = 호출당 할당 바이트)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenHashBenchmark {
+
+    private String token;
+    private String storedHash;
+    private String signedToken;
+    private TokenSigner tokenSigner;
+
+    @Setup
+    public void setUp() {
+        tokenSigner = new TokenSigner("", "");
+        String nonce = tokenSigner.newNonce();
+        token = TokenHashUtil.generateToken();
+        storedHash = TokenHashUtil.hash(token);
+        signedToken = tokenSigner.issue(TokenSigner.TokenType.SESSION, 12345L, 67890L, nonce);
+    }
+
+    @Benchmark
+    public String legacyHash() {
+        return legacyHash(token);
+    }
+
+    @Benchmark
+    public String hash() {
+        return TokenHashUtil.hash(token);
+    }
+
+    @Benchmark
+    public boolean legacyMatches() {
+        return legacyHash(token).equals(storedHash);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return TokenHashUtil.matches(token, storedHash);
+    }
+
+    @Benchmark
+    public Object signedVerify() {
+        return tokenSigner.verify(signedToken, TokenSigner.TokenType.SESSION);
+    }
+
+    /** 변경 전 TokenHashUtil.hash */
+    private static String legacyHash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashBytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hashBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.moim.moimbackend.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공유 코드 생성 비교.
+ *
+ * - legacyGenerate: 변경 전 구현 (글자마다 nextInt(62) + StringBuilder)
+ * - generate: 현재 ShareCodeGenerator (nextLong() 1회를 6비트씩 사용 + char[])
+ * - pack: 캐시 키 압축 (할당 없음이 기대값)
+ * - permutedEncode: ShareCodeAllocator의 블록 내 경로 (순열 + encode, DB 호출 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShareCodeBenchmark {
+
+    private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final String code = "aB3kX7";
+    private final ShareCodePermutation permutation =
+            new ShareCodePermutation("benchmark-key".getBytes(StandardCharsets.UTF_8));
+    private long sequence;
+
+    @Benchmark
+    public String legacyGenerate() {
+        StringBuilder sb = new StringBuilder(6);
+        for (int i = 0; i < 6; i++) {
+            sb.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String generate() {
+        return ShareCodeGenerator.generate();
+    }
+
+    @Benchmark
+    public long pack() {
+        return ShareCodeGenerator.pack(code);
+    }
+
+    @Benchmark
+    public String permutedEncode() {
+        long value = sequence++;
+        if (sequence == ShareCodePermutation.DOMAIN) {
+            sequence = 0;
+        }
+        return ShareCodeGenerator.encode(permutation.permute(value));
+    }
+}
@@ -0,0 +1,118 @@
+package com.moim.moimbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.cache.JsonResponseCache;
+import com.moim.moimbackend.common.cache.JsonResponseCache.CachedJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 폴링 위주 부하에서 플랫폼 스레드 vs 가상 스레드 (처리량 + 지연 분포).
+ *
+ * 클라이언트 512개(JMH 스레드)가 GET /gatherings/{code} 폴링을 흉내 낸 요청을 보내고 응답을 기다린다.
+ * 요청 1건 = 커넥션 획득 → 버전 조회(db-micros 동안 블로킹) → 반납 → 10%만 본문 캐시 적중 + 직렬화 바이트 응답.
+ * - platform: Tomcat 기본값과 같은 200스레드 고정 풀
+ * - virtual: 요청마다 가상 스레드 (BackgroundThreads, 가상 스레드 모드와 같은 팩토리)
+ * - connections: Hikari 풀 크기. 21은 VirtualThreadConfig 기본식(10코어 기준), 1000은 DB가 병목이 아닌 경우
+ *
+ * 커넥션이 병목이면 두 모드의 처리량은 같고 대기만 풀 앞으로 옮겨진다 (그래서 가상 스레드 모드는 풀 대기 시간을 줄여 503으로 거절).
+ * 커넥션이 충분하면 플랫폼 모드는 200스레드에서 막히고 가상 스레드 모드는 클라이언트 수만큼 동시에 진행한다.
+ *
+ * 실행: ./gradlew jmh -PvirtualThreads (virtual 파라미터는 Java 21 필요, 17에서는 해당 조합만 실패)
+ * 결과: Throughput(ops/s)과 SampleTime의 p0.99
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(512)
+public class ThreadingBenchmark {
+
+    /** Tomcat server.tomcat.threads.max 기본값 */
+    private static final int TOMCAT_THREADS = 200;
+    private static final long VERSION = 1L;
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"21", "1000"})
+    public int connections;
+
+    @Param({"500"})
+    public long dbMicros;
+
+    private ExecutorService platformPool;
+    private Executor requestExecutor;
+    private Semaphore connectionPool;
+    private JsonResponseCache responseCache;
+    private Map<String, Object> body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Map.of("spring.threads.virtual.enabled", String.valueOf(threading.equals("virtual")))));
+        BackgroundThreads backgroundThreads = new BackgroundThreads(environment);
+
+        if (threading.equals("virtual")) {
+            requestExecutor = backgroundThreads.perTaskExecutor("request-");
+        } else {
+            platformPool = Executors.newFixedThreadPool(TOMCAT_THREADS, backgroundThreads.factory("request-"));
+            requestExecutor = platformPool;
+        }
+        connectionPool = new Semaphore(connections, true);
+        responseCache = new JsonResponseCache(new ObjectMapper(), 16L * 1024 * 1024, true);
+        body = Map.of("title", "금요일 회식", "description", "x".repeat(2048));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Object poll() throws Exception {
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        requestExecutor.execute(() -> {
+            try {
+                response.complete(handle());
+            } catch (Throwable e) {
+                response.completeExceptionally(e);
+            }
+        });
+        return response.get();
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 폴링 요청 1건: 버전 조회(블로킹) 후 대부분 304, 일부만 캐시된 본문 */
+    private Object handle() throws InterruptedException {
+        connectionPool.acquire();
+        try {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbMicros));
+        } finally {
+            connectionPool.release();
+        }
+        if (ThreadLocalRandom.current().nextInt(10) != 0) {
+            return null;  // 304 Not Modified
+        }
+        CachedJson cached = responseCache.get("aB3kX7", "detail", VERSION, () -> body);
+        return responseCache.toResponse(cached, "gzip");
+    }
+}
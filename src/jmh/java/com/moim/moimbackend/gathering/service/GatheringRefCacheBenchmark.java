@@ -0,0 +1,99 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.moim.moimbackend.common.security.TokenHashUtil;
+import com.moim.moimbackend.common.util.ShareCodeGenerator;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.entity.GatheringType;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공유 코드 → 모임 최소 정보 해석 비교 (DB 없음).
+ *
+ * - cacheHit: GatheringRefCache 적중 (관리 토큰 해시를 hex로 풀지 않음)
+ * - repository: 캐시를 끈 경우의 findRefByShareCode 경로에서 DB 왕복을 뺀 부분
+ *   (JPQL 생성자 결과처럼 매번 GatheringRef + 해시 문자열 생성) → 실제 미스는 여기에 DB 왕복이 더해짐
+ * - cacheHitMatchAdminToken / repositoryMatchAdminToken: 주최자 API의 관리 토큰 검증까지 포함
+ *   (슬롯의 32바이트와 비교 vs 64자 hex를 풀어서 비교)
+ *
+ * 실행: ./gradlew jmh (gc.alloc.rate.norm = 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GatheringRefCacheBenchmark {
+
+    private static final int GATHERINGS = 10_000;
+    private static final String ADMIN_TOKEN = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String TOKEN_HASH = TokenHashUtil.hash(ADMIN_TOKEN);
+
+    private GatheringRefCache cache;
+    private GatheringRefCache uncached;
+    private String[] shareCodes;
+
+    @Setup
+    public void setUp() {
+        GatheringRepository repository = stubRepository();
+        cache = new GatheringRefCache(repository, GATHERINGS * 2, 3600);
+        uncached = new GatheringRefCache(repository, 0, 3600);
+
+        shareCodes = new String[GATHERINGS];
+        for (int i = 0; i < GATHERINGS; i++) {
+            shareCodes[i] = ShareCodeGenerator.encode(i * 7919L);
+            cache.resolve(shareCodes[i]);
+        }
+    }
+
+    @Benchmark
+    public GatheringRef cacheHit() {
+        return cache.resolve(randomCode());
+    }
+
+    @Benchmark
+    public GatheringRef repository() {
+        return uncached.resolve(randomCode());
+    }
+
+    @Benchmark
+    public boolean cacheHitMatchAdminToken() {
+        return cache.matchesAdminToken(cache.resolve(randomCode()), ADMIN_TOKEN);
+    }
+
+    @Benchmark
+    public boolean repositoryMatchAdminToken() {
+        return uncached.matchesAdminToken(uncached.resolve(randomCode()), ADMIN_TOKEN);
+    }
+
+    private String randomCode() {
+        return shareCodes[ThreadLocalRandom.current().nextInt(GATHERINGS)];
+    }
+
+    /** findRefByShareCode만 응답하는 저장소 (DB 대신 JPQL 생성자 결과와 같은 객체를 매번 생성) */
+    private static GatheringRepository stubRepository() {
+        Instant deadline = Instant.now().plusSeconds(86_400);
+        return (GatheringRepository) Proxy.newProxyInstance(
+                GatheringRepository.class.getClassLoader(),
+                new Class<?>[]{GatheringRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findRefByShareCode")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    String shareCode = (String) args[0];
+                    return Optional.of(new GatheringRef(ShareCodeGenerator.pack(shareCode), shareCode,
+                            GatheringStatus.VOTING, GatheringType.BOTH, deadline, new String(TOKEN_HASH)));
+                });
+    }
+}
@@ -0,0 +1,313 @@
+package com.moim.moimbackend.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회되는 응답의 직렬화 결과(JSON 바이트) 캐시.
+ *
+ * 인기 모임의 상세/투표 현황은 내용이 같은데도 요청마다 DTO 조립 + Jackson 직렬화가 반복된다.
+ * (shareCode, endpoint, version) 단위로 UTF-8 JSON 바이트(+ gzip)를 보관하고,
+ * 컨트롤러는 byte[]를 그대로 응답 스트림에 쓴다 (ByteArrayHttpMessageConverter).
+ *
+ * - version이 키에 포함되므로 변경 후에는 자연히 새 항목이 만들어진다
+ * - 쓰기 경로(투표 변경, 상태 전이)의 커밋 이후 해당 모임 항목을 즉시 제거해 메모리를 돌려받는다
+ * - 전체 바이트 수 상한을 넘으면 가장 오래 조회되지 않은 모임부터 제거 (근사 LRU)
+ *
+ * 동시성:
+ * - 적중 경로는 락 없이 ConcurrentHashMap 조회만 한다 (전역 락 없음)
+ * - 저장/제거는 모임 묶음(Bucket) 단위로만 잠근다
+ * - 상한 초과 시 정리는 한 스레드만 수행하고, 상한의 90%까지 한 번에 줄인다
+ *   (조회 시각은 1초 단위로만 갱신 → 인기 모임 적중마다 같은 필드에 쓰지 않음)
+ *
+ * ETag:
+ * gzip/원본 두 표현이 같은 ETag를 쓰므로 약한 ETag(W/"version")를 내려준다.
+ * 강한 ETag는 바이트 단위로 같은 표현에만 써야 해서, 압축 여부가 다른 두 응답에 같은 값을 쓰면 안 된다.
+ */
+@Slf4j
+@Component
+public class JsonResponseCache {
+
+    /** 이보다 작은 응답은 gzip 이득이 적어서 압축하지 않음 */
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    /** 조회 시각 갱신 간격 (LRU 정밀도) */
+    private static final long TOUCH_INTERVAL_MILLIS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final boolean gzipEnabled;
+
+    /** shareCode → 모임별 응답 묶음 */
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>(256);
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             @Value("${moim.response-cache.max-bytes:67108864}") long maxBytes,
+                             @Value("${moim.response-cache.gzip:true}") boolean gzipEnabled) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * 모임 변경 버전의 ETag (약한 ETag, gzip/원본 공통).
+     * 컨트롤러의 If-None-Match 비교(checkNotModified)와 응답 헤더에 같은 값을 쓴다.
+     */
+    public static String eTag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /**
+     * 캐시된 JSON 조회, 없으면 loader로 만들어 저장.
+     * 적중 시 락을 잡지 않고, loader(DTO 조립)와 직렬화도 락 밖에서 수행한다.
+     */
+    public CachedJson get(String shareCode, String endpoint, long version, Supplier<Object> loader) {
+        Bucket bucket = buckets.get(shareCode);
+        if (bucket != null) {
+            CachedJson cached = bucket.responses.get(endpoint);
+            if (cached != null && cached.version == version) {
+                bucket.touch();
+                return cached;
+            }
+        }
+
+        CachedJson created = serialize(version, loader.get());
+        put(shareCode, endpoint, created);
+        return created;
+    }
+
+    /**
+     * 캐시된 바이트로 응답 생성.
+     * 클라이언트가 gzip을 받을 수 있고 압축본이 있으면 압축본을 그대로 내려준다.
+     * Accept-Encoding은 코딩별로 나눠서 보고, q=0으로 거부한 gzip에는 압축본을 보내지 않는다.
+     */
+    public ResponseEntity<byte[]> toResponse(CachedJson cached, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag(cached.version))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (cached.gzip != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip);
+        }
+        return builder.body(cached.json);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteChanged(VoteChangedEvent event) {
+        invalidate(event.getShareCode());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(GatheringStatusChangedEvent event) {
+        invalidate(event.getShareCode());
+    }
+
+    /** 모임의 캐시 항목 전체 제거 */
+    public void invalidate(String shareCode) {
+        Bucket removed = buckets.remove(shareCode);
+        if (removed != null) {
+            detach(removed);
+        }
+    }
+
+    /** 현재 보관 중인 바이트 수 (모니터링용) */
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void put(String shareCode, String endpoint, CachedJson created) {
+        if (created.size() > maxBytes) {
+            return;  // 단일 응답이 상한보다 크면 캐시하지 않음
+        }
+
+        while (true) {
+            Bucket bucket = buckets.computeIfAbsent(shareCode, code -> new Bucket());
+            synchronized (bucket) {
+                if (bucket.detached) {
+                    continue;  // 방금 제거된 묶음 → 새 묶음에 다시 저장
+                }
+                CachedJson previous = bucket.responses.get(endpoint);
+                if (previous != null && previous.version > created.version) {
+                    return;  // 더 최신 버전이 먼저 저장됨
+                }
+                bucket.responses.put(endpoint, created);
+                long delta = created.size() - (previous != null ? previous.size() : 0);
+                bucket.bytes += delta;
+                totalBytes.addAndGet(delta);
+                bucket.touch();
+            }
+            break;
+        }
+
+        if (totalBytes.get() > maxBytes) {
+            evict(shareCode);
+        }
+    }
+
+    /**
+     * 가장 오래 조회되지 않은 모임부터 제거 (방금 저장한 모임은 제외).
+     * 이미 다른 스레드가 정리 중이면 그 스레드에 맡긴다.
+     */
+    private void evict(String justStored) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long target = maxBytes - maxBytes / 10;
+            if (totalBytes.get() <= target) {
+                return;
+            }
+            // 정렬 중 조회 시각이 바뀌지 않도록 값을 먼저 복사
+            List<Map.Entry<Long, Map.Entry<String, Bucket>>> candidates = new ArrayList<>(buckets.size());
+            for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+                candidates.add(Map.entry(entry.getValue().lastAccessMillis, entry));
+            }
+            candidates.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+
+            for (Map.Entry<Long, Map.Entry<String, Bucket>> candidate : candidates) {
+                if (totalBytes.get() <= target) {
+                    break;
+                }
+                String shareCode = candidate.getValue().getKey();
+                Bucket bucket = candidate.getValue().getValue();
+                if (!shareCode.equals(justStored) && buckets.remove(shareCode, bucket)) {
+                    detach(bucket);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** 맵에서 빠진 묶음의 바이트를 전체 합계에서 뺀다 (이후 이 묶음에는 저장하지 않음) */
+    private void detach(Bucket bucket) {
+        synchronized (bucket) {
+            bucket.detached = true;
+            totalBytes.addAndGet(-bucket.bytes);
+        }
+    }
+
+    private CachedJson serialize(long version, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzipEnabled && json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            return new CachedJson(version, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (RFC 9110 12.5.3).
+     * "gzip"(또는 "x-gzip")이 있으면 그 q값을, 없으면 "*"의 q값을 따른다. q=0은 거부.
+     * q값 형식이 잘못된 코딩은 없는 것으로 본다.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = quality(parts);
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = Math.max(gzipQuality, quality);
+            } else if (name.equals("*")) {
+                wildcardQuality = Math.max(wildcardQuality, quality);
+            }
+        }
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+
+    /** 코딩 파라미터 중 q값 (없으면 1, 형식이 잘못되면 -1) */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 1 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q')
+                    && param.substring(1).trim().startsWith("=")) {
+                try {
+                    double quality = Double.parseDouble(param.substring(param.indexOf('=') + 1).trim());
+                    return quality >= 0 && quality <= 1 ? quality : -1;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 모임 하나의 엔드포인트별 캐시.
+     * responses는 락 없이 읽고, bytes/detached 변경은 synchronized (bucket)에서만 한다.
+     */
+    private static class Bucket {
+        final Map<String, CachedJson> responses = new ConcurrentHashMap<>(4);
+        long bytes;
+        boolean detached;
+        volatile long lastAccessMillis = System.currentTimeMillis();
+
+        void touch() {
+            long now = System.currentTimeMillis();
+            if (now - lastAccessMillis >= TOUCH_INTERVAL_MILLIS) {
+                lastAccessMillis = now;
+            }
+        }
+    }
+
+    /** 직렬화된 응답 (불변) */
+    public static final class CachedJson {
+        private final long version;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private CachedJson(long version, byte[] json, byte[] gzip) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        long size() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -21,6 +21,7 @@ public enum ErrorCode {
 
     // === 409 Conflict ===
     DUPLICATE_NAME(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
+    ALREADY_CONFIRMED(HttpStatus.CONFLICT, "이미 확정된 모임입니다."),
 
     // === 410 Gone ===
     VOTING_CLOSED(HttpStatus.GONE, "마감된 투표입니다."),
@@ -29,7 +30,10 @@ public enum ErrorCode {
     DEADLINE_PAST(HttpStatus.UNPROCESSABLE_ENTITY, "마감 시간이 과거입니다."),
 
     // === 429 Too Many Requests ===
-    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // === 503 Service Unavailable ===
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
@@ -2,6 +2,7 @@ package com.moim.moimbackend.common.exception;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -72,6 +73,16 @@ public class GlobalExceptionHandler {
                 .status(ErrorCode.INVALID_INPUT.getStatus())
                 .body(body);
     }
+
+    /**
+     * 커넥션을 얻지 못해 트랜잭션을 시작할 수 없을 때 (Hikari 대기 시간 초과 등).
+     * 서버 오류가 아니라 일시적 과부하이므로 503으로 재시도를 유도한다.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Map<String, Object>> handleCannotCreateTransaction(CannotCreateTransactionException e) {
+        log.warn("[CannotCreateTransaction] message={}", e.getMessage());
+        return handleBusinessException(new BusinessException(ErrorCode.SERVER_BUSY));
+    }
     /**
      * 예상치 못한 예외 처리.
      * 위에서 잡히지 않는 모든 예외가 여기로 온다.
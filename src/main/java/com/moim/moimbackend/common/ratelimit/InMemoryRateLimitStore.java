@@ -0,0 +1,183 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.TimeMeter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클라이언트(IP)별 토큰 버킷 저장소 (인메모리, 기본값: moim.rate-limit.store=memory).
+ *
+ * 인스턴스마다 따로 세므로 N대로 운영하면 실제 한도는 N배가 된다 → 여러 대면 PostgresRateLimitStore.
+ *
+ * 구조: 64개 stripe로 나눈 접근 순서 LinkedHashMap
+ * - stripe마다 락이 따로라 서로 다른 IP는 거의 경합하지 않음
+ * - 락은 버킷 조회/등록 동안만 잡고, 토큰 차감은 bucket4j의 lock-free(CAS) 버킷에서 수행
+ *
+ * 메모리 상한 (스캔/봇으로 IP가 대량 유입돼도):
+ * - stripe당 max-clients/64개를 넘으면 가장 오래 안 쓴 IP부터 제거
+ * - 1분마다 idle-ttl 동안 요청이 없던 IP 제거 (접근 순서라 앞에서부터 보다가 최근 항목에서 멈춤)
+ *
+ * 제거된 IP는 다음 요청에서 가득 찬 버킷으로 다시 시작한다.
+ * idle-ttl(기본 10분)이 버킷 재충전 시간(1분)보다 길어서 제거로 한도가 느슨해지지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "moim.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPES = 64;
+
+    private final Bandwidth readLimit;
+    private final Bandwidth writeLimit;
+    private final int maxPerStripe;
+    private final long idleTtlNanos;
+    private final TimeMeter timeMeter;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    @Autowired
+    public InMemoryRateLimitStore(@Value("${moim.rate-limit.read-per-minute:120}") long readPerMinute,
+                                @Value("${moim.rate-limit.write-per-minute:30}") long writePerMinute,
+                                @Value("${moim.rate-limit.max-clients:100000}") int maxClients,
+                                @Value("${moim.rate-limit.idle-ttl-seconds:600}") long idleTtlSeconds) {
+        this(readPerMinute, writePerMinute, maxClients, idleTtlSeconds, TimeMeter.SYSTEM_NANOTIME);
+    }
+
+    /** 시계를 직접 지정 (테스트용, 재충전/유휴 제거를 기다리지 않고 검증) */
+    InMemoryRateLimitStore(long readPerMinute, long writePerMinute, int maxClients, long idleTtlSeconds,
+                           TimeMeter timeMeter) {
+        this.timeMeter = timeMeter;
+        this.readLimit = perMinute(readPerMinute);
+        this.writeLimit = perMinute(writePerMinute);
+        this.maxPerStripe = Math.max(1, maxClients / STRIPES);
+        this.idleTtlNanos = TimeUnit.SECONDS.toNanos(idleTtlSeconds);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String clientKey, boolean write) {
+        ClientBuckets buckets = stripeOf(clientKey).get(clientKey);
+        ConsumptionProbe probe = (write ? buckets.write : buckets.read).tryConsumeAndReturnRemaining(1);
+        return probe.isConsumed() ? RateLimitResult.ALLOWED : RateLimitResult.rejected(probe.getNanosToWaitForRefill());
+    }
+
+    /** 1분마다 오래 요청이 없던 IP 제거 */
+    @Scheduled(fixedRate = 60_000)
+    public void evictIdle() {
+        long now = timeMeter.currentTimeNanos();
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            evicted += stripe.evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("[RateLimit] 유휴 클라이언트 {}건 제거, 남은 {}건", evicted, size());
+        }
+    }
+
+    /** 현재 추적 중인 클라이언트 수 (모니터링용) */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    // ========== Private 메서드 ==========
+
+    private Stripe stripeOf(String clientKey) {
+        int h = clientKey.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static Bandwidth perMinute(long tokens) {
+        // greedy: 1분에 한꺼번에가 아니라 조금씩 계속 채움 → 한도를 다 쓴 클라이언트도 곧 1건씩 다시 가능
+        return Bandwidth.builder()
+                .capacity(tokens)
+                .refillGreedy(tokens, Duration.ofMinutes(1))
+                .build();
+    }
+
+    private Bucket newBucket(Bandwidth limit) {
+        return Bucket.builder().addLimit(limit).withCustomTimePrecision(timeMeter).build();
+    }
+
+    /** 클라이언트 1개의 읽기/쓰기 버킷 */
+    private static final class ClientBuckets {
+        private final Bucket read;
+        private final Bucket write;
+        private long lastAccessNanos;
+
+        private ClientBuckets(Bucket read, Bucket write) {
+            this.read = read;
+            this.write = write;
+        }
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, ClientBuckets> clients = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ClientBuckets> eldest) {
+                return size() > maxPerStripe;
+            }
+        };
+
+        private ClientBuckets get(String clientKey) {
+            lock.lock();
+            try {
+                ClientBuckets buckets = clients.get(clientKey);
+                if (buckets == null) {
+                    buckets = new ClientBuckets(newBucket(readLimit), newBucket(writeLimit));
+                    clients.put(clientKey, buckets);
+                }
+                buckets.lastAccessNanos = timeMeter.currentTimeNanos();
+                return buckets;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int evictIdle(long now) {
+            lock.lock();
+            try {
+                int evicted = 0;
+                Iterator<ClientBuckets> iterator = clients.values().iterator();
+                while (iterator.hasNext()) {
+                    if (now - iterator.next().lastAccessNanos < idleTtlNanos) {
+                        break;  // 접근 순서 → 이후 항목은 모두 더 최근
+                    }
+                    iterator.remove();
+                    evicted++;
+                }
+                return evicted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return clients.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 인스턴스가 공유하는 요청 한도 저장소 (moim.rate-limit.store=postgres).
+ *
+ * 인메모리 버킷은 인스턴스마다 따로 세서 N대면 한도가 N배가 된다.
+ * 이 저장소는 (IP, 읽기/쓰기)별 토큰 버킷을 rate_limit_bucket 테이블에 두고 모든 인스턴스가 함께 쓴다.
+ *
+ * DB 갱신: compare-and-swap
+ * - 행을 읽어 Java에서 재충전량을 계산하고, version이 그대로일 때만 UPDATE
+ * - 다른 인스턴스가 먼저 바꿨으면(0 rows) 다시 읽어서 재시도, 행 잠금은 잡지 않음
+ *
+ * 로컬 임대(lease): 요청마다 DB에 쓰지 않도록 한 번에 lease-tokens개를 가져와서 로컬에서 차감한다.
+ * - 기본 5개 → DB 쓰기는 요청 5건당 1회
+ * - 임대한 토큰은 lease-ttl 후 버린다 (쓰지 않은 토큰만큼 약간 엄격해질 뿐, 한도를 넘지는 않음)
+ * - 거절되면 다음 토큰 시각까지 로컬에서 바로 거절 (폭주 중인 IP가 DB를 두드리지 않음)
+ *
+ * 임대 맵 상한 (max-clients, IP가 대량 유입돼도):
+ * - 상한에서 새 클라이언트가 오면 만료된 임대를 정리하되, 전체 순회는 1초에 한 번만
+ * - 그래도 가득 차 있으면 임대를 만들지 않고 요청 1건마다 DB 버킷에서 1개씩 차감 (한도는 그대로, DB 쓰기만 늘어남)
+ *
+ * 시각은 각 인스턴스의 시계(epoch millis)를 쓴다. 시계가 조금 어긋나도 과거로 되돌리지는 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "moim.rate-limit.store", havingValue = "postgres")
+public class PostgresRateLimitStore implements RateLimitStore {
+
+    private static final int MAX_CAS_ATTEMPTS = 5;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final long CAP_EVICTION_INTERVAL_MILLIS = 1_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long readPerMinute;
+    private final long writePerMinute;
+    private final int leaseTokens;
+    private final long leaseTtlMillis;
+    private final long idleTtlMillis;
+    private final int maxClients;
+
+    /** (IP + 읽기/쓰기) → 이 인스턴스가 임대 중인 토큰 */
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    /** 상한에서 마지막으로 임대를 정리한 시각 (새 클라이언트마다 전체 순회하지 않도록) */
+    private final AtomicLong capEvictedAt = new AtomicLong();
+
+    public PostgresRateLimitStore(JdbcTemplate jdbcTemplate,
+                                  @Value("${moim.rate-limit.read-per-minute:120}") long readPerMinute,
+                                  @Value("${moim.rate-limit.write-per-minute:30}") long writePerMinute,
+                                  @Value("${moim.rate-limit.postgres.lease-tokens:5}") int leaseTokens,
+                                  @Value("${moim.rate-limit.postgres.lease-ttl-millis:5000}") long leaseTtlMillis,
+                                  @Value("${moim.rate-limit.idle-ttl-seconds:600}") long idleTtlSeconds,
+                                  @Value("${moim.rate-limit.max-clients:100000}") int maxClients) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readPerMinute = readPerMinute;
+        this.writePerMinute = writePerMinute;
+        this.leaseTokens = leaseTokens;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.idleTtlMillis = TimeUnit.SECONDS.toMillis(idleTtlSeconds);
+        this.maxClients = maxClients;
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String clientKey, boolean write) {
+        String limitType = write ? "w" : "r";
+        long capacity = write ? writePerMinute : readPerMinute;
+        Lease lease = leases.get(clientKey + limitType);
+        if (lease == null) {
+            if (leases.size() >= maxClients && !evictAtCapacity()) {
+                return consumeWithoutLease(clientKey, limitType, capacity);
+            }
+            lease = leases.computeIfAbsent(clientKey + limitType, key -> new Lease());
+        }
+
+        // 같은 클라이언트의 동시 요청은 임대 1회를 함께 기다린다 (ReentrantLock: 가상 스레드 고정 방지)
+        lease.lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now < lease.blockedUntil) {
+                return RateLimitResult.rejected(TimeUnit.MILLISECONDS.toNanos(lease.blockedUntil - now));
+            }
+            if (lease.tokens > 0 && now < lease.expiresAt) {
+                lease.tokens--;
+                return RateLimitResult.ALLOWED;
+            }
+
+            long taken = acquire(clientKey, limitType, capacity, Math.min(leaseTokens, capacity), now);
+            if (taken < 0) {
+                long waitMillis = -taken;
+                lease.tokens = 0;
+                lease.blockedUntil = now + waitMillis;
+                return RateLimitResult.rejected(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+            }
+            lease.tokens = taken - 1;
+            lease.expiresAt = now + leaseTtlMillis;
+            return RateLimitResult.ALLOWED;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    /** 1분마다 만료된 로컬 임대 정리 */
+    @Scheduled(fixedRate = 60_000)
+    public void evictExpiredLeases() {
+        long now = System.currentTimeMillis();
+        leases.values().removeIf(lease -> now >= lease.expiresAt && now >= lease.blockedUntil);
+    }
+
+    /** 10분마다 오래 안 쓴 버킷 행 삭제 (어느 인스턴스가 지워도 결과는 같음) */
+    @Scheduled(fixedRate = 600_000)
+    public void deleteIdleBuckets() {
+        int deleted = jdbcTemplate.update("DELETE FROM rate_limit_bucket WHERE refilled_at < ?",
+                System.currentTimeMillis() - idleTtlMillis);
+        if (deleted > 0) {
+            log.debug("[RateLimit] 유휴 버킷 {}건 삭제", deleted);
+        }
+    }
+
+    /** 이 인스턴스가 들고 있는 임대 수 (모니터링용) */
+    public int leaseCount() {
+        return leases.size();
+    }
+
+    // ========== Private 메서드 ==========
+
+    /**
+     * 임대 맵이 상한일 때 만료된 임대 정리 (1초에 한 번만, 나머지 호출은 바로 반환).
+     *
+     * @return 새 임대를 만들 자리가 있으면 true
+     */
+    private boolean evictAtCapacity() {
+        long now = System.currentTimeMillis();
+        long last = capEvictedAt.get();
+        if (now - last >= CAP_EVICTION_INTERVAL_MILLIS && capEvictedAt.compareAndSet(last, now)) {
+            evictExpiredLeases();
+        }
+        return leases.size() < maxClients;
+    }
+
+    /** 임대 없이 공유 버킷에서 1개만 차감 (임대 맵이 가득 찼을 때) */
+    private RateLimitResult consumeWithoutLease(String clientKey, String limitType, long capacity) {
+        long taken = acquire(clientKey, limitType, capacity, 1, System.currentTimeMillis());
+        return taken < 0 ? RateLimitResult.rejected(TimeUnit.MILLISECONDS.toNanos(-taken)) : RateLimitResult.ALLOWED;
+    }
+
+    /**
+     * 공유 버킷에서 최대 want개 토큰을 가져온다 (CAS).
+     *
+     * @return 가져온 토큰 수(1 이상), 토큰이 없으면 -(다음 토큰까지 남은 밀리초)
+     */
+    private long acquire(String clientKey, String limitType, long capacity, long want, long now) {
+        for (int attempt = 0; attempt < MAX_CAS_ATTEMPTS; attempt++) {
+            List<BucketRow> rows = jdbcTemplate.query(
+                    "SELECT tokens, refilled_at, version FROM rate_limit_bucket WHERE client_key = ? AND limit_type = ?",
+                    (rs, rowNum) -> new BucketRow(rs.getDouble(1), rs.getLong(2), rs.getLong(3)),
+                    clientKey, limitType);
+
+            if (rows.isEmpty()) {
+                // 첫 요청: 가득 찬 버킷에서 바로 가져감. 동시에 다른 인스턴스가 만들었으면 재시도
+                int inserted = jdbcTemplate.update(
+                        "INSERT INTO rate_limit_bucket (client_key, limit_type, tokens, refilled_at, version) " +
+                                "VALUES (?, ?, ?, ?, 0) ON CONFLICT (client_key, limit_type) DO NOTHING",
+                        clientKey, limitType, (double) (capacity - want), now);
+                if (inserted == 1) {
+                    return want;
+                }
+                continue;
+            }
+
+            BucketRow row = rows.get(0);
+            long refilledAt = Math.max(now, row.refilledAt);
+            double available = Math.min(capacity,
+                    row.tokens + (double) (refilledAt - row.refilledAt) * capacity / MILLIS_PER_MINUTE);
+            if (available < 1) {
+                return -Math.max(1, (long) Math.ceil((1 - available) * MILLIS_PER_MINUTE / capacity));
+            }
+
+            long taken = Math.min(want, (long) available);
+            int updated = jdbcTemplate.update(
+                    "UPDATE rate_limit_bucket SET tokens = ?, refilled_at = ?, version = version + 1 " +
+                            "WHERE client_key = ? AND limit_type = ? AND version = ?",
+                    available - taken, refilledAt, clientKey, limitType, row.version);
+            if (updated == 1) {
+                return taken;
+            }
+        }
+        // 같은 IP의 요청이 여러 인스턴스에서 계속 겹침 → 폭주로 보고 잠시 거절
+        log.debug("[RateLimit] CAS 경합으로 거절 - client={}, type={}", clientKey, limitType);
+        return -1000;
+    }
+
+    /** rate_limit_bucket 행 */
+    private static final class BucketRow {
+        private final double tokens;
+        private final long refilledAt;
+        private final long version;
+
+        private BucketRow(double tokens, long refilledAt, long version) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+            this.version = version;
+        }
+    }
+
+    /** 이 인스턴스가 임대한 토큰 */
+    private static final class Lease {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long tokens;
+        private long expiresAt;
+        private long blockedUntil;
+    }
+}
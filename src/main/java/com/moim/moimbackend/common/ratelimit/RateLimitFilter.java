@@ -0,0 +1,99 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IP별 요청 횟수 제한 필터.
+ *
+ * /api/** 요청만 대상. 읽기(GET/HEAD, 폴링)와 쓰기(참여/투표/생성/확정 등)는 한도가 따로다.
+ * - 기본: 읽기 120회/분 (5초 폴링 2종 = 24회/분을 넉넉히 허용), 쓰기 30회/분
+ * - 초과 시 429 + Retry-After(초) + 공통 에러 형식(JSON)
+ *
+ * 버킷 저장소는 moim.rate-limit.store로 선택 (RateLimitStore).
+ *
+ * 서블릿 필터라 DispatcherServlet보다 먼저 실행 → 거절된 요청은 컨트롤러/DB까지 가지 않는다.
+ *
+ * 클라이언트 IP는 getRemoteAddr() 기준.
+ * 로드밸런서 뒤에서는 server.forward-headers-strategy=native(또는 framework)로
+ * 신뢰하는 프록시의 X-Forwarded-For가 반영되게 한다 (헤더를 직접 읽으면 위조 가능).
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitStore rateLimitStore;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+
+    public RateLimitFilter(RateLimitStore rateLimitStore,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${moim.rate-limit.enabled:true}") boolean enabled) {
+        this.rateLimitStore = rateLimitStore;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.readRejected = meterRegistry.counter("moim.rate-limit.rejected", "type", "read");
+        this.writeRejected = meterRegistry.counter("moim.rate-limit.rejected", "type", "write");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflight는 브라우저가 자동으로 보내므로 세지 않음
+        return !enabled
+                || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String method = request.getMethod();
+        boolean write = !"GET".equals(method) && !"HEAD".equals(method);
+
+        RateLimitResult result = rateLimitStore.tryConsume(request.getRemoteAddr(), write);
+        if (result.isAllowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        (write ? writeRejected : readRejected).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(result.getNanosToWait() + 999_999_999));
+        log.debug("[RateLimit] 거절 - ip={}, {} {}, retryAfter={}s",
+                request.getRemoteAddr(), method, request.getRequestURI(), retryAfterSeconds);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", ErrorCode.RATE_LIMITED.name());
+        body.put("message", ErrorCode.RATE_LIMITED.getMessage());
+        body.put("timestamp", Instant.now().toString());
+
+        response.setStatus(ErrorCode.RATE_LIMITED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,25 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 판정 결과.
+ * 거절이면 nanosToWait = 다음 토큰이 생길 때까지 남은 시간 (Retry-After 계산용).
+ */
+@Getter
+public final class RateLimitResult {
+
+    public static final RateLimitResult ALLOWED = new RateLimitResult(true, 0);
+
+    private final boolean allowed;
+    private final long nanosToWait;
+
+    private RateLimitResult(boolean allowed, long nanosToWait) {
+        this.allowed = allowed;
+        this.nanosToWait = nanosToWait;
+    }
+
+    public static RateLimitResult rejected(long nanosToWait) {
+        return new RateLimitResult(false, nanosToWait);
+    }
+}
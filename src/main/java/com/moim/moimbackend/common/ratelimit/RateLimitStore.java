@@ -0,0 +1,19 @@
+package com.moim.moimbackend.common.ratelimit;
+
+/**
+ * 클라이언트별 요청 한도 저장소.
+ *
+ * moim.rate-limit.store로 구현 선택:
+ * - memory (기본): InMemoryRateLimitStore, 인스턴스별 카운트
+ * - postgres: PostgresRateLimitStore, 여러 인스턴스가 DB의 버킷을 공유
+ */
+public interface RateLimitStore {
+
+    /**
+     * 요청 1건만큼 토큰 차감 시도.
+     *
+     * @param clientKey 클라이언트 식별자 (IP)
+     * @param write     쓰기 요청 여부 (읽기/쓰기 한도가 별도)
+     */
+    RateLimitResult tryConsume(String clientKey, boolean write);
+}
@@ -3,9 +3,9 @@ package com.moim.moimbackend.common.security;
 import lombok.extern.slf4j.Slf4j;
 
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.HexFormat;
 import java.util.UUID;
 
 /**
@@ -20,10 +20,24 @@ import java.util.UUID;
  * SHA-256을 쓰는 이유:
  * - bcrypt는 의도적으로 느려서(비밀번호용), 매 API 요청마다 쓰기엔 부담
  * - 토큰은 UUID 기반이라 충분히 랜덤 → SHA-256으로도 안전
+ * <p>
+ * 요청마다 호출되므로 작업 공간(MessageDigest + 버퍼)을 풀에서 빌려 재사용한다 (WorkspacePool).
+ * ThreadLocal이 아닌 이유: 가상 스레드 모드에서는 요청마다 스레드가 새로 생겨 재사용되지 않는다.
+ * - MessageDigest.getInstance()는 매번 Provider 탐색 + 객체 생성
+ * - ASCII 토큰은 버퍼에 직접 인코딩 (getBytes 배열 생성 없음)
+ * - matches()는 저장된 hex를 바이트로 풀어 고정 시간 비교 → 문자열 생성 없이 끝남
+ * (측정: src/jmh TokenHashBenchmark)
  */
 @Slf4j
 public class TokenHashUtil {
 
+    private static final int HASH_BYTES = 32;
+    /** 발급 토큰은 100자 미만 → 이보다 긴 입력은 버퍼를 키우지 않고 일반 경로로 처리 */
+    private static final int MAX_BUFFERED_LENGTH = 128;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final WorkspacePool<Workspace> WORKSPACES = new WorkspacePool<>(Workspace::new);
+
     /**
      * 새 토큰 생성 (UUID v4 기반).
      * 하이픈 포함 36자리 문자열.
@@ -37,18 +51,24 @@ public class TokenHashUtil {
      * 결과: 64자리 hex 문자열 (예: "a1b2c3d4...")
      */
     public static String hash(String token) {
+        Workspace ws = WORKSPACES.borrow();
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hashBytes);
-        } catch (NoSuchAlgorithmException e) {
-            // SHA-256은 모든 JVM에서 지원하므로 사실상 발생하지 않음
-            throw new RuntimeException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            ws.digest(token);
+            char[] hex = ws.hex;
+            for (int i = 0; i < HASH_BYTES; i++) {
+                int b = ws.hash[i] & 0xff;
+                hex[i * 2] = HEX_DIGITS[b >>> 4];
+                hex[i * 2 + 1] = HEX_DIGITS[b & 0x0f];
+            }
+            return new String(hex);
+        } finally {
+            WORKSPACES.release(ws);
         }
     }
 
     /**
      * 원본 토큰과 해시값 비교.
+     * 바이트 단위 고정 시간 비교라 응답 시간으로 일치 길이를 알아낼 수 없다.
      *
      * @param rawToken  클라이언트에서 받은 원본 토큰
      * @param hashedToken DB에 저장된 SHA-256 해시된 토큰
@@ -58,8 +78,113 @@ public class TokenHashUtil {
         if (rawToken == null || hashedToken == null) {
             return false; // 하나라도 null이면 false 반환
         }
-        // 원본 토큰을 해시화한 값과 저장된 해시 값을 비교
-        String hashedRawToken = hash(rawToken); // hash는 기존에 구현된 메서드
-        return hashedRawToken.equals(hashedToken);
+        Workspace ws = WORKSPACES.borrow();
+        try {
+            if (!decodeHex(hashedToken, ws.expected)) {
+                return false;  // hash() 형식이 아닌 값은 어떤 토큰과도 일치할 수 없음
+            }
+            ws.digest(rawToken);
+            return MessageDigest.isEqual(ws.hash, ws.expected);
+        } finally {
+            WORKSPACES.release(ws);
+        }
+    }
+
+    /**
+     * 원본 토큰과 32바이트 해시 비교 (해시를 이미 바이트로 가진 경우, 예: GatheringRefCache).
+     * hex 문자열을 만들었다가 다시 푸는 과정 없이 바로 고정 시간 비교.
+     */
+    public static boolean matches(String rawToken, byte[] hash) {
+        if (rawToken == null || hash == null || hash.length != HASH_BYTES) {
+            return false;
+        }
+        Workspace ws = WORKSPACES.borrow();
+        try {
+            ws.digest(rawToken);
+            return MessageDigest.isEqual(ws.hash, hash);
+        } finally {
+            WORKSPACES.release(ws);
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    /**
+     * 64자리 hex → 32바이트, 형식이 다르면 false.
+     * hash()의 출력 형식(ASCII 소문자 hex)만 허용 → 예전 문자열 equals 비교와 같은 결과
+     * (Character.digit은 대문자, 전각 숫자 등 다른 유니코드 숫자도 받아들임).
+     */
+    private static boolean decodeHex(String hex, byte[] out) {
+        if (hex.length() != HASH_BYTES * 2) {
+            return false;
+        }
+        for (int i = 0; i < HASH_BYTES; i++) {
+            int hi = hexValue(hex.charAt(i * 2));
+            int lo = hexValue(hex.charAt(i * 2 + 1));
+            if (hi < 0 || lo < 0) {
+                return false;
+            }
+            out[i] = (byte) ((hi << 4) | lo);
+        }
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    /** 해시 작업 공간 (MessageDigest는 thread-safe가 아님 → 한 번에 한 스레드만 사용) */
+    private static final class Workspace {
+        private final MessageDigest sha256;
+        private final byte[] input = new byte[MAX_BUFFERED_LENGTH];
+        private final byte[] hash = new byte[HASH_BYTES];
+        private final byte[] expected = new byte[HASH_BYTES];
+        private final char[] hex = new char[HASH_BYTES * 2];
+
+        private Workspace() {
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                // SHA-256은 모든 JVM에서 지원하므로 사실상 발생하지 않음
+                throw new RuntimeException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+
+        /** token의 SHA-256을 hash 버퍼에 기록 */
+        private void digest(String token) {
+            int length = token.length();
+            if (length <= MAX_BUFFERED_LENGTH && encodeAscii(token, length)) {
+                sha256.update(input, 0, length);
+            } else {
+                // 발급 형식이 아닌 토큰(너무 길거나 비 ASCII)은 표준 UTF-8 인코딩으로 처리
+                sha256.update(token.getBytes(StandardCharsets.UTF_8));
+            }
+            finish();
+        }
+
+        private boolean encodeAscii(String token, int length) {
+            for (int i = 0; i < length; i++) {
+                char c = token.charAt(i);
+                if (c >= 0x80) {
+                    return false;
+                }
+                input[i] = (byte) c;
+            }
+            return true;
+        }
+
+        private void finish() {
+            try {
+                sha256.digest(hash, 0, HASH_BYTES);  // 결과 배열을 새로 만들지 않고 기존 버퍼에 기록, 다이제스트는 초기화됨
+            } catch (DigestException e) {
+                throw new IllegalStateException("SHA-256 결과 기록 실패", e);
+            }
+        }
     }
 }
@@ -0,0 +1,200 @@
+package com.moim.moimbackend.common.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HMAC 서명 토큰 발급/검증.
+ *
+ * 형식: {type}1.{gatheringId}.{subjectId}.{keyId}.{nonce}.{mac}
+ * - type: s(참여자 세션) / a(주최자 관리)
+ * - subjectId: 참여자 ID (관리 토큰은 모임 ID)
+ * - nonce: 128비트 난수. DB에는 TokenHashUtil.hash(nonce)만 저장
+ * - mac: 앞부분 전체에 대한 HMAC-SHA256 (base64url)
+ *
+ * 검증은 서명만 확인하는 CPU 작업 → 투표 변경마다 나가던 토큰 해시 조회가 없어진다.
+ *
+ * 키 교체: moim.token.signing-keys에 "keyId:base64키"를 여러 개 두고,
+ * 새 토큰은 active-key-id로 서명한다. 예전 키는 목록에 남겨두면 계속 검증된다.
+ *
+ * 서명으로 확인할 수 없는 토큰(기존 UUID 토큰, 목록에서 빠진 키)은
+ * 호출 측에서 fallbackSecret()의 해시를 DB와 비교한다 (nonce를 알아야 통과하므로 안전).
+ */
+@Slf4j
+@Component
+public class TokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "1";
+    private static final int NONCE_BYTES = 16;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64 = Base64.getDecoder();
+
+    /** 토큰 종류 (서로 다른 종류로 재사용 방지) */
+    public enum TokenType {
+        SESSION("s"), ADMIN("a");
+
+        private final String prefix;
+
+        TokenType(String prefix) {
+            this.prefix = prefix + VERSION;
+        }
+    }
+
+    /**
+     * keyId → Mac 풀 (Mac은 thread-safe가 아니고 getInstance/init 비용이 큼).
+     * ThreadLocal은 가상 스레드 모드에서 요청마다 새로 만들어지므로 풀로 재사용한다.
+     */
+    private final Map<String, WorkspacePool<Mac>> keys = new LinkedHashMap<>();
+    private final String activeKeyId;
+
+    public TokenSigner(@Value("${moim.token.signing-keys:}") String signingKeys,
+                       @Value("${moim.token.active-key-id:}") String activeKeyId) {
+        for (String entry : signingKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalStateException("moim.token.signing-keys 형식 오류 (keyId:base64키)");
+            }
+            addKey(entry.substring(0, separator).trim(), BASE64.decode(entry.substring(separator + 1).trim()));
+        }
+
+        if (keys.isEmpty()) {
+            // 설정이 없으면 임시 키 → 재시작 후에는 서명 검증 대신 DB 해시 비교로 동작
+            log.warn("[토큰] 서명 키 미설정 - 임시 키 사용 (moim.token.signing-keys 설정 필요)");
+            byte[] ephemeral = new byte[32];
+            RANDOM.nextBytes(ephemeral);
+            addKey("tmp", ephemeral);
+            this.activeKeyId = "tmp";
+        } else {
+            this.activeKeyId = activeKeyId.isBlank() ? keys.keySet().iterator().next() : activeKeyId;
+            if (!keys.containsKey(this.activeKeyId)) {
+                throw new IllegalStateException("moim.token.active-key-id가 signing-keys에 없습니다: " + this.activeKeyId);
+            }
+        }
+    }
+
+    /** 새 nonce (토큰의 비밀 부분, 해시를 DB에 저장) */
+    public String newNonce() {
+        byte[] bytes = new byte[NONCE_BYTES];
+        RANDOM.nextBytes(bytes);
+        return BASE64URL.encodeToString(bytes);
+    }
+
+    /** 서명 토큰 발급 (활성 키 사용) */
+    public String issue(TokenType type, long gatheringId, long subjectId, String nonce) {
+        String payload = type.prefix + "." + gatheringId + "." + subjectId + "." + activeKeyId + "." + nonce;
+        return payload + "." + BASE64URL.encodeToString(mac(activeKeyId, payload));
+    }
+
+    /**
+     * 서명 검증.
+     *
+     * @return 검증된 토큰 정보, 서명 토큰이 아니거나 키를 모르거나 서명이 틀리면 null
+     */
+    public VerifiedToken verify(String token, TokenType type) {
+        if (token == null || !token.startsWith(type.prefix + ".")) {
+            return null;
+        }
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 6) {
+            return null;
+        }
+        String keyId = parts[3];
+        if (!keys.containsKey(keyId)) {
+            return null;
+        }
+
+        int macStart = token.lastIndexOf('.');
+        byte[] expected = mac(keyId, token.substring(0, macStart));
+        byte[] actual;
+        try {
+            actual = Base64.getUrlDecoder().decode(parts[5]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+
+        try {
+            return new VerifiedToken(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * DB 비교용 비밀 값.
+     * 서명 토큰이면 nonce, 그 외(기존 UUID 토큰)는 토큰 전체.
+     */
+    public String fallbackSecret(String token, TokenType type) {
+        if (token.startsWith(type.prefix + ".")) {
+            String[] parts = token.split("\\.", -1);
+            if (parts.length == 6) {
+                return parts[4];
+            }
+        }
+        return token;
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void addKey(String keyId, byte[] secret) {
+        if (keyId.isEmpty() || keyId.contains(".")) {
+            throw new IllegalStateException("토큰 키 ID에는 '.'을 쓸 수 없습니다: " + keyId);
+        }
+        if (secret.length < 32) {
+            throw new IllegalStateException("토큰 서명 키는 32바이트 이상이어야 합니다: " + keyId);
+        }
+        SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+        keys.put(keyId, new WorkspacePool<>(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 초기화 실패", e);
+            }
+        }));
+    }
+
+    private byte[] mac(String keyId, String payload) {
+        // doFinal 후 Mac은 같은 키로 재사용 가능한 상태로 초기화된다
+        WorkspacePool<Mac> pool = keys.get(keyId);
+        Mac mac = pool.borrow();
+        try {
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            pool.release(mac);
+        }
+    }
+
+    /** 서명이 확인된 토큰의 내용 */
+    @Getter
+    public static class VerifiedToken {
+        private final long gatheringId;
+        private final long subjectId;
+
+        VerifiedToken(long gatheringId, long subjectId) {
+            this.gatheringId = gatheringId;
+            this.subjectId = subjectId;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.moim.moimbackend.common.security;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * thread-safe가 아닌 작업 객체(MessageDigest, Mac + 버퍼) 재사용 풀.
+ *
+ * ThreadLocal은 스레드마다 객체를 하나씩 만든다. 가상 스레드는 요청마다 새로 생기므로
+ * 재사용이 전혀 되지 않고 생성 비용(getInstance/init)만 남는다 (스레드 수만큼 객체도 쌓임).
+ * 대신 CPU 수에 비례한 슬롯 배열에 객체를 두고, 빌릴 때 슬롯을 비우고 반납할 때 채운다.
+ * - 락 없음: 슬롯 단위 CAS, 빈 슬롯뿐이면 새로 만들고 반납할 자리가 없으면 버린다
+ * - 시작 슬롯은 스레드 해시로 골라서 동시에 빌리는 스레드끼리 같은 슬롯을 다투지 않게 한다
+ */
+final class WorkspacePool<T> {
+
+    /** 시작 슬롯에서 이어서 확인할 슬롯 수 */
+    private static final int PROBES = 4;
+
+    private final Supplier<T> factory;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    WorkspacePool(Supplier<T> factory) {
+        this.factory = factory;
+        int size = Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors() * 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /** 풀에서 하나 꺼냄 (없으면 새로 생성), 사용 후 release로 반납 */
+    T borrow() {
+        int start = start();
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (start + i) & mask;
+            if (slots.get(slot) != null) {
+                T item = slots.getAndSet(slot, null);
+                if (item != null) {
+                    return item;
+                }
+            }
+        }
+        return factory.get();
+    }
+
+    /** 반납 (빈 슬롯이 없으면 버림 → 풀 크기는 슬롯 수로 제한) */
+    void release(T item) {
+        int start = start();
+        for (int i = 0; i < PROBES; i++) {
+            if (slots.compareAndSet((start + i) & mask, null, item)) {
+                return;
+            }
+        }
+    }
+
+    private int start() {
+        int h = System.identityHashCode(Thread.currentThread());
+        return h ^ (h >>> 16);
+    }
+}
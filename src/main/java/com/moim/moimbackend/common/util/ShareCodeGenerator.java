@@ -3,6 +3,7 @@ package com.moim.moimbackend.common.util;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 /**
  * 초대 링크용 공유 코드 생성기.
@@ -14,6 +15,10 @@ import java.security.SecureRandom;
  * - SecureRandom은 암호학적으로 안전한 난수 생성
  *
  * 6자리 영숫자 = 62^6 = 약 568억 가지 조합 → MVP 규모에서 충돌 확률 무시 가능
+ *
+ * 새 모임의 코드는 ShareCodeAllocator가 시퀀스 값을 순열(ShareCodePermutation)한 뒤
+ * encode()로 만든다 (중복 체크 불필요). generate()는 운영 코드에서 호출하지 않고,
+ * 무작위 코드가 필요한 테스트(GatheringRefCacheTest)와 벤치마크(ShareCodeBenchmark)용으로만 남겨 둔다.
  */
 @Slf4j
 public class ShareCodeGenerator {
@@ -22,16 +27,75 @@ public class ShareCodeGenerator {
     private static final int CODE_LENGTH = 6;
     private static final SecureRandom RANDOM = new SecureRandom();
 
+    /** 문자 → CHARACTERS 인덱스 (해당 없으면 -1) */
+    private static final byte[] CHAR_INDEX = new byte[128];
+
+    static {
+        Arrays.fill(CHAR_INDEX, (byte) -1);
+        for (int i = 0; i < CHARACTERS.length(); i++) {
+            CHAR_INDEX[CHARACTERS.charAt(i)] = (byte) i;
+        }
+    }
+
     /**
-     * 6자리 랜덤 영숫자 코드 생성.
-     * DB에서 중복 체크는 Service 레이어에서 수행한다.
+     * 6자리 랜덤 영숫자 코드 생성 (테스트/벤치마크 전용).
+     * 중복 체크를 하지 않으므로 새 모임의 코드에는 쓰지 않는다 (ShareCodeAllocator 사용).
+     *
+     * nextInt(62)를 글자마다 부르지 않고 nextLong() 1회의 64비트를 6비트씩 잘라 쓴다.
+     * 62, 63은 버려서(rejection sampling) 문자 분포를 균등하게 유지 → 평균 1.01회 호출.
+     * StringBuilder 없이 char[]에 바로 채운다.
      */
     public static String generate(){
-        StringBuilder sb = new StringBuilder(CODE_LENGTH);
-        for(int i = 0; i < CODE_LENGTH; i++){
-            sb.append(CHARACTERS.charAt(RANDOM.nextInt(CHARACTERS.length())));
+        char[] code = new char[CODE_LENGTH];
+        int filled = 0;
+        while (filled < CODE_LENGTH) {
+            long bits = RANDOM.nextLong();
+            for (int chunk = 0; chunk < Long.SIZE / 6 && filled < CODE_LENGTH; chunk++, bits >>>= 6) {
+                int index = (int) (bits & 0x3F);
+                if (index < CHARACTERS.length()) {
+                    code[filled++] = CHARACTERS.charAt(index);
+                }
+            }
+        }
+        String shareCode = new String(code);
+        log.debug("[ShareCode] 공유 코드 생성: {}", shareCode);
+        return shareCode;    }
+
+    /**
+     * 6자리 코드를 62진수로 해석해 long 하나로 압축 (0 ~ 62^6-1, 약 36비트).
+     * 문자열 대신 원시 long 키로 캐시를 구성할 때 사용한다.
+     *
+     * @return 압축 값, 이 생성기 형식(6자리 영숫자)이 아니면 -1
+     */
+    public static long pack(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return -1;
+        }
+        long packed = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            char c = code.charAt(i);
+            int index = c < 128 ? CHAR_INDEX[c] : -1;
+            if (index < 0) {
+                return -1;
+            }
+            packed = packed * CHARACTERS.length() + index;
+        }
+        return packed;
+    }
+
+    /**
+     * pack()의 역변환: 0 ~ 62^6-1 값을 6자리 영숫자 코드로 변환.
+     * pack(encode(v)) == v
+     */
+    public static String encode(long packed) {
+        if (packed < 0 || packed >= ShareCodePermutation.DOMAIN) {
+            throw new IllegalArgumentException("공유 코드 범위를 벗어난 값: " + packed);
+        }
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARACTERS.charAt((int) (packed % CHARACTERS.length()));
+            packed /= CHARACTERS.length();
         }
-        String code = sb.toString();
-        log.debug("[ShareCode] 공유 코드 생성: {}", code);
-        return code;    }
+        return new String(code);
+    }
 }
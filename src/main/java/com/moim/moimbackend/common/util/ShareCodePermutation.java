@@ -0,0 +1,86 @@
+package com.moim.moimbackend.common.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 0 ~ 62^6-1 범위의 키 기반 순열 (format-preserving).
+ *
+ * 시퀀스 값(0, 1, 2, ...)을 같은 범위의 다른 값으로 1:1 대응시킨다.
+ * → 입력이 겹치지 않으면 결과도 겹치지 않으므로 중복 체크가 필요 없고,
+ *   키를 모르면 연속된 시퀀스 값의 결과가 무작위처럼 보인다.
+ *
+ * 구조: 62^6 = 238328^2 이므로 값을 (상위, 하위) 두 자리 238328진수로 나눈 균형 Feistel 네트워크.
+ * - 라운드: (L, R) → (R, (L + F(R, k_i)) mod 238328)
+ * - F가 무엇이든 라운드마다 역변환이 있으므로 전체가 전단사 (cycle walking 불필요)
+ * - 라운드 키 8개는 설정 키의 SHA-512에서 유도
+ *
+ * 암호학적 PRP 용도가 아니라 "추측하기 어려운 고유 코드" 용도. 키는 운영 중 바꾸면 안 된다
+ * (다른 키의 순열끼리는 결과가 겹칠 수 있음).
+ */
+public final class ShareCodePermutation {
+
+    /** 62^3 (한쪽 절반의 크기) */
+    private static final long HALF = 62L * 62 * 62;
+    /** 62^6 (전체 공간 크기) */
+    public static final long DOMAIN = HALF * HALF;
+
+    private static final int ROUNDS = 8;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public ShareCodePermutation(byte[] key) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-512").digest(key));
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = digest.getLong();
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-512 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /** value(0 ~ DOMAIN-1)를 같은 범위의 값으로 변환 */
+    public long permute(long value) {
+        checkRange(value);
+        long left = value / HALF;
+        long right = value % HALF;
+        for (int i = 0; i < ROUNDS; i++) {
+            long next = Math.floorMod(left + round(right, roundKeys[i]), HALF);
+            left = right;
+            right = next;
+        }
+        return left * HALF + right;
+    }
+
+    /** permute의 역변환 */
+    public long unpermute(long value) {
+        checkRange(value);
+        long left = value / HALF;
+        long right = value % HALF;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            long previous = Math.floorMod(right - round(left, roundKeys[i]), HALF);
+            right = left;
+            left = previous;
+        }
+        return left * HALF + right;
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 라운드 함수: 키를 섞은 64비트 mix (splitmix64 finalizer) */
+    private static long round(long half, long roundKey) {
+        long h = half ^ roundKey;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return Math.floorMod(h, HALF);
+    }
+
+    private static void checkRange(long value) {
+        if (value < 0 || value >= DOMAIN) {
+            throw new IllegalArgumentException("공유 코드 범위를 벗어난 값: " + value);
+        }
+    }
+}
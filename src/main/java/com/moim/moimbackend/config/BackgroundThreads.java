@@ -0,0 +1,67 @@
+package com.moim.moimbackend.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션이 직접 만드는 백그라운드 스레드 (투표 배치 writer, SSE 전송, 마감 타이머/작업자).
+ *
+ * Spring Boot의 spring.threads.virtual.enabled는 Tomcat/@Scheduled/@Async만 전환하므로,
+ * 직접 만든 스레드도 같은 모드를 따르도록 여기서 ThreadFactory를 고른다.
+ * - 가상 스레드 모드(Threading.VIRTUAL, Java 21): VirtualThreadTaskExecutor의 가상 스레드 팩토리
+ * - 그 외: 이름 붙은 데몬 플랫폼 스레드
+ *
+ * 기본 툴체인이 Java 17이라 Thread.ofVirtual()을 직접 호출할 수 없다.
+ * VirtualThreadTaskExecutor는 Java 21에서만 생성되므로 17 빌드에서도 그대로 컴파일된다.
+ */
+@Component
+public class BackgroundThreads {
+
+    private final boolean virtual;
+
+    public BackgroundThreads(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /** 이름이 prefix + 번호인 스레드 팩토리 */
+    public ThreadFactory factory(String prefix) {
+        if (virtual) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /** 단일 전용 스레드 (시작은 호출 측에서) */
+    public Thread newThread(String name, Runnable task) {
+        Thread thread = factory(name + "-").newThread(task);
+        thread.setName(name);
+        return thread;
+    }
+
+    /**
+     * 작업마다 새 스레드로 실행하는 Executor (가상 스레드 모드 전용, 스레드 풀 상한/큐 없음).
+     * 플랫폼 스레드 모드에서는 호출 측이 크기가 정해진 풀을 써야 한다.
+     */
+    public Executor perTaskExecutor(String prefix) {
+        if (!virtual) {
+            throw new IllegalStateException("가상 스레드 모드에서만 작업마다 스레드를 만든다: " + prefix);
+        }
+        return new SimpleAsyncTaskExecutor(factory(prefix));
+    }
+}
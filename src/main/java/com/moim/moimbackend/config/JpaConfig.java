@@ -0,0 +1,57 @@
+package com.moim.moimbackend.config;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+/**
+ * Hibernate 설정 (JDBC 배치 + 2차 캐시).
+ *
+ * [JDBC 배치]
+ * 엔티티 ID가 pooled 시퀀스라 INSERT 전에 ID가 정해지므로 여러 INSERT를 한 번에 보낼 수 있다.
+ * - batch_size: 한 번에 묶어 보낼 최대 문장 수 (후보/투표 최대 개수를 넉넉히 커버)
+ * - order_inserts / order_updates: 엔티티 타입별로 정렬해야 같은 SQL끼리 묶인다
+ *   (모임 → 시간 후보 → 장소 후보가 섞여 있으면 배치가 끊김)
+ *
+ * PostgreSQL 드라이버의 reWriteBatchedInserts=true까지 켜면
+ * 배치가 multi-row INSERT 한 문장으로 바뀌어 왕복이 더 줄어든다 (datasource URL 옵션).
+ *
+ * [2차 캐시]
+ * 시간/장소 후보와 모임의 후보 컬렉션만 @Cache(READ_ONLY)로 지정 (ENABLE_SELECTIVE 기본값).
+ * 로컬 Ehcache(JCache)를 쓰고, region별 크기 제한은 ehcache.xml에 둔다.
+ * 통계(generate_statistics)를 켜면 hibernate-micrometer가 적중/미스를 메트릭으로 등록한다.
+ */
+@Configuration
+public class JpaConfig {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final String EHCACHE_CONFIG = "ehcache.xml";
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() throws IOException, URISyntaxException {
+        // "classpath:" 접두사는 JCache 구현마다 해석이 달라서, 실제 URI(jar 내부 포함)로 풀어서 넘긴다
+        String configUri = new ClassPathResource(EHCACHE_CONFIG).getURL().toURI().toString();
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.PROVIDER, "org.ehcache.jsr107.EhcacheCachingProvider");
+            properties.put(ConfigSettings.CONFIG_URI, configUri);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
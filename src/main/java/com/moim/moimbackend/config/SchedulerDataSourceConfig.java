@@ -0,0 +1,138 @@
+package com.moim.moimbackend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄러 전용 커넥션 풀 (bulkhead).
+ *
+ * 마감이 몰리면 (금요일 20시, 장애 복구 직후) 자동 확정 작업이 웹 풀 커넥션을 붙잡고
+ * 폴링 요청이 커넥션을 기다리게 된다. 스케줄러 작업은 별도의 작은 Hikari 풀에서만 커넥션을 얻는다.
+ *
+ * 구조:
+ * - spring.datasource로 만든 기본 풀은 그대로 두고, 같은 접속 정보로 작은 풀(moim-scheduler)을 하나 더 만든다
+ * - 둘을 라우팅 DataSource로 감싸서, runOnSchedulerPool() 안에서 얻는 커넥션만 스케줄러 풀로 보낸다
+ * - JPA/트랜잭션 설정은 그대로 (Hibernate가 커넥션을 얻는 시점에 현재 스레드 기준으로 고른다)
+ *
+ * 풀 크기(moim.scheduler.datasource.max-pool-size)를 지정하지 않으면 마감 작업자 수(moim.deadline.workers) + 2
+ * → 작업자마다 1개 + 정리 스캔 claim/타이머 refill용 여유. 작업자보다 작으면 작업자가 커넥션을 기다리며 논다.
+ * moim.scheduler.datasource.max-pool-size=0 이면 분리하지 않는다.
+ */
+@Slf4j
+@Configuration
+public class SchedulerDataSourceConfig {
+
+    private static final ThreadLocal<Boolean> SCHEDULER = new ThreadLocal<>();
+
+    /**
+     * 스케줄러 풀에서 작업 실행.
+     * 트랜잭션 시작(커넥션 획득) 전에 감싸야 한다.
+     */
+    public static <T> T callOnSchedulerPool(Supplier<T> task) {
+        if (Boolean.TRUE.equals(SCHEDULER.get())) {
+            return task.get();
+        }
+        SCHEDULER.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            SCHEDULER.remove();
+        }
+    }
+
+    public static void runOnSchedulerPool(Runnable task) {
+        callOnSchedulerPool(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 기본 Hikari 풀을 라우팅 DataSource로 교체.
+     * 초기화 이후(after) 단계에서 감싸므로 VirtualThreadConfig의 풀 크기 조정은 기본 풀에 먼저 적용된다.
+     */
+    @Bean
+    public static BeanPostProcessor schedulerDataSourceRouting(
+            @Value("${moim.scheduler.datasource.max-pool-size:-1}") int configuredPoolSize,
+            @Value("${moim.deadline.workers:4}") int workers,
+            @Value("${moim.scheduler.datasource.connection-timeout-millis:10000}") long connectionTimeoutMillis) {
+        int maxPoolSize = poolSize(configuredPoolSize, workers);
+        if (maxPoolSize > 0 && maxPoolSize < workers) {
+            log.warn("[스케줄러] 전용 커넥션 풀({})이 마감 작업자 수({})보다 작음 → 작업자가 커넥션을 기다림",
+                    maxPoolSize, workers);
+        }
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (maxPoolSize <= 0 || !"dataSource".equals(beanName) || !(bean instanceof HikariDataSource web)) {
+                    return bean;
+                }
+                HikariConfig config = new HikariConfig();
+                web.copyStateTo(config);
+                config.setPoolName("moim-scheduler");
+                config.setMaximumPoolSize(maxPoolSize);
+                config.setMinimumIdle(1);
+                // 스케줄러는 기다려도 되므로 웹 풀보다 길게 대기
+                config.setConnectionTimeout(connectionTimeoutMillis);
+                HikariDataSource scheduler = new HikariDataSource(config);
+                log.info("[스케줄러] 전용 커넥션 풀 크기={}", maxPoolSize);
+
+                RoutingDataSource routing = new RoutingDataSource(web, scheduler);
+                routing.afterPropertiesSet();
+                return routing;
+            }
+        };
+    }
+
+    /** 지정한 풀 크기, 지정하지 않았으면(음수) 작업자 수 + 2 */
+    static int poolSize(int configuredPoolSize, int workers) {
+        return configuredPoolSize < 0 ? workers + 2 : configuredPoolSize;
+    }
+
+    /** 현재 스레드가 스케줄러 작업 중이면 스케줄러 풀, 아니면 기본 풀 */
+    static class RoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+        private final HikariDataSource web;
+        private final HikariDataSource scheduler;
+
+        RoutingDataSource(HikariDataSource web, HikariDataSource scheduler) {
+            this.web = web;
+            this.scheduler = scheduler;
+            setTargetDataSources(Map.of(Boolean.TRUE, scheduler));
+            setDefaultTargetDataSource(web);
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return SCHEDULER.get();
+        }
+
+        /** 컨텍스트 종료 시 두 풀 모두 닫기 (Spring이 close()를 추론해서 호출) */
+        @Override
+        public void close() {
+            scheduler.close();
+            web.close();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            // Hikari 메트릭/헬스 체크는 기본 풀 기준
+            return iface.isInstance(web) ? iface.cast(web) : super.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(web) || super.isWrapperFor(iface);
+        }
+    }
+}
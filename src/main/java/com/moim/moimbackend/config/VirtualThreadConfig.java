@@ -0,0 +1,53 @@
+package com.moim.moimbackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 모드 설정.
+ *
+ * 활성화: spring.threads.virtual.enabled=true + Java 21 이상
+ * (./gradlew bootRun -PvirtualThreads 는 툴체인을 21로 올리고 이 속성을 켠다)
+ *
+ * Spring Boot가 이 속성 하나로 전환하는 것:
+ * - Tomcat 요청 처리: 요청마다 가상 스레드 (스레드 풀 상한 없음)
+ * - @Scheduled: SimpleAsyncTaskScheduler → 실행마다 가상 스레드
+ *   (기본 단일 스케줄러 스레드에서 DeadlineScheduler 두 작업이 서로 기다리던 문제도 사라짐)
+ * - @Async / applicationTaskExecutor: 가상 스레드
+ * 직접 만드는 스레드(투표 배치 writer, SSE 전송, 마감 타이머/작업자)는 BackgroundThreads가 같은 모드로 맞춘다.
+ *
+ * 요청 스레드 상한이 사라지면 동시 요청 수만큼 Hikari 대기열이 길어진다.
+ * DB가 실제로 처리할 수 있는 동시성은 커넥션 수로 정해지므로, 여기서 풀을 고정 크기로 만들고
+ * 커넥션 대기 시간을 짧게 줄여서 대기가 쌓이는 대신 빠르게 503(SERVER_BUSY)으로 거절한다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariVirtualThreadSizing(
+            @Value("${moim.datasource.virtual-threads.max-pool-size:0}") int maxPoolSize,
+            @Value("${moim.datasource.virtual-threads.connection-timeout-millis:2000}") long connectionTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    // 0이면 PostgreSQL 권장식 (코어 수 * 2 + 1), 스레드 수가 아니라 DB 처리량 기준
+                    int poolSize = maxPoolSize > 0 ? maxPoolSize : Runtime.getRuntime().availableProcessors() * 2 + 1;
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);  // 고정 크기: 몰릴 때 커넥션 생성 지연 없음
+                    dataSource.setConnectionTimeout(connectionTimeoutMillis);
+                    log.info("[가상 스레드] Hikari 풀 크기={}, 커넥션 대기={}ms", poolSize, connectionTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
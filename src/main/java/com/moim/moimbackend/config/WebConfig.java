@@ -20,8 +20,9 @@ public class WebConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")                    // /api로 시작하는 모든 경로
                 .allowedOrigins("http://localhost:3000")   // Vue 개발 서버
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")                       // 모든 헤더 허용 (X-Admin-Token 등)
+                .exposedHeaders("ETag")                    // 폴링 시 If-None-Match로 되돌려 보낼 수 있도록 노출
                 .allowCredentials(false)                    // 쿠키 미사용
                 .maxAge(3600);                             // preflight 캐시 1시간
     }
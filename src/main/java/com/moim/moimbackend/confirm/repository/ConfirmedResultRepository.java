@@ -9,6 +9,7 @@ import java.util.Optional;
  * 확정 결과 Repository.
  *
  * 모임당 최대 1건이므로 findByGatheringId가 핵심 쿼리.
+ * 중복 확정은 상태 전이(GatheringRepository.transitionStatus)에서 막는다 → INSERT 전 존재 확인 없음.
  */
 public interface ConfirmedResultRepository extends JpaRepository<ConfirmedResult, Long> {
 
@@ -20,13 +21,4 @@ public interface ConfirmedResultRepository extends JpaRepository<ConfirmedResult
      * - 없으면 → "아직 확정되지 않았습니다" 표시
      */
     Optional<ConfirmedResult> findByGatheringId(Long gatheringId);
-
-    /**
-     * 이미 확정 결과가 존재하는지 확인.
-     *
-     * 중복 확정 방지용.
-     * 스케줄러가 동시에 여러 번 실행되거나,
-     * 주최자가 확정 버튼을 빠르게 두 번 누르는 경우를 방어.
-     */
-    boolean existsByGatheringId(Long gatheringId);
 }
\ No newline at end of file
@@ -1,21 +1,30 @@
 package com.moim.moimbackend.confirm.scheduler;
 
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.config.SchedulerDataSourceConfig;
 import com.moim.moimbackend.confirm.service.ConfirmService;
-import com.moim.moimbackend.gathering.entity.Gathering;
 import com.moim.moimbackend.gathering.entity.GatheringStatus;
 import com.moim.moimbackend.gathering.repository.GatheringRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.List;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * 마감 처리 스케줄러.
+ * 마감 정리 스캔.
  *
- * 1분마다 실행되어 두 가지 작업을 수행:
+ * 정시 처리는 DeadlineTimer가 맡고, 이 스케줄러는 타이머가 놓친 모임을 주워 담는다.
+ * (다른 인스턴스가 만든 모임, 타이머 처리 실패, 재시작 직후 등)
+ * 기본 5분 주기 (moim.deadline.sweep-millis).
  *
  * 1) VOTING → 자동 확정
  *    마감 시각이 지났는데 아직 VOTING 상태인 모임을 찾아서 autoConfirm 호출.
@@ -24,49 +33,64 @@ import java.util.List;
  *    TIEBREAK 상태가 24시간 이상 지속된 모임을 찾아서 autoResolveTiebreak 호출.
  *    (deadline + 24h가 현재 시각보다 이전이면 24h 초과)
  *
- * @Scheduled(fixedRate): 이전 실행 시작 시점 기준 1분 간격.
- * fixedDelay는 이전 실행 완료 후 1분이므로, 처리 시간이 길어지면 간격이 벌어짐.
+ * 장애 복구 직후나 마감이 몰린 시각에는 밀린 건이 수천 건일 수 있다.
+ * - 대상을 (deadline, id) 순으로 한 묶음(moim.deadline.page-size, 기본 200)씩 claim하고
+ * - 묶음마다 DeadlineWorkers가 모임별 트랜잭션으로 병렬 처리한 뒤 다음 묶음을 claim한다
+ * - 조회/처리 모두 스케줄러 전용 커넥션 풀을 쓰므로 폴링 요청의 커넥션을 빼앗지 않는다
+ * 인스턴스가 여러 대면 claim(FOR UPDATE SKIP LOCKED)으로 밀린 모임을 나눠 가진다 → 중복 처리 없이 노드 수만큼 빨라진다.
+ *
+ * @Scheduled(fixedRate): 이전 실행 시작 시점 기준 간격.
+ * fixedDelay는 이전 실행 완료 후 간격이므로, 처리 시간이 길어지면 간격이 벌어짐.
  * fixedRate가 더 일관된 주기를 보장.
  *
+ * 스캔 자체는 전용 스레드(상태별 1개)에서 돈다.
+ * 밀린 건이 많으면 스캔이 몇 분씩 걸리는데, 공용 @Scheduled 스레드에서 돌리면
+ * 그동안 마감 타이머 refill, 요청 한도 정리 등 다른 주기 작업이 모두 밀린다.
+ * @Scheduled 메서드는 스캔을 넘기고 바로 반환하며, 같은 상태의 이전 스캔이 아직 진행 중이면 이번 주기는 건너뛴다.
+ *
  * 주의: @EnableScheduling이 메인 클래스에 있어야 동작.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DeadlineScheduler {
 
     private final GatheringRepository gatheringRepository;
-    private final ConfirmService confirmService;
+    private final DeadlineWorkers deadlineWorkers;
+    private final int pageSize;
+    private final ExecutorService sweeper;
 
-    /**
-     * 1분마다 실행: 마감 지난 VOTING 모임 자동 확정.
-     *
-     * 처리 중 개별 모임에서 에러가 발생해도 다음 모임은 계속 처리.
-     * try-catch로 감싸서 하나의 실패가 전체 스케줄러를 멈추지 않도록 함.
-     */
-    @Scheduled(fixedRate = 60_000)  // 60,000ms = 1분
-    public void processExpiredVoting() {
-        // 현재 시각 기준, 마감이 지난 VOTING 상태 모임을 모두 조회
-        List<Gathering> expired = gatheringRepository
-                .findByStatusAndDeadlineBefore(GatheringStatus.VOTING, Instant.now());
+    /** 상태별 스캔 진행 중 여부 (이전 스캔이 끝나기 전에는 새로 시작하지 않음) */
+    private final Map<GatheringStatus, AtomicBoolean> sweeping = new EnumMap<>(Map.of(
+            GatheringStatus.VOTING, new AtomicBoolean(),
+            GatheringStatus.TIEBREAK, new AtomicBoolean()));
 
-        if (expired.isEmpty()) return;
+    public DeadlineScheduler(GatheringRepository gatheringRepository,
+                             DeadlineWorkers deadlineWorkers,
+                             BackgroundThreads backgroundThreads,
+                             @Value("${moim.deadline.page-size:200}") int pageSize) {
+        this.gatheringRepository = gatheringRepository;
+        this.deadlineWorkers = deadlineWorkers;
+        this.pageSize = pageSize;
+        this.sweeper = Executors.newFixedThreadPool(sweeping.size(), backgroundThreads.factory("deadline-sweep-"));
+    }
 
-        log.info("[스케줄러] 마감 모임 {} 건 처리 시작", expired.size());
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
 
-        for (Gathering gathering : expired) {
-            try {
-                confirmService.autoConfirm(gathering);
-            } catch (Exception e) {
-                // 개별 모임 처리 실패 시 로그만 남기고 계속 진행
-                log.error("[스케줄러] 자동확정 실패 - shareCode={}, error={}",
-                        gathering.getShareCode(), e.getMessage(), e);
-            }
-        }
+    /**
+     * 마감 지난 VOTING 모임 자동 확정.
+     * 개별 모임의 실패는 DeadlineWorkers가 로그/메트릭으로 남기고 나머지는 계속 처리.
+     */
+    @Scheduled(fixedRateString = "${moim.deadline.sweep-millis:300000}")
+    public void processExpiredVoting() {
+        // 현재 시각 기준, 마감이 지난 VOTING 상태 모임
+        startSweep(GatheringStatus.VOTING, Instant.now());
     }
 
     /**
-     * 1분마다 실행: 24시간 초과된 TIEBREAK 모임 자동 해소.
+     * 24시간 초과된 TIEBREAK 모임 자동 해소.
      *
      * 판정 기준: deadline + 24시간 < 현재 시각
      * 즉, 원래 마감 시각으로부터 24시간이 지나면 자동 해소.
@@ -75,25 +99,64 @@ public class DeadlineScheduler {
      *     → TIEBREAK 전환: 2월 15일 23시
      *     → 자동 해소: 2월 16일 23시 이후
      */
-    @Scheduled(fixedRate = 60_000)
+    @Scheduled(fixedRateString = "${moim.deadline.sweep-millis:300000}")
     public void processExpiredTiebreak() {
         // deadline + 24h < now → deadline < now - 24h
-        Instant cutoff = Instant.now().minusSeconds(24 * 60 * 60);
+        startSweep(GatheringStatus.TIEBREAK, Instant.now().minus(ConfirmService.TIEBREAK_TIMEOUT));
+    }
 
-        List<Gathering> stuckTiebreaks = gatheringRepository
-                .findByStatusAndDeadlineBefore(GatheringStatus.TIEBREAK, cutoff);
+    /** 스캔 진행 중 여부 (모니터링/테스트용) */
+    public boolean isSweeping(GatheringStatus status) {
+        return sweeping.get(status).get();
+    }
 
-        if (stuckTiebreaks.isEmpty()) return;
+    // ========== Private 메서드 ==========
 
-        log.info("[스케줄러] 타이브레이크 자동해소 {} 건 처리 시작", stuckTiebreaks.size());
+    /** 전용 스레드에서 스캔 시작 (같은 상태의 스캔이 진행 중이면 건너뜀) */
+    private void startSweep(GatheringStatus status, Instant cutoff) {
+        AtomicBoolean inFlight = sweeping.get(status);
+        if (!inFlight.compareAndSet(false, true)) {
+            log.debug("[스케줄러] {} 정리 스캔 진행 중 → 이번 주기 건너뜀", status);
+            return;
+        }
+        try {
+            sweeper.execute(() -> {
+                try {
+                    sweep(status, cutoff);
+                } catch (RuntimeException e) {
+                    log.error("[스케줄러] {} 정리 스캔 실패 - error={}", status, e.getMessage(), e);
+                } finally {
+                    inFlight.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            inFlight.set(false);
+        }
+    }
+
+    /** status이면서 deadline < cutoff인 모임을 묶음 단위로 claim해서 처리 */
+    private void sweep(GatheringStatus status, Instant cutoff) {
+        SchedulerDataSourceConfig.runOnSchedulerPool(() -> {
+            long backlog = gatheringRepository.countByStatusAndDeadlineBefore(status, cutoff);
+            if (backlog == 0) return;
 
-        for (Gathering gathering : stuckTiebreaks) {
+            log.info("[스케줄러] {} 마감 {} 건 처리 시작 (타이머 누락분)", status, backlog);
+            deadlineWorkers.reportScanRemaining(status, backlog);
+
+            long processed = 0;
             try {
-                confirmService.autoResolveTiebreak(gathering);
-            } catch (Exception e) {
-                log.error("[스케줄러] 타이브레이크 자동해소 실패 - shareCode={}, error={}",
-                        gathering.getShareCode(), e.getMessage(), e);
+                // claim할 게 없을 때까지 (처리된 모임은 상태가 바뀌고, 실패한 모임은 claim 만료 전까지 빠짐)
+                int claimed;
+                do {
+                    claimed = deadlineWorkers.claimAndProcess(status, cutoff, pageSize);
+                    processed += claimed;
+                    deadlineWorkers.reportScanRemaining(status, backlog - processed);
+                } while (claimed > 0);
+            } finally {
+                deadlineWorkers.reportScanRemaining(status, 0);
             }
-        }
+            log.info("[스케줄러] {} 마감 처리 완료 - 이 인스턴스 {} 건", status, processed);
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package com.moim.moimbackend.confirm.scheduler;
+
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.config.SchedulerDataSourceConfig;
+import com.moim.moimbackend.confirm.service.ConfirmService;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감 타이머.
+ *
+ * 1분 주기 스캔은 마감 후 최대 1분 늦게 확정되고, 그동안 투표도 열려 있다.
+ * 곧 다가올 마감을 DelayQueue에 넣어두고, 시각이 되면 바로 자동 확정한다 (지연 ≈ 수 ms).
+ * - VOTING: 마감 시각 → ConfirmService.autoConfirm(id)
+ * - TIEBREAK: 마감 + 24시간 → ConfirmService.autoResolveTiebreak(id)
+ * 시각이 된 작업은 DeadlineWorkers로 넘기므로 같은 시각에 몰린 마감도 병렬로 처리된다.
+ *
+ * 등록: refill-millis(기본 2분)마다 앞뒤 horizon(기본 5분) 안의 마감을 ID만 조회해서 등록 (시작 직후 1회 포함)
+ * - 그보다 오래 밀린 마감(장애 복구 직후 등)은 DeadlineScheduler가 페이지 단위로 처리
+ * - 새 모임의 마감은 최소 10분 뒤(GatheringService 검증)라 생성 시점엔 항상 horizon 밖
+ *   → 생성 때 따로 등록하지 않아도 horizon - refill(기본 3분) 전에는 refill이 등록한다
+ * - refill-millis는 horizon-millis보다 작아야 한다 (같거나 크면 사이에 낀 마감은 정리 스캔까지 밀림)
+ * horizon 밖의 마감은 다음 refill 때 들어오므로 큐 크기는 "곧 마감될 모임 수"로 제한된다.
+ *
+ * 확정 시 상태/마감을 트랜잭션 안에서 다시 확인하므로, 같은 모임이 중복 등록되거나
+ * DeadlineScheduler 정리 스캔과 겹쳐도 결과는 한 번만 반영된다.
+ * 확정 지연은 moim.deadline.confirm.lag 메트릭 (ConfirmService).
+ */
+@Slf4j
+@Component
+public class DeadlineTimer {
+
+    private final GatheringRepository gatheringRepository;
+    private final DeadlineWorkers deadlineWorkers;
+    private final boolean enabled;
+    private final long horizonMillis;
+
+    private final DelayQueue<DeadlineTask> queue = new DelayQueue<>();
+    /** 큐에 들어 있는 작업 (같은 마감 중복 등록 방지) */
+    private final Set<DeadlineTask> scheduled = ConcurrentHashMap.newKeySet();
+    private final Thread worker;
+
+    public DeadlineTimer(GatheringRepository gatheringRepository,
+                         DeadlineWorkers deadlineWorkers,
+                         BackgroundThreads backgroundThreads,
+                         @Value("${moim.deadline.timer.enabled:true}") boolean enabled,
+                         @Value("${moim.deadline.timer.horizon-millis:300000}") long horizonMillis) {
+        this.gatheringRepository = gatheringRepository;
+        this.deadlineWorkers = deadlineWorkers;
+        this.enabled = enabled;
+        this.horizonMillis = horizonMillis;
+        // 가상 스레드 모드면 대기 스레드도 가상 스레드 (DelayQueue.take 대기 중 캐리어를 점유하지 않음)
+        this.worker = backgroundThreads.newThread("deadline-timer", this::runWorker);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    /** horizon 안에 도래하는 마감 등록 (방금 지난 마감 포함 → 즉시 실행) */
+    @Scheduled(fixedRateString = "${moim.deadline.timer.refill-millis:120000}")
+    public void refill() {
+        if (!enabled) {
+            return;
+        }
+        SchedulerDataSourceConfig.runOnSchedulerPool(this::loadUpcoming);
+    }
+
+    /** 대기 중인 마감 수 (모니터링용) */
+    public int size() {
+        return queue.size();
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void loadUpcoming() {
+        Instant now = Instant.now();
+        // 직전 horizon만큼 지난 마감까지만 (refill 사이 놓친 것), 더 오래 밀린 건 정리 스캔 몫
+        Instant from = now.minusMillis(horizonMillis);
+        Instant to = now.plusMillis(horizonMillis);
+        Duration tiebreak = ConfirmService.TIEBREAK_TIMEOUT;
+
+        int added = 0;
+        for (Object[] row : gatheringRepository.findIdAndDeadlineByStatusAndDeadlineBetween(
+                GatheringStatus.VOTING, from, to)) {
+            added += schedule(new DeadlineTask((Long) row[0], GatheringStatus.VOTING,
+                    ((Instant) row[1]).toEpochMilli())) ? 1 : 0;
+        }
+        for (Object[] row : gatheringRepository.findIdAndDeadlineByStatusAndDeadlineBetween(
+                GatheringStatus.TIEBREAK, from.minus(tiebreak), to.minus(tiebreak))) {
+            added += schedule(new DeadlineTask((Long) row[0], GatheringStatus.TIEBREAK,
+                    ((Instant) row[1]).plus(tiebreak).toEpochMilli())) ? 1 : 0;
+        }
+        if (added > 0) {
+            log.info("[마감 타이머] {}건 등록, 대기 {}건", added, queue.size());
+        }
+    }
+
+    private boolean schedule(DeadlineTask task) {
+        if (!scheduled.add(task)) {
+            return false;
+        }
+        queue.add(task);
+        return true;
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            DeadlineTask task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            scheduled.remove(task);
+            // 처리는 작업자 풀에서 (타이머 스레드는 다음 마감을 기다림)
+            // 실패한 모임은 다음 refill 또는 정리 스캔에서 다시 시도된다
+            deadlineWorkers.submit(task.status, task.gatheringId);
+        }
+    }
+
+    /** 마감 1건 (모임 ID + 처리할 상태 + 실행 시각) */
+    private static final class DeadlineTask implements Delayed {
+        private final long gatheringId;
+        private final GatheringStatus status;
+        private final long dueAtMillis;
+
+        private DeadlineTask(long gatheringId, GatheringStatus status, long dueAtMillis) {
+            this.gatheringId = gatheringId;
+            this.status = status;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((DeadlineTask) other).dueAtMillis);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DeadlineTask task
+                    && gatheringId == task.gatheringId
+                    && status == task.status
+                    && dueAtMillis == task.dueAtMillis;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(gatheringId) * 31 + status.hashCode() + Long.hashCode(dueAtMillis);
+        }
+    }
+}
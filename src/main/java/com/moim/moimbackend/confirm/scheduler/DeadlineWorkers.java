@@ -0,0 +1,202 @@
+package com.moim.moimbackend.confirm.scheduler;
+
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.config.SchedulerDataSourceConfig;
+import com.moim.moimbackend.confirm.service.ConfirmService;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 마감 처리 작업자 풀.
+ *
+ * 자동 확정을 고정 크기 스레드 풀(moim.deadline.workers, 기본 4)에서 모임별 트랜잭션으로 실행한다.
+ * 한 모임의 실패/지연이 다른 모임을 막지 않고, 밀린 건이 많아도 동시 실행 수는 풀 크기로 제한된다.
+ * 모든 작업은 스케줄러 전용 커넥션 풀에서 실행 (SchedulerDataSourceConfig)
+ * → 그 풀 크기는 지정하지 않으면 작업자 수 + 2로 맞춰진다.
+ *
+ * 인스턴스가 여러 대면 모든 노드의 스케줄러/타이머가 같은 모임을 잡는다.
+ * 처리 전에 모임을 claim(노드 ID + 만료 시각 기록)하고, claim한 노드만 처리한다.
+ * - 정리 스캔: claimAndProcess() → FOR UPDATE SKIP LOCKED로 한 묶음씩 나눠 가짐
+ * - 마감 타이머: submit() → 1건씩 조건부 claim, 실패하면 다른 노드가 처리 중이므로 건너뜀
+ * claim 만료(moim.deadline.claim-lease-millis, 기본 5분)가 지나면 처리 도중 죽은 노드의 몫도 다시 대상이 된다.
+ *
+ * 일괄 모드(moim.deadline.bulk-confirm=true): 정리 스캔이 claim한 VOTING 묶음은
+ * ConfirmService.autoConfirmBatch로 SQL 몇 문장에 처리하고, 동점 모임만 작업자 풀에서 모임별로 처리한다.
+ * 적용 범위는 정리 스캔뿐이다. 마감 타이머 경로(submit)는 마감이 도래할 때마다 1건씩 들어오므로
+ * 일괄 모드를 켜도 모임별로 처리한다 → 효과가 있는 건 밀린 건을 몰아서 처리할 때
+ * (장애 복구 직후, 타이머 비활성화, 타이머가 놓친 다른 인스턴스의 모임)다.
+ *
+ * 메트릭:
+ * - moim.deadline.backlog: 처리 대기 중인 모임 수 (정리 스캔이 센 밀린 건수 + 작업자 큐)
+ * - moim.deadline.processed{type, outcome}: 처리 건수 (rate = 처리량, outcome=bulk는 일괄 모드로 처리된 건)
+ * - moim.deadline.bulk.duration: 일괄 모드 묶음 1개 처리 시간
+ * - moim.deadline.confirm.duration{type}: 모임 1건 확정 소요 시간
+ */
+@Slf4j
+@Component
+public class DeadlineWorkers {
+
+    private final ConfirmService confirmService;
+    private final GatheringRepository gatheringRepository;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final long leaseMillis;
+    private final boolean bulkConfirm;
+    private final ExecutorService executor;
+
+    /** 상태별, 정리 스캔이 센 밀린 건 중 아직 작업자에게 넘기지 않은 수 */
+    private final Map<GatheringStatus, AtomicLong> scanRemaining = new EnumMap<>(Map.of(
+            GatheringStatus.VOTING, new AtomicLong(),
+            GatheringStatus.TIEBREAK, new AtomicLong()));
+    /** 작업자 큐에 들어가서 아직 끝나지 않은 수 */
+    private final AtomicLong queued = new AtomicLong();
+
+    public DeadlineWorkers(ConfirmService confirmService,
+                           GatheringRepository gatheringRepository,
+                           MeterRegistry meterRegistry,
+                           BackgroundThreads backgroundThreads,
+                           @Value("${moim.deadline.workers:4}") int workers,
+                           @Value("${moim.deadline.node-id:}") String nodeId,
+                           @Value("${moim.deadline.claim-lease-millis:300000}") long leaseMillis,
+                           @Value("${moim.deadline.bulk-confirm:false}") boolean bulkConfirm) {
+        this.confirmService = confirmService;
+        this.gatheringRepository = gatheringRepository;
+        this.meterRegistry = meterRegistry;
+        // 기본값 "pid@호스트명" → 인스턴스마다 다름 (claimed_by 컬럼 길이에 맞춤)
+        String node = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.nodeId = node.length() > 64 ? node.substring(0, 64) : node;
+        this.leaseMillis = leaseMillis;
+        this.bulkConfirm = bulkConfirm;
+        // 동시 처리 수는 workers로 고정, 스레드 종류만 모드를 따른다 (가상 스레드 모드면 가상 스레드)
+        this.executor = Executors.newFixedThreadPool(workers, backgroundThreads.factory("deadline-worker-"));
+
+        Gauge.builder("moim.deadline.backlog", () -> queued.get()
+                        + scanRemaining.values().stream().mapToLong(AtomicLong::get).sum())
+                .description("처리 대기 중인 마감 모임 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** 1건 claim 후 비동기 처리 (마감 타이머용, 다른 노드가 claim했으면 건너뜀) */
+    public CompletableFuture<Void> submit(GatheringStatus status, Long gatheringId) {
+        return enqueue(() -> {
+            boolean claimed = SchedulerDataSourceConfig.callOnSchedulerPool(() ->
+                    gatheringRepository.claimOne(gatheringId, status.name(), nodeId, leaseMillis).isPresent());
+            if (claimed) {
+                process(status, gatheringId);
+            }
+        });
+    }
+
+    /**
+     * 마감 지난 모임을 최대 limit건 claim → 병렬 처리 → 모두 끝날 때까지 대기 (정리 스캔용).
+     * 묶음 단위로 기다리므로 메모리에 올라가는 ID는 한 묶음뿐이다.
+     * 호출 스레드를 묶음이 끝날 때까지 붙잡으므로 공용 @Scheduled 스레드가 아니라 정리 스캔 전용 스레드에서 부른다.
+     *
+     * @return claim한 건수 (0이면 남은 모임이 없거나 전부 다른 노드가 처리 중)
+     */
+    public int claimAndProcess(GatheringStatus status, Instant cutoff, int limit) {
+        List<Long> gatheringIds = SchedulerDataSourceConfig.callOnSchedulerPool(() ->
+                gatheringRepository.claimDue(status.name(), cutoff, nodeId, leaseMillis, limit));
+
+        // 일괄 모드: 1위가 분명한 모임은 SQL로 한 번에, 나머지(동점)만 모임별로
+        List<Long> remaining = bulkConfirm && status == GatheringStatus.VOTING
+                ? confirmInBulk(gatheringIds)
+                : gatheringIds;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(remaining.size());
+        for (Long gatheringId : remaining) {
+            futures.add(enqueue(() -> process(status, gatheringId)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return gatheringIds.size();
+    }
+
+    /** 정리 스캔이 아직 넘기지 않은 밀린 건수 기록 (backlog 메트릭용) */
+    public void reportScanRemaining(GatheringStatus status, long remaining) {
+        scanRemaining.get(status).set(Math.max(0, remaining));
+    }
+
+    // ========== Private 메서드 ==========
+
+    /**
+     * claim한 묶음을 ConfirmService.autoConfirmBatch로 처리.
+     * 실패하면 묶음 전체를 모임별 경로로 넘긴다 (한 모임의 문제로 묶음이 통째로 밀리지 않도록).
+     *
+     * @return 모임별로 처리해야 할 ID
+     */
+    private List<Long> confirmInBulk(List<Long> gatheringIds) {
+        if (gatheringIds.isEmpty()) {
+            return gatheringIds;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<Long> remaining = SchedulerDataSourceConfig.callOnSchedulerPool(() ->
+                    confirmService.autoConfirmBatch(gatheringIds));
+            meterRegistry.counter("moim.deadline.processed", "type", "voting", "outcome", "bulk")
+                    .increment(gatheringIds.size() - remaining.size());
+            return remaining;
+        } catch (Exception e) {
+            log.warn("[마감 처리] 일괄 확정 실패 → 모임별 처리 - {}건, error={}", gatheringIds.size(), e.getMessage());
+            return gatheringIds;
+        } finally {
+            sample.stop(meterRegistry.timer("moim.deadline.bulk.duration"));
+        }
+    }
+
+    private CompletableFuture<Void> enqueue(Runnable task) {
+        queued.incrementAndGet();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                task.run();
+            } finally {
+                queued.decrementAndGet();
+            }
+        }, executor);
+    }
+
+    /** claim한 모임 1건 처리 (예외는 로그 + 메트릭으로만 남김 → claim 만료 후 다음 스캔에서 재시도) */
+    private void process(GatheringStatus status, Long gatheringId) {
+        String type = status == GatheringStatus.VOTING ? "voting" : "tiebreak";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            SchedulerDataSourceConfig.runOnSchedulerPool(() -> {
+                if (status == GatheringStatus.VOTING) {
+                    confirmService.autoConfirm(gatheringId);
+                } else {
+                    confirmService.autoResolveTiebreak(gatheringId);
+                }
+            });
+        } catch (Exception e) {
+            outcome = "failure";
+            log.error("[마감 처리] 실패 - gatheringId={}, type={}, error={}",
+                    gatheringId, type, e.getMessage(), e);
+        } finally {
+            sample.stop(meterRegistry.timer("moim.deadline.confirm.duration", "type", type));
+            meterRegistry.counter("moim.deadline.processed", "type", type, "outcome", outcome).increment();
+        }
+    }
+}
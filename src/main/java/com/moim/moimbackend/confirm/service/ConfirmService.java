@@ -2,25 +2,33 @@ package com.moim.moimbackend.confirm.service;
 
 import com.moim.moimbackend.common.exception.BusinessException;
 import com.moim.moimbackend.common.exception.ErrorCode;
-import com.moim.moimbackend.common.security.TokenHashUtil;
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
 import com.moim.moimbackend.confirm.dto.ConfirmRequest;
 import com.moim.moimbackend.confirm.dto.ConfirmedResultResponse;
 import com.moim.moimbackend.confirm.dto.TiebreakRequest;
 import com.moim.moimbackend.confirm.entity.ConfirmType;
 import com.moim.moimbackend.confirm.entity.ConfirmedResult;
 import com.moim.moimbackend.confirm.repository.ConfirmedResultRepository;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
 import com.moim.moimbackend.gathering.entity.*;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
 import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import com.moim.moimbackend.gathering.service.GatheringRefCache;
 import com.moim.moimbackend.vote.entity.CandidateType;
-import com.moim.moimbackend.vote.repository.ParticipantRepository;
-import com.moim.moimbackend.vote.repository.VoteRepository;
+import com.moim.moimbackend.vote.service.VoteTally;
+import com.moim.moimbackend.vote.service.VoteTallyCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.LongPredicate;
 
 /**
  * 모임 확정 비즈니스 로직.
@@ -39,6 +47,17 @@ import java.util.*;
  * 3) 동점 해소 (resolveTiebreak)
  *    - TIEBREAK 상태에서 주최자가 동점 후보 중 하나를 선택
  *    - 24시간 내 선택하지 않으면 스케줄러가 선등록(displayOrder) 후보로 자동 확정
+ *
+ * 상태 전이는 모두 조건부 UPDATE 한 문장 (GatheringRepository.transitionStatus):
+ *   UPDATE gathering SET status = 다음 상태 ... WHERE id = ? AND status = 기대 상태
+ * 스케줄러와 주최자가 동시에 확정해도 한쪽만 행을 바꾸고, 확정 결과 INSERT는 이긴 쪽만 한다.
+ * (확정 여부를 먼저 조회하거나 행을 잠그지 않는다)
+ *
+ * 자동 확정/자동 해소는 모임과 함께 읽은 변경 버전의 집계(VoteTallyCache)로 판정하고, 전이 조건에 그 버전을 더한다
+ *   UPDATE gathering ... WHERE id = ? AND status = 기대 상태 AND version = 판정 버전
+ * 집계 캐시는 요청한 버전까지의 투표를 모두 반영한 스냅샷만 돌려준다 (모자라면 다시 로드).
+ * 판정 뒤 투표가 커밋됐으면 (incrementVersionIfVoting이 버전을 올림) 전이가 실패하고,
+ * 아직 같은 상태면 새 버전으로 다시 판정한다 (최대 MAX_DECIDE_ATTEMPTS회, 넘으면 다음 스캔에 맡김).
  */
 @Slf4j
 @Service
@@ -47,40 +66,64 @@ import java.util.*;
 public class ConfirmService {
 
     private final GatheringRepository gatheringRepository;
+    private final GatheringRefCache gatheringRefCache;
     private final ConfirmedResultRepository confirmedResultRepository;
-    private final VoteRepository voteRepository;
-    private final ParticipantRepository participantRepository;
+    private final VoteTallyCache voteTallyCache;
     private final IcsService icsService;
+    private final TokenSigner tokenSigner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /** 자동 확정/해소의 판정 반복 횟수 (판정 사이 투표가 계속 커밋되는 경우의 상한) */
+    private static final int MAX_DECIDE_ATTEMPTS = 5;
 
     // ========== 1) 자동 확정 ==========
 
+    /**
+     * 모임 ID로 자동 확정 (DeadlineTimer / DeadlineScheduler 공통 진입점).
+     *
+     * 트랜잭션 안에서 모임을 다시 읽어 VOTING + 마감 경과를 확인한다.
+     * 타이머와 정리 스캔이 같은 모임을 잡거나, 그 사이 주최자가 확정한 경우 그냥 넘어간다.
+     */
+    @Transactional
+    public void autoConfirm(Long gatheringId) {
+        Gathering gathering = gatheringRepository.findById(gatheringId).orElse(null);
+        if (gathering == null
+                || gathering.getStatus() != GatheringStatus.VOTING
+                || gathering.getDeadline().isAfter(Instant.now())) {
+            return;
+        }
+        decideUntilStable(gathering, GatheringStatus.VOTING, version -> autoConfirm(gathering, version));
+    }
+
     /**
      * 마감 지난 모임을 자동 확정.
-     * DeadlineScheduler에서 1분마다 호출.
+     * 마감 타이머(DeadlineTimer) 또는 정리 스캔(DeadlineScheduler)에서 호출.
      *
      * 처리 흐름:
      * ① 참여자 0명 → EXPIRED
      * ② 모임 타입별로 득표수 1위 후보 추출
      * ③ 동점 없음 → CONFIRMED + 결과 저장
      * ④ 동점 있음 → TIEBREAK (주최자 선택 대기)
+     * 각 전이는 아직 VOTING이고 버전이 version 그대로일 때만 성공한다.
+     *
+     * @return 전이 성공 여부 (false → 그 사이 투표가 커밋됐거나 다른 경로가 먼저 처리함)
      */
-    @Transactional
-    public void autoConfirm(Gathering gathering) {
-        log.info("[자동확정] 시작 - id={}, shareCode={}", gathering.getId(), gathering.getShareCode());
+    private boolean autoConfirm(Gathering gathering, long version) {
+        log.info("[자동확정] 시작 - id={}, shareCode={}, version={}",
+                gathering.getId(), gathering.getShareCode(), version);
 
-        // 이미 확정 결과가 존재하면 스킵 (중복 방지)
-        if (confirmedResultRepository.existsByGatheringId(gathering.getId())) {
-            log.info("[자동확정] 이미 확정됨 - 스킵");
-            return;
-        }
+        // 투표 집계 스냅샷 (참여자 수 + 후보별 득표수, version까지의 투표 반영)
+        VoteTally tally = voteTallyCache.get(gathering.getId(), GatheringStatus.VOTING, version);
 
         // ① 참여자 0명 → EXPIRED
-        long participantCount = participantRepository.countByGatheringId(gathering.getId());
-        if (participantCount == 0) {
-            gathering.setStatus(GatheringStatus.EXPIRED);
-            gatheringRepository.save(gathering);
+        if (tally.getParticipantCount() == 0) {
+            if (!transition(gathering, GatheringStatus.VOTING, GatheringStatus.EXPIRED, version)) {
+                return false;
+            }
+            recordLag(gathering.getDeadline(), "voting");
             log.info("[자동확정] 참여자 없음 → EXPIRED");
-            return;
+            return true;
         }
 
         // ② 모임 타입별 1위 후보 추출
@@ -91,7 +134,7 @@ public class ConfirmService {
 
         // --- 시간 후보 처리 ---
         if (type != GatheringType.PLACE_ONLY) {
-            VoteResult timeResult = findTopCandidate(gathering, CandidateType.TIME);
+            VoteResult timeResult = findTopCandidate(tally, CandidateType.TIME);
             if (timeResult.isTied) {
                 hasTie = true;
                 log.info("[자동확정] 시간 동점 발생 - 후보수={}", timeResult.tiedCandidateIds.size());
@@ -104,7 +147,7 @@ public class ConfirmService {
 
         // --- 장소 후보 처리 ---
         if (type != GatheringType.TIME_ONLY) {
-            VoteResult placeResult = findTopCandidate(gathering, CandidateType.PLACE);
+            VoteResult placeResult = findTopCandidate(tally, CandidateType.PLACE);
             if (placeResult.isTied) {
                 hasTie = true;
                 log.info("[자동확정] 장소 동점 발생 - 후보수={}", placeResult.tiedCandidateIds.size());
@@ -117,17 +160,56 @@ public class ConfirmService {
 
         // ④ 동점 → TIEBREAK
         if (hasTie) {
-            gathering.setStatus(GatheringStatus.TIEBREAK);
-            gatheringRepository.save(gathering);
+            if (!transition(gathering, GatheringStatus.VOTING, GatheringStatus.TIEBREAK, version)) {
+                return false;
+            }
+            recordLag(gathering.getDeadline(), "voting");
             log.info("[자동확정] 동점 → TIEBREAK 전환");
-            return;
+            return true;
         }
 
         // ③ 동점 없음 → CONFIRMED
-        saveConfirmedResult(gathering, bestTime, bestPlace, ConfirmType.AUTO);
+        if (!saveConfirmedResult(gathering, GatheringStatus.VOTING, version, bestTime, bestPlace, ConfirmType.AUTO)) {
+            return false;
+        }
+        recordLag(gathering.getDeadline(), "voting");
         log.info("[자동확정] 완료 - timeId={}, placeId={}",
                 bestTime != null ? bestTime.getId() : "null",
                 bestPlace != null ? bestPlace.getId() : "null");
+        return true;
+    }
+
+    /**
+     * 마감 지난 모임 묶음 자동 확정 (정리 스캔의 일괄 모드, moim.deadline.bulk-confirm).
+     *
+     * 1위가 분명한 모임과 참여자 0명 모임은 SQL 한 문장으로 결과 INSERT + 상태 UPDATE
+     * (GatheringRepository.confirmClearWinners) → 모임마다 나가던 집계/조회/저장 쿼리가 없어진다.
+     * 상태 전이 이벤트는 엔티티 경로와 똑같이 모임마다 발행 (커밋 후 캐시 갱신).
+     * 전이는 판정 버전 조건부라, 판정 후 투표가 커밋된 모임은 전이되지 않고 남는다.
+     *
+     * @return 처리하지 않은 모임 ID (동점, 판정 후 투표 변경, 이미 처리됨) → 호출 측이 autoConfirm(id)로 하나씩 처리
+     */
+    @Transactional
+    public List<Long> autoConfirmBatch(List<Long> gatheringIds) {
+        if (gatheringIds.isEmpty()) {
+            return List.of();
+        }
+        long now = System.currentTimeMillis();
+        Set<Long> done = new HashSet<>();
+        for (Object[] row : gatheringRepository.confirmClearWinners(gatheringIds)) {
+            Long id = ((Number) row[0]).longValue();
+            GatheringStatus status = GatheringStatus.valueOf((String) row[2]);
+            long version = ((Number) row[3]).longValue();
+            meterRegistry.timer("moim.deadline.confirm.lag", "type", "voting")
+                    .record(Duration.ofMillis(now - ((Number) row[4]).longValue()));
+            eventPublisher.publishEvent(new GatheringStatusChangedEvent(id, (String) row[1], status, version));
+            done.add(id);
+        }
+        log.info("[자동확정] 일괄 처리 {}건 / 요청 {}건", done.size(), gatheringIds.size());
+
+        return gatheringIds.stream()
+                .filter(id -> !done.contains(id))
+                .toList();
     }
 
     // ========== 2) 주최자 수동 확정 ==========
@@ -137,12 +219,13 @@ public class ConfirmService {
      *
      * VOTING 상태에서만 가능 (이미 CONFIRMED/TIEBREAK면 에러).
      * 마감 전이라도 "더 이상 투표 필요 없다"고 판단하면 사용.
+     * 같은 순간 자동 확정이 먼저 상태를 바꿨으면 ALREADY_CONFIRMED (409, 요청 자체는 올바름).
      */
     @Transactional
     public void manualConfirm(String shareCode, String adminToken, ConfirmRequest request) {
         Gathering gathering = findAndValidateAdmin(shareCode, adminToken);
 
-        // VOTING 상태에서만 수동 확정 가능
+        // VOTING 상태에서만 수동 확정 가능 (빠른 실패용, 최종 판정은 상태 전이 UPDATE)
         if (gathering.getStatus() != GatheringStatus.VOTING) {
             throw new BusinessException(ErrorCode.INVALID_INPUT,
                     "VOTING 상태에서만 수동 확정할 수 있습니다. 현재 상태: " + gathering.getStatus());
@@ -152,7 +235,10 @@ public class ConfirmService {
         TimeCandidate timeCandidate = resolveTimeCandidate(gathering, request.getTimeCandidateId());
         PlaceCandidate placeCandidate = resolvePlaceCandidate(gathering, request.getPlaceCandidateId());
 
-        saveConfirmedResult(gathering, timeCandidate, placeCandidate, ConfirmType.HOST);
+        // 그 사이 스케줄러가 먼저 확정/전환했으면 실패
+        if (!saveConfirmedResult(gathering, GatheringStatus.VOTING, null, timeCandidate, placeCandidate, ConfirmType.HOST)) {
+            throw new BusinessException(ErrorCode.ALREADY_CONFIRMED, "이미 마감 처리된 모임입니다.");
+        }
         log.info("[수동확정] 완료 - shareCode={}", shareCode);
     }
 
@@ -163,12 +249,13 @@ public class ConfirmService {
      *
      * TIEBREAK 상태에서만 호출 가능.
      * 선택한 후보로 확정 결과 생성 + 상태를 CONFIRMED로 전환.
+     * 같은 순간 24시간 자동 해소가 먼저 확정했으면 ALREADY_CONFIRMED (409).
      */
     @Transactional
     public void resolveTiebreak(String shareCode, String adminToken, TiebreakRequest request) {
         Gathering gathering = findAndValidateAdmin(shareCode, adminToken);
 
-        // TIEBREAK 상태에서만 동점 해소 가능
+        // TIEBREAK 상태에서만 동점 해소 가능 (빠른 실패용, 최종 판정은 상태 전이 UPDATE)
         if (gathering.getStatus() != GatheringStatus.TIEBREAK) {
             throw new BusinessException(ErrorCode.INVALID_INPUT,
                     "TIEBREAK 상태에서만 동점 해소할 수 있습니다. 현재 상태: " + gathering.getStatus());
@@ -177,7 +264,10 @@ public class ConfirmService {
         TimeCandidate timeCandidate = resolveTimeCandidate(gathering, request.getTimeCandidateId());
         PlaceCandidate placeCandidate = resolvePlaceCandidate(gathering, request.getPlaceCandidateId());
 
-        saveConfirmedResult(gathering, timeCandidate, placeCandidate, ConfirmType.HOST);
+        // 그 사이 24시간 자동 해소가 먼저 확정했으면 실패
+        if (!saveConfirmedResult(gathering, GatheringStatus.TIEBREAK, null, timeCandidate, placeCandidate, ConfirmType.HOST)) {
+            throw new BusinessException(ErrorCode.ALREADY_CONFIRMED);
+        }
         log.info("[동점해소] 완료 - shareCode={}", shareCode);
     }
 
@@ -188,15 +278,15 @@ public class ConfirmService {
      *
      * 인증 불필요 — 링크를 가진 누구나 결과를 볼 수 있음.
      * 아직 확정되지 않았으면 404 (GATHERING_NOT_FOUND가 아닌, 결과 자체가 없음).
+     * 모임 ID는 GatheringRefCache로 해석 → 결과가 있을 때만 제목/주최자를 위해 모임을 읽는다.
      */
     public ConfirmedResultResponse getResult(String shareCode) {
-        Gathering gathering = gatheringRepository.findByShareCode(shareCode)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
 
-        ConfirmedResult result = confirmedResultRepository.findByGatheringId(gathering.getId())
+        ConfirmedResult result = confirmedResultRepository.findByGatheringId(ref.getId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT, "아직 확정된 결과가 없습니다."));
 
-        return buildResultResponse(gathering, result);
+        return buildResultResponse(result.getGathering(), result);
     }
 
     // ========== 5) .ics 파일 생성 ==========
@@ -208,40 +298,55 @@ public class ConfirmService {
      * 브라우저가 .ics 파일로 다운로드하도록 유도.
      */
     public String generateIcsFile(String shareCode) {
-        Gathering gathering = gatheringRepository.findByShareCode(shareCode)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
 
-        ConfirmedResult result = confirmedResultRepository.findByGatheringId(gathering.getId())
+        ConfirmedResult result = confirmedResultRepository.findByGatheringId(ref.getId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INPUT, "확정 결과가 없어 .ics를 생성할 수 없습니다."));
 
-        return icsService.generateIcs(result, gathering.getTitle());
+        return icsService.generateIcs(result, result.getGathering().getTitle());
     }
 
     // ========== 6) TIEBREAK 자동 해소 (24h 초과) ==========
 
+    /** TIEBREAK 자동 해소까지 기다리는 시간 (원래 마감 기준) */
+    public static final Duration TIEBREAK_TIMEOUT = Duration.ofHours(24);
+
+    /**
+     * 모임 ID로 TIEBREAK 자동 해소 (DeadlineTimer / DeadlineScheduler 공통 진입점).
+     * 트랜잭션 안에서 모임을 다시 읽어 TIEBREAK + 마감 후 24시간 경과를 확인한다.
+     */
+    @Transactional
+    public void autoResolveTiebreak(Long gatheringId) {
+        Gathering gathering = gatheringRepository.findById(gatheringId).orElse(null);
+        if (gathering == null
+                || gathering.getStatus() != GatheringStatus.TIEBREAK
+                || gathering.getDeadline().plus(TIEBREAK_TIMEOUT).isAfter(Instant.now())) {
+            return;
+        }
+        decideUntilStable(gathering, GatheringStatus.TIEBREAK, version -> autoResolveTiebreak(gathering, version));
+    }
+
     /**
      * TIEBREAK 상태가 24시간 이상 지속된 모임을 자동 확정.
-     * DeadlineScheduler에서 호출.
+     * 마감 타이머 또는 정리 스캔에서 호출.
      *
      * 선택 기준: 각 카테고리에서 displayOrder가 가장 낮은(가장 먼저 등록된) 후보.
      * → 주최자가 가장 먼저 떠올린 후보가 의미적으로 우선순위가 높다는 가정.
+     * TIEBREAK에서는 투표가 바뀌지 않으므로 전이 실패는 주최자가 먼저 해소한 경우뿐이다.
+     *
+     * @return 전이 성공 여부
      */
-    @Transactional
-    public void autoResolveTiebreak(Gathering gathering) {
+    private boolean autoResolveTiebreak(Gathering gathering, long version) {
         log.info("[타이브레이크 자동해소] 시작 - shareCode={}", gathering.getShareCode());
 
-        if (confirmedResultRepository.existsByGatheringId(gathering.getId())) {
-            log.info("[타이브레이크 자동해소] 이미 확정됨 - 스킵");
-            return;
-        }
-
         GatheringType type = gathering.getType();
         TimeCandidate bestTime = null;
         PlaceCandidate bestPlace = null;
+        VoteTally tally = voteTallyCache.get(gathering.getId(), GatheringStatus.TIEBREAK, version);
 
         // 시간: 동점 후보 중 displayOrder가 가장 낮은 후보 선택
         if (type != GatheringType.PLACE_ONLY) {
-            VoteResult timeResult = findTopCandidate(gathering, CandidateType.TIME);
+            VoteResult timeResult = findTopCandidate(tally, CandidateType.TIME);
             Long selectedId = timeResult.isTied
                     ? selectByDisplayOrder(gathering.getTimeCandidates(), timeResult.tiedCandidateIds)
                     : timeResult.topCandidateId;
@@ -253,7 +358,7 @@ public class ConfirmService {
 
         // 장소: 동일 로직
         if (type != GatheringType.TIME_ONLY) {
-            VoteResult placeResult = findTopCandidate(gathering, CandidateType.PLACE);
+            VoteResult placeResult = findTopCandidate(tally, CandidateType.PLACE);
             Long selectedId = placeResult.isTied
                     ? selectByDisplayOrder(gathering.getPlaceCandidates(), placeResult.tiedCandidateIds)
                     : placeResult.topCandidateId;
@@ -263,8 +368,12 @@ public class ConfirmService {
                     .findFirst().orElse(null);
         }
 
-        saveConfirmedResult(gathering, bestTime, bestPlace, ConfirmType.AUTO);
+        if (!saveConfirmedResult(gathering, GatheringStatus.TIEBREAK, version, bestTime, bestPlace, ConfirmType.AUTO)) {
+            return false;
+        }
+        recordLag(gathering.getDeadline().plus(TIEBREAK_TIMEOUT), "tiebreak");
         log.info("[타이브레이크 자동해소] 완료 - shareCode={}", gathering.getShareCode());
+        return true;
     }
 
     // ========== Private 헬퍼 메서드 ==========
@@ -274,15 +383,30 @@ public class ConfirmService {
      *
      * 주최자 전용 API(수동확정, 동점해소)에서 공통으로 사용.
      * 토큰이 불일치하면 401 Unauthorized.
+     *
+     * 관리 토큰 해시는 바뀌지 않으므로 캐시된 값(GatheringRefCache)으로 먼저 검증하고,
+     * 통과한 경우에만 후보 목록이 필요한 엔티티를 로드한다.
+     * 서명 토큰은 서명 + 모임 ID로 확인하고, 기존 UUID 토큰은 해시 비교로 확인한다.
      */
     private Gathering findAndValidateAdmin(String shareCode, String adminToken) {
-        Gathering gathering = gatheringRepository.findByShareCode(shareCode)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
 
-        if (adminToken == null || !TokenHashUtil.matches(adminToken, gathering.getAdminTokenHash())) {
+        if (!isValidAdminToken(ref, adminToken)) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED, "관리자 토큰이 유효하지 않습니다.");
         }
-        return gathering;
+        return gatheringRepository.findById(ref.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+    }
+
+    private boolean isValidAdminToken(GatheringRef ref, String adminToken) {
+        if (adminToken == null) {
+            return false;
+        }
+        TokenSigner.VerifiedToken verified = tokenSigner.verify(adminToken, TokenType.ADMIN);
+        if (verified != null) {
+            return verified.getGatheringId() == ref.getId();
+        }
+        return gatheringRefCache.matchesAdminToken(ref, tokenSigner.fallbackSecret(adminToken, TokenType.ADMIN));
     }
 
     /**
@@ -318,15 +442,26 @@ public class ConfirmService {
     }
 
     /**
-     * 확정 결과 저장 + 상태 CONFIRMED 전환.
+     * 상태 CONFIRMED 전환 + 확정 결과 저장.
      *
      * 여러 경로(자동/수동/타이브레이크)에서 최종 확정 시 공통 호출.
-     * 이 메서드가 호출되면 모임의 생명주기가 종료된다.
+     * from 상태에서 CONFIRMED로 바꾸는 데 성공한 경로만 결과를 INSERT한다.
+     * (CONFIRMED는 마지막 상태라 성공하는 경로는 모임당 하나뿐 → confirmed_result UNIQUE 위반 없음)
+     * expectedVersion: 자동 경로가 득표를 센 버전, 주최자 경로는 null (후보를 직접 골라서 득표와 무관).
+     *
+     * @return 확정 성공 여부 (다른 경로가 먼저 상태를 바꿨거나 버전이 달라졌으면 false)
      */
-    private void saveConfirmedResult(Gathering gathering,
-                                     TimeCandidate timeCandidate,
-                                     PlaceCandidate placeCandidate,
-                                     ConfirmType confirmType) {
+    private boolean saveConfirmedResult(Gathering gathering,
+                                        GatheringStatus from,
+                                        Long expectedVersion,
+                                        TimeCandidate timeCandidate,
+                                        PlaceCandidate placeCandidate,
+                                        ConfirmType confirmType) {
+        // 상태 전환: → CONFIRMED (최종 상태)
+        if (!transition(gathering, from, GatheringStatus.CONFIRMED, expectedVersion)) {
+            return false;
+        }
+
         ConfirmedResult result = ConfirmedResult.builder()
                 .gathering(gathering)
                 .timeCandidate(timeCandidate)
@@ -335,10 +470,57 @@ public class ConfirmService {
                 .confirmedBy(confirmType)
                 .build();
         confirmedResultRepository.save(result);
+        return true;
+    }
 
-        // 상태 전환: → CONFIRMED (최종 상태)
-        gathering.setStatus(GatheringStatus.CONFIRMED);
-        gatheringRepository.save(gathering);
+    /**
+     * 상태 전이 (from → to) + 변경 버전 증가 + 상태 전이 이벤트 발행.
+     * 조건부 UPDATE 한 문장이라, 동시에 여러 경로가 시도해도 from 상태를 본 하나만 성공한다.
+     * expectedVersion이 있으면 버전도 조건에 넣는다 (판정 이후 커밋된 투표가 있으면 실패).
+     * 엔티티는 저장하지 않는다 (메모리의 상태 값은 이 트랜잭션에서 더 쓰지 않음).
+     * 이벤트는 커밋 이후 구독자(집계 캐시 등)에서 처리된다.
+     *
+     * @return 전이 성공 여부
+     */
+    private boolean transition(Gathering gathering, GatheringStatus from, GatheringStatus to, Long expectedVersion) {
+        Optional<Long> version = expectedVersion == null
+                ? gatheringRepository.transitionStatus(gathering.getId(), from.name(), to.name())
+                : gatheringRepository.transitionStatus(gathering.getId(), from.name(), to.name(), expectedVersion);
+        if (version.isEmpty()) {
+            return false;
+        }
+        eventPublisher.publishEvent(
+                new GatheringStatusChangedEvent(gathering.getId(), gathering.getShareCode(), to, version.get()));
+        return true;
+    }
+
+    /**
+     * 자동 확정/해소 판정을 버전 조건 전이가 성공할 때까지 반복.
+     * decide는 주어진 버전으로 득표를 세고 전이까지 시도한다 (실패 시 false).
+     * 실패 후 모임이 아직 from 상태면 새 버전으로 다시, 아니면 (다른 경로가 처리) 종료.
+     * 판정 사이마다 투표가 커밋돼 MAX_DECIDE_ATTEMPTS회 모두 실패하면 claim 만료 후 다음 스캔이 다시 처리한다.
+     */
+    private void decideUntilStable(Gathering gathering, GatheringStatus from, LongPredicate decide) {
+        long version = gathering.getVersion();
+        for (int attempt = 1; attempt <= MAX_DECIDE_ATTEMPTS; attempt++) {
+            if (decide.test(version)) {
+                return;
+            }
+            Optional<Long> current = gatheringRepository.findVersionByIdAndStatus(gathering.getId(), from);
+            if (current.isEmpty()) {
+                log.info("[자동확정] 이미 처리됨 - 스킵 (id={})", gathering.getId());
+                return;
+            }
+            log.info("[자동확정] 판정 후 버전 변경 {} → {} - 다시 판정 (id={})", version, current.get(), gathering.getId());
+            version = current.get();
+        }
+        log.warn("[자동확정] 투표가 계속 바뀌어 {}회 판정 후 보류 - id={}", MAX_DECIDE_ATTEMPTS, gathering.getId());
+    }
+
+    /** 확정 지연 (실제 처리 시각 - 처리 예정 시각) */
+    private void recordLag(Instant dueAt, String type) {
+        meterRegistry.timer("moim.deadline.confirm.lag", "type", type)
+                .record(Duration.between(dueAt, Instant.now()));
     }
 
     /**
@@ -349,13 +531,12 @@ public class ConfirmService {
      * - isTied=true  → tiedCandidateIds에 동점 후보 ID 목록
      *
      * 알고리즘:
-     * 1. DB에서 후보별 득표수 조회 (GROUP BY)
+     * 1. 집계 스냅샷의 후보별 득표수
      * 2. 최대 득표수 계산
      * 3. 최대 득표수를 가진 후보가 2개 이상이면 동점
      */
-    private VoteResult findTopCandidate(Gathering gathering, CandidateType type) {
-        // DB 쿼리: SELECT candidate_id, COUNT(*) FROM vote GROUP BY candidate_id
-        List<Object[]> voteCounts = voteRepository.countByGatheringAndType(gathering.getId(), type);
+    private VoteResult findTopCandidate(VoteTally tally, CandidateType type) {
+        Map<Long, Long> voteCounts = tally.getVoteCounts(type);
 
         if (voteCounts.isEmpty()) {
             // 해당 타입에 투표가 하나도 없음 → 선등록 후보로 폴백
@@ -363,15 +544,15 @@ public class ConfirmService {
         }
 
         // 최대 득표수
-        long maxVotes = voteCounts.stream()
-                .mapToLong(row -> (Long) row[1])
+        long maxVotes = voteCounts.values().stream()
+                .mapToLong(Long::longValue)
                 .max()
                 .orElse(0);
 
         // 최대 득표수를 가진 후보 ID 수집
-        List<Long> topIds = voteCounts.stream()
-                .filter(row -> (Long) row[1] == maxVotes)
-                .map(row -> (Long) row[0])
+        List<Long> topIds = voteCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() == maxVotes)
+                .map(Map.Entry::getKey)
                 .toList();
 
         if (topIds.size() == 1) {
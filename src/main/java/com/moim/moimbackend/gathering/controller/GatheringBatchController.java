@@ -0,0 +1,47 @@
+package com.moim.moimbackend.gathering.controller;
+
+import com.moim.moimbackend.gathering.dto.BatchCreateGatheringRequest;
+import com.moim.moimbackend.gathering.dto.BatchCreateGatheringResponse;
+import com.moim.moimbackend.gathering.service.GatheringService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 모임 일괄 처리 API 컨트롤러.
+ * <p>
+ * 담당 엔드포인트:
+ * - POST /api/v1/gatherings:batch → 모임 일괄 생성
+ *
+ * 커스텀 메서드 형식(":batch")은 클래스 prefix와 합치면 "/gatherings/:batch"가 되므로
+ * GatheringController와 분리해서 prefix를 "/api/v1"로 둔다.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class GatheringBatchController {
+
+    private final GatheringService gatheringService;
+
+    /**
+     * 모임 일괄 생성.
+     * 하나라도 검증에 실패하면 전체가 저장되지 않는다 (400 + 몇 번째 항목인지 메시지).
+     *
+     * @return 201 Created + 요청 순서대로 { shareCode, adminToken, shareUrl, deadline } 목록
+     */
+    @PostMapping("/gatherings:batch")
+    public ResponseEntity<BatchCreateGatheringResponse> createGatherings(
+            @Valid @RequestBody BatchCreateGatheringRequest request) {
+        BatchCreateGatheringResponse response =
+                new BatchCreateGatheringResponse(gatheringService.createGatherings(request.getGatherings()));
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(response);
+    }
+}
@@ -1,21 +1,24 @@
 package com.moim.moimbackend.gathering.controller;
 
+import com.moim.moimbackend.common.cache.JsonResponseCache;
+import com.moim.moimbackend.common.cache.JsonResponseCache.CachedJson;
 import com.moim.moimbackend.gathering.dto.CreateGatheringRequest;
 import com.moim.moimbackend.gathering.dto.CreateGatheringResponse;
-import com.moim.moimbackend.gathering.dto.GatheringDetailResponse;
 import com.moim.moimbackend.gathering.service.GatheringService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 모임 REST API 컨트롤러.
  * <p>
  * 담당 엔드포인트:
  * - POST /api/v1/gatherings        → 모임 생성 (①)
- * - GET  /api/v1/gatherings/{code}  → 모임 조회 (②)
+ * - GET  /api/v1/gatherings/{code}  → 모임 조회 (②, ETag 지원)
  *
  * @RestController: JSON 응답 자동 직렬화
  * @RequestMapping: 모든 엔드포인트의 공통 prefix
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class GatheringController {
 
     private final GatheringService gatheringService;
+    private final JsonResponseCache responseCache;
 
     /**
      * ① 모임 생성.
@@ -49,16 +53,26 @@ public class GatheringController {
      * ② 모임 상세 조회 (공개).
      * <p>
      * 인증 불필요 — 링크를 가진 누구나 조회 가능.
+     * 모임 변경 버전을 ETag로 내려주고, If-None-Match가 같으면 304로 응답.
+     * 본문은 버전별로 직렬화된 JSON 바이트를 캐시해서 재사용 (JsonResponseCache).
      *
-     * @return 200 OK + 모임 정보 (후보 목록 + 득표수 포함)
+     * @return 200 OK + 모임 정보 (후보 목록 + 득표수 포함), 변경 없으면 304 Not Modified
      * @PathVariable: URL의 {shareCode} 부분을 파라미터로 매핑
      */
     @GetMapping("/{shareCode}")
-    public ResponseEntity<GatheringDetailResponse> getGathering(
-            @PathVariable String shareCode) {
+    public ResponseEntity<byte[]> getGathering(
+            @PathVariable String shareCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
 
-        GatheringDetailResponse response = gatheringService.getGathering(shareCode);
+        // 버전 1개만 조회해서 변경 여부 판단
+        long version = gatheringService.getVersion(shareCode);
+        if (webRequest.checkNotModified(JsonResponseCache.eTag(version))) {
+            return null;  // 304 Not Modified (본문 없음)
+        }
 
-        return ResponseEntity.ok(response);
+        CachedJson body = responseCache.get(shareCode, "detail", version,
+                () -> gatheringService.getGathering(shareCode));
+        return responseCache.toResponse(body, acceptEncoding);
     }
-}
\ No newline at end of file
+}
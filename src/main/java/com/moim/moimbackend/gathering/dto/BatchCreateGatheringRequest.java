@@ -0,0 +1,24 @@
+package com.moim.moimbackend.gathering.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 모임 일괄 생성 요청 DTO.
+ *
+ * POST /api/v1/gatherings:batch 의 Request Body.
+ * 각 항목은 단건 생성(CreateGatheringRequest)과 같은 규칙으로 검증된다.
+ */
+@Getter
+@Setter
+public class BatchCreateGatheringRequest {
+
+    @NotEmpty(message = "생성할 모임을 1개 이상 보내주세요.")
+    @Size(max = 300, message = "한 번에 최대 300개까지 생성할 수 있습니다.")
+    private List<@Valid CreateGatheringRequest> gatherings;
+}
@@ -0,0 +1,20 @@
+package com.moim.moimbackend.gathering.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 모임 일괄 생성 API 응답 DTO.
+ *
+ * POST /api/v1/gatherings:batch → 201 Created
+ * gatherings는 요청 순서와 같다 (i번째 요청 → i번째 응답).
+ * 각 adminToken은 단건 생성과 마찬가지로 이 응답에서만 1회 반환.
+ */
+@Getter
+@AllArgsConstructor
+public class BatchCreateGatheringResponse {
+
+    private List<CreateGatheringResponse> gatherings;
+}
@@ -3,6 +3,7 @@ package com.moim.moimbackend.gathering.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -36,9 +37,11 @@ public class GatheringDetailResponse {
     private int participantCount;
 
     // === 내부 응답 아이템 ===
+    // 상세 조회는 DB가 만든 후보 JSON을 이 타입으로 바로 읽는다 (@Jacksonized → 빌더로 역직렬화)
 
     @Getter
     @Builder
+    @Jacksonized
     @AllArgsConstructor
     public static class TimeCandidateItem {
         private Long id;
@@ -50,6 +53,7 @@ public class GatheringDetailResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     @AllArgsConstructor
     public static class PlaceCandidateItem {
         private Long id;
@@ -0,0 +1,34 @@
+package com.moim.moimbackend.gathering.dto;
+
+/**
+ * 모임 상세 조회용 읽기 모델 (GatheringRepository.findDetailByShareCode 결과 1행).
+ *
+ * 엔티티/후보 컬렉션을 로드하지 않고, 상세 화면에 필요한 값을 SQL 한 문장으로 받는다.
+ * 후보 목록은 득표수를 포함한 JSON 배열 문자열이다 (DB에서 json_agg로 조립).
+ * 키와 값 형식이 GatheringDetailResponse의 후보 아이템과 같아서 그대로 역직렬화한다:
+ * - timeCandidates: [{id, date, startTime, endTime, voteCount}, ...]
+ * - placeCandidates: [{id, name, mapLink, memo, estCost, travelMin, moodTags(배열), voteCount}, ...]
+ */
+public interface GatheringDetailView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getHostName();
+
+    String getDescription();
+
+    String getType();
+
+    String getStatus();
+
+    /** 마감 시각 (epoch 마이크로초, timestamptz 정밀도 그대로) */
+    Long getDeadlineMicros();
+
+    String getTimeCandidates();
+
+    String getPlaceCandidates();
+
+    Long getParticipantCount();
+}
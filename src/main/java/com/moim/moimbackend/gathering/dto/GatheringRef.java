@@ -0,0 +1,30 @@
+package com.moim.moimbackend.gathering.dto;
+
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.entity.GatheringType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 공유 코드로 찾은 모임의 최소 정보 (읽기 전용).
+ *
+ * 투표/확정 API는 대부분 "ID, 상태 확인, 관리 토큰 검증"만 필요하다.
+ * Gathering 엔티티 전체 대신 이 값만 조회/캐시한다 (GatheringRefCache).
+ */
+@Getter
+@AllArgsConstructor
+public class GatheringRef {
+
+    private final Long id;
+    private final String shareCode;
+    private final GatheringStatus status;
+    private final GatheringType type;
+    private final Instant deadline;
+    /**
+     * 관리 토큰 SHA-256 해시 (64자리 hex).
+     * DB에서 읽은 경우에만 채워지고 캐시 적중이면 null → 검증은 GatheringRefCache.matchesAdminToken.
+     */
+    private final String adminTokenHash;
+}
@@ -2,6 +2,8 @@ package com.moim.moimbackend.gathering.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -25,7 +27,9 @@ import java.util.List;
 public class Gathering {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)  // PostgreSQL의 BIGSERIAL 자동 증가
+    // 시퀀스 50개 단위 선할당 (pooled) → INSERT 전에 ID를 알 수 있어 JDBC 배치 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gathering_id_seq")
+    @SequenceGenerator(name = "gathering_id_seq", sequenceName = "gathering_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -69,6 +73,17 @@ public class Gathering {
     @Builder.Default
     private GatheringStatus status = GatheringStatus.VOTING;
 
+    /**
+     * 변경 버전 (ETag 값).
+     * 투표 참여/변경, 상태 전이마다 1씩 증가.
+     *
+     * 증가는 항상 GatheringRepository의 UPDATE 쿼리(transitionStatus, incrementVersionIfVoting)로 DB에서 원자적으로 수행한다.
+     * insertable/updatable=false: 엔티티 저장(merge) 시 오래된 값으로 덮어쓰지 않도록 JPA 쓰기 대상에서 제외.
+     * (JPA @Version 낙관적 락과는 무관)
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private Instant createdAt = Instant.now();
@@ -83,13 +98,17 @@ public class Gathering {
      * 시간 후보 목록 (1:N).
      * cascade ALL: Gathering 저장 시 TimeCandidate도 함께 저장/삭제
      * orphanRemoval: 리스트에서 제거된 후보는 DB에서도 삭제
+     * @Cache: 후보는 생성 후 바뀌지 않으므로 컬렉션(후보 ID 목록)도 2차 캐시에 둔다
+     *         → 조회마다 나가던 후보 SELECT가 캐시 적중 시 사라짐
      */
     @OneToMany(mappedBy = "gathering", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
     @Builder.Default
     private List<TimeCandidate> timeCandidates = new ArrayList<>();
 
-    /** 장소 후보 목록 (1:N). */
+    /** 장소 후보 목록 (1:N). 시간 후보와 동일하게 컬렉션 캐시 사용. */
     @OneToMany(mappedBy = "gathering", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
     @Builder.Default
     private List<PlaceCandidate> placeCandidates = new ArrayList<>();
 
@@ -2,8 +2,15 @@ package com.moim.moimbackend.gathering.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 장소 후보 엔티티 — DB의 place_candidate 테이블과 매핑.
@@ -15,6 +22,9 @@ import java.time.Instant;
  */
 @Entity
 @Table(name = "place_candidate")
+@Immutable                                              // 생성 후 변경 없음 → UPDATE 대상에서 제외
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)      // 2차 캐시 (ehcache.xml의 같은 이름 region)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,7 +33,8 @@ import java.time.Instant;
 public class PlaceCandidate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "place_candidate_id_seq")
+    @SequenceGenerator(name = "place_candidate_id_seq", sequenceName = "place_candidate_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -50,10 +61,16 @@ public class PlaceCandidate {
     @Column(name = "travel_min")
     private Integer travelMin;
 
-    /** 분위기 태그 (쉼표 구분, 예: "조용한,분위기좋은"). Should 기능. */
+    /** 분위기 태그 입력 원문 (쉼표 구분, 예: "조용한,분위기좋은"). Should 기능. */
     @Column(name = "mood_tags", length = 200)
     private String moodTags;
 
+    /** 분위기 태그 배열 (생성 시 moodTags를 나눠서 저장, 상세 조회는 이 컬럼을 읽음 — V8) */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "mood_tag_list", nullable = false)
+    @Builder.Default
+    private List<String> moodTagList = new ArrayList<>();
+
     @Column(name = "display_order", nullable = false)
     @Builder.Default
     private Integer displayOrder = 0;
@@ -2,6 +2,9 @@ package com.moim.moimbackend.gathering.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -17,6 +20,9 @@ import java.time.LocalTime;
  */
 @Entity
 @Table(name = "time_candidate")
+@Immutable                                              // 생성 후 변경 없음 → UPDATE 대상에서 제외
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)      // 2차 캐시 (ehcache.xml의 같은 이름 region)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,7 +31,8 @@ import java.time.LocalTime;
 public class TimeCandidate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_candidate_id_seq")
+    @SequenceGenerator(name = "time_candidate_id_seq", sequenceName = "time_candidate_id_seq", allocationSize = 50)
     private Long id;
 
     /**
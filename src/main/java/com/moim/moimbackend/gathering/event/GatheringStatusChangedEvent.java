@@ -0,0 +1,22 @@
+package com.moim.moimbackend.gathering.event;
+
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 모임 상태 전이 이벤트.
+ *
+ * ConfirmService가 VOTING → TIEBREAK / CONFIRMED / EXPIRED 전환 시 발행.
+ * 커밋 이후 캐시 제거 등 후처리에 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class GatheringStatusChangedEvent {
+
+    private final Long gatheringId;
+    private final String shareCode;
+    private final GatheringStatus status;
+    /** 상태 전이로 증가한 모임의 변경 버전 */
+    private final long version;
+}
@@ -1,10 +1,16 @@
 package com.moim.moimbackend.gathering.repository;
 
+import com.moim.moimbackend.gathering.dto.GatheringDetailView;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
 import com.moim.moimbackend.gathering.entity.Gathering;
 import com.moim.moimbackend.gathering.entity.GatheringStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,16 +32,262 @@ public interface GatheringRepository extends JpaRepository<Gathering, Long> {
     Optional<Gathering> findByShareCode(String shareCode);
 
     /**
-     * 공유 코드 존재 여부 확인.
-     * 새 코드 생성 시 중복 체크용.
-     * → SELECT EXISTS(SELECT 1 FROM gathering WHERE share_code = ?)
+     * 공유 코드로 모임의 최소 정보만 조회 (후보 컬렉션 등 엔티티 로딩 없음).
+     * GatheringRefCache 미스 시 사용.
      */
-    boolean existsByShareCode(String shareCode);
+    @Query("SELECT new com.moim.moimbackend.gathering.dto.GatheringRef(" +
+            "g.id, g.shareCode, g.status, g.type, g.deadline, g.adminTokenHash) " +
+            "FROM Gathering g WHERE g.shareCode = :shareCode")
+    Optional<GatheringRef> findRefByShareCode(@Param("shareCode") String shareCode);
 
     /**
-     * 특정 상태이면서 마감 시각이 지난 모임 목록 조회.
-     * 스케줄러에서 1분마다 호출: "VOTING 상태인데 deadline이 지난 모임" 찾기.
-     * → SELECT * FROM gathering WHERE status = ? AND deadline < ?
+     * 모임 상세 화면 조회 (SQL 한 문장).
+     *
+     * 엔티티 경로는 모임 SELECT → 시간/장소 후보 컬렉션 → 후보별 득표 집계 → 참여자 수로 왕복이 여러 번이다.
+     * - g: 공유 코드로 모임 1건
+     * - votes: 모임의 (후보 타입, 후보)별 득표수 (idx_vote_gathering_type)
+     * - 후보 목록은 득표수를 붙여 json_agg로 한 열에 담는다 (등록 순서)
+     * - 후보 JSON의 키/값 형식은 GatheringDetailResponse 아이템과 같다 → 서비스에서 바로 역직렬화
+     *   (시각은 LocalTime.toString과 같은 "19:00", 초가 있을 때만 "19:00:30")
+     * - 분위기 태그는 생성 시 정규화한 배열 컬럼(mood_tag_list, V8)을 그대로 쓴다
+     * 모든 값이 한 스냅샷에서 읽히므로 후보 득표수와 참여자 수가 서로 어긋나지 않는다.
      */
-    List<Gathering> findByStatusAndDeadlineBefore(GatheringStatus status, Instant deadline);
+    @Query(value = "WITH g AS (" +
+            "  SELECT id, title, host_name, description, type, status, deadline" +
+            "  FROM gathering WHERE share_code = :shareCode" +
+            "), votes AS (" +
+            "  SELECT v.candidate_type, v.candidate_id, COUNT(*) AS vote_count" +
+            "  FROM vote v JOIN g ON v.gathering_id = g.id" +
+            "  GROUP BY v.candidate_type, v.candidate_id" +
+            ") " +
+            "SELECT g.id AS \"id\", g.title AS \"title\", g.host_name AS \"hostName\"," +
+            "       g.description AS \"description\", g.type AS \"type\", g.status AS \"status\"," +
+            "       CAST(EXTRACT(EPOCH FROM g.deadline) * 1000000 AS BIGINT) AS \"deadlineMicros\"," +
+            "       CAST((SELECT COALESCE(json_agg(json_build_object(" +
+            "                'id', tc.id, 'date', tc.candidate_date," +
+            "                'startTime', to_char(tc.start_time," +
+            "                    CASE WHEN EXTRACT(SECOND FROM tc.start_time) = 0 THEN 'HH24:MI' ELSE 'HH24:MI:SS' END)," +
+            "                'endTime', to_char(tc.end_time," +
+            "                    CASE WHEN EXTRACT(SECOND FROM tc.end_time) = 0 THEN 'HH24:MI' ELSE 'HH24:MI:SS' END)," +
+            "                'voteCount', COALESCE(vt.vote_count, 0)) ORDER BY tc.display_order, tc.id), '[]')" +
+            "        FROM time_candidate tc" +
+            "        LEFT JOIN votes vt ON vt.candidate_type = 'TIME' AND vt.candidate_id = tc.id" +
+            "        WHERE tc.gathering_id = g.id) AS TEXT) AS \"timeCandidates\"," +
+            "       CAST((SELECT COALESCE(json_agg(json_build_object(" +
+            "                'id', pc.id, 'name', pc.name, 'mapLink', pc.map_link, 'memo', pc.memo," +
+            "                'estCost', pc.est_cost, 'travelMin', pc.travel_min," +
+            "                'moodTags', pc.mood_tag_list," +
+            "                'voteCount', COALESCE(vp.vote_count, 0)) ORDER BY pc.display_order, pc.id), '[]')" +
+            "        FROM place_candidate pc" +
+            "        LEFT JOIN votes vp ON vp.candidate_type = 'PLACE' AND vp.candidate_id = pc.id" +
+            "        WHERE pc.gathering_id = g.id) AS TEXT) AS \"placeCandidates\"," +
+            "       (SELECT COUNT(*) FROM participant p WHERE p.gathering_id = g.id) AS \"participantCount\" " +
+            "FROM g",
+            nativeQuery = true)
+    Optional<GatheringDetailView> findDetailByShareCode(@Param("shareCode") String shareCode);
+
+    /**
+     * 공유 코드 시퀀스 블록의 시작 값 (INCREMENT BY 1000 → 시작 값부터 1000개를 호출한 노드가 사용).
+     * ShareCodeAllocator에서 블록을 다 썼을 때만 호출.
+     */
+    @Query(value = "SELECT nextval('share_code_seq')", nativeQuery = true)
+    long nextShareCodeBlock();
+
+    /**
+     * 공유 코드 시퀀스의 증가폭 = 블록 크기 (V5의 INCREMENT BY).
+     * 설정값을 따로 두면 시퀀스와 어긋났을 때 노드 간 코드가 겹치므로, 시퀀스 정의에서 직접 읽는다.
+     */
+    @Query(value = "SELECT increment_by FROM pg_sequences " +
+            "WHERE schemaname = current_schema() AND sequencename = 'share_code_seq'",
+            nativeQuery = true)
+    Optional<Long> findShareCodeBlockSize();
+
+    /**
+     * 후보 코드 중 이미 쓰인 공유 코드 (이전 방식의 무작위 코드와 겹치는지 확인).
+     * 새 블록을 받을 때 블록 전체를 1회 조회한다.
+     */
+    @Query("SELECT g.shareCode FROM Gathering g WHERE g.shareCode IN :shareCodes")
+    List<String> findExistingShareCodes(@Param("shareCodes") Collection<String> shareCodes);
+
+    /**
+     * 특정 상태이면서 마감 시각이 지난 모임 수.
+     * 정리 스캔 시작 시 밀린 건수(backlog) 메트릭용.
+     */
+    long countByStatusAndDeadlineBefore(GatheringStatus status, Instant deadline);
+
+    /**
+     * 마감 지난 모임을 최대 limit건 claim (여러 인스턴스가 밀린 모임을 나눠 가짐).
+     *
+     * FOR UPDATE SKIP LOCKED: 다른 인스턴스가 같은 순간 잠근 행은 기다리지 않고 건너뛴다.
+     * 잠근 행에 노드 ID + 만료 시각(DB 시각 기준)을 기록하고 커밋하면,
+     * 만료 전까지는 다른 인스턴스의 claim 대상에서 빠진다 → 같은 모임을 두 인스턴스가 처리하지 않는다.
+     * 처리 도중 죽은 인스턴스의 claim은 만료되면 다시 대상이 된다.
+     * (deadline, id) 순으로 가져가므로 오래 밀린 모임부터 처리된다.
+     *
+     * @return claim한 모임 ID (없으면 빈 목록)
+     */
+    @Transactional
+    @Query(value = "UPDATE gathering SET claimed_by = :node, " +
+            "claim_expires_at = NOW() + :leaseMillis * INTERVAL '1 millisecond' " +
+            "WHERE id IN (SELECT id FROM gathering " +
+            "WHERE status = :status AND deadline < :before " +
+            "AND (claim_expires_at IS NULL OR claim_expires_at < NOW()) " +
+            "ORDER BY deadline, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id",
+            nativeQuery = true)
+    List<Long> claimDue(@Param("status") String status,
+                        @Param("before") Instant before,
+                        @Param("node") String node,
+                        @Param("leaseMillis") long leaseMillis,
+                        @Param("limit") int limit);
+
+    /**
+     * 모임 1건 claim (마감 타이머용).
+     * 아직 해당 상태이고 다른 인스턴스의 claim이 없거나 만료됐을 때만 성공.
+     *
+     * @return 모임 ID, 다른 인스턴스가 처리 중이거나 이미 처리됐으면 empty
+     */
+    @Transactional
+    @Query(value = "UPDATE gathering SET claimed_by = :node, " +
+            "claim_expires_at = NOW() + :leaseMillis * INTERVAL '1 millisecond' " +
+            "WHERE id = :id AND status = :status " +
+            "AND (claim_expires_at IS NULL OR claim_expires_at < NOW()) " +
+            "RETURNING id",
+            nativeQuery = true)
+    Optional<Long> claimOne(@Param("id") Long id,
+                            @Param("status") String status,
+                            @Param("node") String node,
+                            @Param("leaseMillis") long leaseMillis);
+
+    /**
+     * 특정 상태이면서 마감 시각이 [from, to) 구간인 모임의 (ID, 마감 시각)만 조회.
+     * 마감 타이머가 곧 다가올 마감을 미리 등록할 때 사용 (엔티티/후보 로딩 없음).
+     * 오래 밀린 마감은 구간 밖 → 정리 스캔(DeadlineScheduler)이 페이지 단위로 처리.
+     * Object[0]=id, Object[1]=deadline
+     */
+    @Query("SELECT g.id, g.deadline FROM Gathering g " +
+            "WHERE g.status = :status AND g.deadline >= :from AND g.deadline < :to")
+    List<Object[]> findIdAndDeadlineByStatusAndDeadlineBetween(@Param("status") GatheringStatus status,
+                                                               @Param("from") Instant from,
+                                                               @Param("to") Instant to);
+
+    /**
+     * 공유 코드로 변경 버전만 조회 (ETag 비교용).
+     * 폴링 요청마다 호출되므로 엔티티 대신 컬럼 1개만 읽는다.
+     * → SELECT version FROM gathering WHERE share_code = ?
+     */
+    @Query("SELECT g.version FROM Gathering g WHERE g.shareCode = :shareCode")
+    Optional<Long> findVersionByShareCode(@Param("shareCode") String shareCode);
+
+    /**
+     * 모임 ID로 변경 버전만 조회.
+     * 공유 코드를 GatheringRefCache로 ID까지 해석한 뒤 PK로 읽는다.
+     * → SELECT version FROM gathering WHERE id = ?
+     */
+    @Query("SELECT g.version FROM Gathering g WHERE g.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 모임이 아직 해당 상태일 때만 변경 버전 조회.
+     * 자동 확정이 버전 조건 전이에 실패했을 때 다시 판정할지 정하는 데 사용 (empty → 이미 다른 경로가 처리).
+     */
+    @Query("SELECT g.version FROM Gathering g WHERE g.id = :id AND g.status = :status")
+    Optional<Long> findVersionByIdAndStatus(@Param("id") Long id, @Param("status") GatheringStatus status);
+
+    /**
+     * 상태 전이 (compare-and-set) + 변경 버전 1 증가.
+     * 현재 상태가 from일 때만 to로 바꾼다. 동시에 여러 경로(스케줄러/주최자)가 시도하면
+     * 행 잠금 후 조건을 다시 평가하므로 하나만 성공한다.
+     * UPDATE ... RETURNING으로 전이와 버전 조회를 1회 왕복에 처리.
+     *
+     * @return 새 버전, 상태가 from이 아니었으면 empty
+     */
+    @Transactional
+    @Query(value = "UPDATE gathering SET status = :to, version = version + 1, updated_at = NOW() " +
+            "WHERE id = :id AND status = :from RETURNING version",
+            nativeQuery = true)
+    Optional<Long> transitionStatus(@Param("id") Long id,
+                                    @Param("from") String from,
+                                    @Param("to") String to);
+
+    /**
+     * 버전 조건 상태 전이 (자동 확정/자동 해소용).
+     * 상태가 from이고 버전이 판정에 쓴 버전(expectedVersion) 그대로일 때만 바꾼다.
+     * 득표를 센 뒤 투표가 커밋됐으면 (incrementVersionIfVoting으로 버전 증가) 전이하지 않는다
+     * → 호출 측이 새 버전으로 다시 판정. 행을 미리 잠그지 않는다.
+     *
+     * @return 새 버전, 상태나 버전이 달랐으면 empty
+     */
+    @Transactional
+    @Query(value = "UPDATE gathering SET status = :to, version = version + 1, updated_at = NOW() " +
+            "WHERE id = :id AND status = :from AND version = :expectedVersion RETURNING version",
+            nativeQuery = true)
+    Optional<Long> transitionStatus(@Param("id") Long id,
+                                    @Param("from") String from,
+                                    @Param("to") String to,
+                                    @Param("expectedVersion") long expectedVersion);
+
+    /**
+     * VOTING 상태일 때만 변경 버전 1 증가 (투표 쓰기 경로용).
+     * 상태를 캐시에서 읽었더라도, 그 사이 확정/만료됐으면 여기서 걸러진다 (행 잠금 후 재평가).
+     *
+     * @return 새 버전, VOTING이 아니면 empty
+     */
+    @Transactional
+    @Query(value = "UPDATE gathering SET version = version + 1 " +
+            "WHERE id = :id AND status = 'VOTING' RETURNING version",
+            nativeQuery = true)
+    Optional<Long> incrementVersionIfVoting(@Param("id") Long id);
+
+    /**
+     * 마감 지난 모임 묶음을 SQL 한 문장으로 자동 확정 (1위가 분명한 모임 + 참여자 0명 모임).
+     *
+     * ConfirmService.autoConfirm()의 판정을 집합 단위로 옮긴 것:
+     * - due: 아직 VOTING + 마감 경과, 참여자 수, 판정 버전
+     * - ranked: (모임, 타입, 후보)별 득표수에 RANK() → 1위 후보 수가 2 이상이면 동점
+     * - decided: 동점이 없는 모임만. 참여자 0명 → EXPIRED, 그 외 → CONFIRMED
+     *   (해당 타입 투표가 없거나 1위가 모임의 후보가 아니면 null, 엔티티 경로와 동일)
+     * - updated: 상태 전이 (버전 조건 transitionStatus와 같은 조건부 UPDATE, 아직 VOTING이고 버전이 due 그대로인 행만)
+     * - 전이에 성공한 CONFIRMED 모임만 confirmed_result를 한 번에 INSERT
+     * 동점 모임은 건드리지 않는다 → 호출 측이 엔티티 경로(TIEBREAK)로 처리.
+     *
+     * 모든 CTE는 문장 시작 시점의 스냅샷에서 득표를 읽는다. 그 사이 투표가 커밋되면 (행 잠금을 기다린 뒤)
+     * UPDATE가 새 행의 버전으로 조건을 다시 평가해서 그 모임은 건너뛴다 → 호출 측이 엔티티 경로로 다시 판정.
+     *
+     * @return 전이된 모임별 [id, share_code, status, version, deadline(epoch millis)]
+     */
+    @Transactional
+    @Query(value = "WITH due AS (" +
+            "  SELECT g.id, g.type, g.version, (SELECT COUNT(*) FROM participant p WHERE p.gathering_id = g.id) AS participants" +
+            "  FROM gathering g" +
+            "  WHERE g.id IN (:ids) AND g.status = 'VOTING' AND g.deadline <= NOW()" +
+            "), ranked AS (" +
+            "  SELECT v.gathering_id, v.candidate_type, v.candidate_id," +
+            "         RANK() OVER (PARTITION BY v.gathering_id, v.candidate_type ORDER BY COUNT(*) DESC) AS rnk" +
+            "  FROM vote v JOIN due d ON d.id = v.gathering_id" +
+            "  GROUP BY v.gathering_id, v.candidate_type, v.candidate_id" +
+            "), top AS (" +
+            "  SELECT gathering_id, candidate_type, MIN(candidate_id) AS candidate_id, COUNT(*) AS top_count" +
+            "  FROM ranked WHERE rnk = 1 GROUP BY gathering_id, candidate_type" +
+            "), decided AS (" +
+            "  SELECT d.id, d.version, d.participants," +
+            "         (SELECT tc.id FROM time_candidate tc WHERE tc.id = tt.candidate_id AND tc.gathering_id = d.id) AS time_id," +
+            "         (SELECT pc.id FROM place_candidate pc WHERE pc.id = tp.candidate_id AND pc.gathering_id = d.id) AS place_id" +
+            "  FROM due d" +
+            "  LEFT JOIN top tt ON tt.gathering_id = d.id AND tt.candidate_type = 'TIME' AND d.type <> 'PLACE_ONLY'" +
+            "  LEFT JOIN top tp ON tp.gathering_id = d.id AND tp.candidate_type = 'PLACE' AND d.type <> 'TIME_ONLY'" +
+            "  WHERE d.participants = 0 OR (COALESCE(tt.top_count, 0) <= 1 AND COALESCE(tp.top_count, 0) <= 1)" +
+            "), updated AS (" +
+            "  UPDATE gathering g SET status = CASE WHEN d.participants = 0 THEN 'EXPIRED' ELSE 'CONFIRMED' END," +
+            "         version = g.version + 1, updated_at = NOW()" +
+            "  FROM decided d" +
+            "  WHERE g.id = d.id AND g.status = 'VOTING' AND g.version = d.version" +
+            "  RETURNING g.id, g.share_code, g.status, g.version, g.deadline, d.time_id, d.place_id" +
+            "), inserted AS (" +
+            "  INSERT INTO confirmed_result (gathering_id, time_candidate_id, place_candidate_id, confirmed_at, confirmed_by)" +
+            "  SELECT id, time_id, place_id, NOW(), 'AUTO' FROM updated WHERE status = 'CONFIRMED'" +
+            ") " +
+            "SELECT id, share_code, status, version, CAST(EXTRACT(EPOCH FROM deadline) * 1000 AS BIGINT) FROM updated",
+            nativeQuery = true)
+    List<Object[]> confirmClearWinners(@Param("ids") List<Long> ids);
 }
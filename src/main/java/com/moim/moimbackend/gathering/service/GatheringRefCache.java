@@ -0,0 +1,345 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.common.security.TokenHashUtil;
+import com.moim.moimbackend.common.util.ShareCodeGenerator;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.entity.GatheringType;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공유 코드 → 모임 최소 정보(GatheringRef) 캐시.
+ *
+ * 투표/확정 API는 모두 shareCode로 시작하는데, 필요한 건 ID·상태·타입·마감·관리 토큰 해시뿐이다.
+ * 매 요청 Gathering 엔티티를 로드하는 대신 이 값만 메모리에 유지한다.
+ *
+ * 구조 (객체 대신 원시 배열):
+ * - 키: 6자리 base62 코드를 long으로 압축 (ShareCodeGenerator.pack)
+ * - open addressing + linear probing, 삭제는 backward shift (tombstone 없음)
+ * - 필드별 병렬 배열: 슬롯당 약 67바이트 (long 4개 + byte 3개 + 토큰 해시 32바이트)
+ *   → 100만 건이면 2^21 슬롯 ≈ 140MB, 기본 10만 건이면 2^18 슬롯 ≈ 18MB
+ *
+ * 크기 제한: max-entries를 넘으면 CLOCK(second chance)으로 최근 조회되지 않은 항목부터 제거.
+ * max-entries가 0 이하면 캐시를 끈다 (매번 DB 조회, 테이블은 최소 크기로만 할당).
+ *
+ * 최신성:
+ * - 상태 전이는 커밋 이후 GatheringStatusChangedEvent로 제자리 갱신
+ * - 다른 인스턴스의 변경은 TTL(기본 60초) 후 다시 로드
+ * - VOTING인데 마감이 지난 항목은 곧 상태가 바뀔 수 있으므로 캐시를 쓰지 않는다
+ * - 투표 쓰기는 incrementVersionIfVoting으로 DB에서 상태를 다시 확인하므로, 오래된 상태로 투표가 들어가지 않는다
+ */
+@Slf4j
+@Component
+public class GatheringRefCache {
+
+    private static final GatheringStatus[] STATUSES = GatheringStatus.values();
+    private static final GatheringType[] TYPES = GatheringType.values();
+    private static final HexFormat HEX = HexFormat.of();
+
+    /** SHA-256 = 32바이트 */
+    private static final int HASH_BYTES = 32;
+    /** 빈 슬롯 (키는 pack + 1로 저장하므로 0은 쓰이지 않음) */
+    private static final long EMPTY = 0L;
+
+    private final GatheringRepository gatheringRepository;
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final int mask;
+    private final long[] keys;
+    private final long[] ids;
+    private final long[] deadlines;
+    private final long[] loadedAt;
+    private final byte[] statuses;
+    private final byte[] types;
+    /** CLOCK 참조 비트 (조회 시 1, 제거 후보 탐색 시 0으로 내림) */
+    private final byte[] referenced;
+    private final byte[] tokenHashes;
+
+    private int size;
+    private int hand;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GatheringRefCache(GatheringRepository gatheringRepository,
+                             @Value("${moim.gathering-cache.max-entries:100000}") int maxEntries,
+                             @Value("${moim.gathering-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.gatheringRepository = gatheringRepository;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+
+        // 적재율 75% 이하가 되도록 2의 거듭제곱 크기로 할당
+        int capacity = Integer.highestOneBit(Math.max(16, maxEntries * 4 / 3) - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.ids = new long[capacity];
+        this.deadlines = new long[capacity];
+        this.loadedAt = new long[capacity];
+        this.statuses = new byte[capacity];
+        this.types = new byte[capacity];
+        this.referenced = new byte[capacity];
+        this.tokenHashes = new byte[capacity * HASH_BYTES];
+    }
+
+    /**
+     * 공유 코드로 모임 최소 정보 조회.
+     * 캐시 미스면 필요한 컬럼만 조회해서 저장한다.
+     */
+    public GatheringRef resolve(String shareCode) {
+        long packed = ShareCodeGenerator.pack(shareCode);
+        if (packed >= 0) {
+            GatheringRef cached = lookup(packed + 1, shareCode);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        GatheringRef ref = gatheringRepository.findRefByShareCode(shareCode)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+        if (packed >= 0) {
+            put(packed + 1, ref);
+        }
+        return ref;
+    }
+
+    /**
+     * 관리 토큰 검증 (주최자 API).
+     * 캐시 적중으로 받은 ref에는 해시 문자열이 없으므로 슬롯에 저장된 32바이트와 바로 비교한다.
+     * resolve 이후 항목이 제거됐으면 DB에서 해시를 다시 읽는다 (드묾).
+     */
+    public boolean matchesAdminToken(GatheringRef ref, String rawToken) {
+        if (ref.getAdminTokenHash() != null) {
+            return TokenHashUtil.matches(rawToken, ref.getAdminTokenHash());  // DB에서 읽은 ref
+        }
+        byte[] cached = cachedTokenHash(ref);
+        if (cached != null) {
+            return TokenHashUtil.matches(rawToken, cached);
+        }
+        String hash = gatheringRepository.findRefByShareCode(ref.getShareCode())
+                .map(GatheringRef::getAdminTokenHash)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+        return TokenHashUtil.matches(rawToken, hash);
+    }
+
+    /** 커밋된 상태 전이를 캐시에 제자리 반영 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(GatheringStatusChangedEvent event) {
+        long packed = ShareCodeGenerator.pack(event.getShareCode());
+        if (packed < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = find(packed + 1);
+            if (slot >= 0) {
+                statuses[slot] = (byte) event.getStatus().ordinal();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 현재 캐시된 모임 수 (모니터링용) */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    private GatheringRef lookup(long key, String shareCode) {
+        lock.readLock().lock();
+        try {
+            int slot = find(key);
+            if (slot < 0 || isStale(slot, System.currentTimeMillis())) {
+                return null;
+            }
+            referenced[slot] = 1;  // 여러 읽기 스레드가 같은 값을 쓰므로 경합 무해
+            // 관리 토큰 해시는 hex로 풀지 않는다 (폴링 적중마다 64자 문자열 생성 방지) → matchesAdminToken
+            return new GatheringRef(
+                    ids[slot],
+                    shareCode,
+                    STATUSES[statuses[slot]],
+                    TYPES[types[slot]],
+                    Instant.ofEpochMilli(deadlines[slot]),
+                    null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** ref가 가리키는 슬롯의 관리 토큰 해시 사본 (관리 API에서만 호출, 항목이 없으면 null) */
+    private byte[] cachedTokenHash(GatheringRef ref) {
+        long packed = ShareCodeGenerator.pack(ref.getShareCode());
+        if (packed < 0) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int slot = find(packed + 1);
+            if (slot < 0 || ids[slot] != ref.getId()) {
+                return null;
+            }
+            return Arrays.copyOfRange(tokenHashes, slot * HASH_BYTES, (slot + 1) * HASH_BYTES);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long key, GatheringRef ref) {
+        byte[] tokenHash = parseTokenHash(ref.getAdminTokenHash());
+        if (tokenHash == null) {
+            return;  // 예상과 다른 해시 형식은 캐시하지 않음 (항상 DB 조회)
+        }
+
+        if (maxEntries <= 0) {
+            return;  // 캐시 꺼짐 (빈 테이블에서 evictOne을 돌리면 제거할 항목을 영원히 찾음)
+        }
+
+        lock.writeLock().lock();
+        try {
+            int slot = find(key);
+            if (slot < 0) {
+                if (size >= maxEntries) {
+                    evictOne();
+                }
+                slot = emptySlotFor(key);
+                keys[slot] = key;
+                size++;
+            }
+            ids[slot] = ref.getId();
+            deadlines[slot] = ref.getDeadline().toEpochMilli();
+            loadedAt[slot] = System.currentTimeMillis();
+            statuses[slot] = (byte) ref.getStatus().ordinal();
+            types[slot] = (byte) ref.getType().ordinal();
+            referenced[slot] = 1;
+            System.arraycopy(tokenHash, 0, tokenHashes, slot * HASH_BYTES, HASH_BYTES);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** TTL 초과 또는 마감이 지났는데 아직 VOTING → 다시 로드 필요 */
+    private boolean isStale(int slot, long now) {
+        return loadedAt[slot] + ttlMillis < now
+                || (statuses[slot] == GatheringStatus.VOTING.ordinal() && deadlines[slot] <= now);
+    }
+
+    /** 키의 슬롯 위치, 없으면 -1 */
+    private int find(long key) {
+        for (int slot = home(key); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    private int emptySlotFor(long key) {
+        int slot = home(key);
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * CLOCK: 참조 비트가 꺼진(또는 오래된) 항목을 만날 때까지 시계 바늘을 돌리며 비트를 내린다.
+     * 한 바퀴 안에 모든 비트가 내려가므로 최대 두 바퀴 안에 반드시 하나를 제거한다.
+     */
+    private void evictOne() {
+        long now = System.currentTimeMillis();
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) & mask;
+            if (keys[slot] == EMPTY) {
+                continue;
+            }
+            if (referenced[slot] != 0 && !isStale(slot, now)) {
+                referenced[slot] = 0;
+                continue;
+            }
+            removeAt(slot);
+            hand = slot;  // backward shift로 당겨진 항목도 검사 대상
+            return;
+        }
+    }
+
+    /**
+     * 슬롯 삭제 (backward shift).
+     * 뒤따르는 항목 중 원래 위치(home)가 빈자리 이전인 것을 당겨와서 탐색 경로가 끊기지 않게 한다.
+     */
+    private void removeAt(int hole) {
+        int next = hole;
+        while (true) {
+            next = (next + 1) & mask;
+            if (keys[next] == EMPTY) {
+                break;
+            }
+            int home = home(keys[next]);
+            // home이 (hole, next] 구간(원형)에 있으면 그 자리에 둬도 탐색 가능 → 이동 불필요
+            boolean reachable = hole <= next
+                    ? hole < home && home <= next
+                    : hole < home || home <= next;
+            if (!reachable) {
+                move(next, hole);
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        referenced[hole] = 0;
+        size--;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        ids[to] = ids[from];
+        deadlines[to] = deadlines[from];
+        loadedAt[to] = loadedAt[from];
+        statuses[to] = statuses[from];
+        types[to] = types[from];
+        referenced[to] = referenced[from];
+        System.arraycopy(tokenHashes, from * HASH_BYTES, tokenHashes, to * HASH_BYTES, HASH_BYTES);
+    }
+
+    /** 키의 원래 슬롯 (base62 압축값을 그대로 쓰면 하위 비트가 치우칠 수 있어 섞음) */
+    private int home(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    /** TokenHashUtil.hash() 형식(소문자 hex 64자리)만 32바이트로 압축 */
+    private static byte[] parseTokenHash(String hex) {
+        if (hex == null || hex.length() != HASH_BYTES * 2) {
+            return null;
+        }
+        for (int i = 0; i < hex.length(); i++) {
+            char c = hex.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return null;
+            }
+        }
+        return HEX.parseHex(hex);
+    }
+}
@@ -1,12 +1,18 @@
 package com.moim.moimbackend.gathering.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moim.moimbackend.common.exception.BusinessException;
 import com.moim.moimbackend.common.exception.ErrorCode;
 import com.moim.moimbackend.common.security.TokenHashUtil;
-import com.moim.moimbackend.common.util.ShareCodeGenerator;
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
 import com.moim.moimbackend.gathering.dto.CreateGatheringRequest;
 import com.moim.moimbackend.gathering.dto.CreateGatheringResponse;
 import com.moim.moimbackend.gathering.dto.GatheringDetailResponse;
+import com.moim.moimbackend.gathering.dto.GatheringDetailView;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
 import com.moim.moimbackend.gathering.entity.*;
 import com.moim.moimbackend.gathering.repository.GatheringRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,15 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Arrays;
-import java.util.Collections;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import com.moim.moimbackend.vote.entity.CandidateType;
-import com.moim.moimbackend.vote.repository.ParticipantRepository;
-import com.moim.moimbackend.vote.repository.VoteRepository;
 
 /**
  * 모임 생성/조회 비즈니스 로직.
@@ -42,16 +42,24 @@ import com.moim.moimbackend.vote.repository.VoteRepository;
 @Transactional(readOnly = true)
 public class GatheringService {
 
+    private static final TypeReference<List<GatheringDetailResponse.TimeCandidateItem>> TIME_CANDIDATE_ITEMS =
+            new TypeReference<>() {};
+    private static final TypeReference<List<GatheringDetailResponse.PlaceCandidateItem>> PLACE_CANDIDATE_ITEMS =
+            new TypeReference<>() {};
+
     private final GatheringRepository gatheringRepository;
-    private final ParticipantRepository participantRepository;
-    private final VoteRepository voteRepository;
+    private final GatheringRefCache gatheringRefCache;
+    private final ObjectMapper objectMapper;
+    private final TokenSigner tokenSigner;
+    private final ShareCodeAllocator shareCodeAllocator;
+
     /**
      * 모임 생성.
      * <p>
      * 처리 흐름:
      * 1. 마감 시간 검증 (과거인지, 30일 초과인지)
      * 2. 모임 타입에 따른 후보 검증
-     * 3. 공유 코드 생성 (중복 체크)
+     * 3. 공유 코드 할당
      * 4. 관리 토큰 생성 + 해시 저장
      * 5. Entity 조립 + DB 저장
      * 6. 응답 반환 (원본 토큰 포함)
@@ -63,8 +71,152 @@ public class GatheringService {
         log.info("[모임 생성] 시작 - title={}, hostName={}, type={}",
                 request.getTitle(), request.getHostName(), request.getType());
 
-        // --- 1. 마감 시간 검증 ---
+        // --- 1~2. 마감 시간 + 타입별 후보 검증 ---
+        GatheringType type = validate(request, Instant.now());
+
+        // --- 3. 공유 코드 할당 (시퀀스 순열이라 중복 체크 불필요) ---
+        String shareCode = shareCodeAllocator.next();
+
+        // --- 4. 관리 토큰 nonce 생성 ---
+        // 토큰은 모임 ID가 정해진 뒤(저장 후) 서명해서 만든다. DB에는 nonce의 해시만 저장.
+        String adminNonce = tokenSigner.newNonce();
+
+        // --- 5. Entity 조립 ---
+        Gathering gathering = buildGathering(request, type, shareCode, adminNonce);
+
+        // --- 6. DB 저장 ---
+        // cascade ALL이므로 Gathering 저장 시 후보들도 함께 INSERT됨
+        gatheringRepository.save(gathering);
+
+        // --- 7. 응답 반환 ---
+        return toCreateResponse(gathering, adminNonce);
+    }
+
+    /**
+     * 모임 일괄 생성 (반복 일정 등 프로그램에서 여러 모임을 한 번에 만들 때).
+     * <p>
+     * 1. 모든 요청을 createGathering과 같은 규칙으로 먼저 검증 (하나라도 실패하면 아무것도 저장하지 않음)
+     * 2. 엔티티를 모두 조립한 뒤 saveAll → 한 트랜잭션에서 JDBC 배치 INSERT (JpaConfig batch_size)
+     * 3. 응답은 요청 순서 그대로
+     *
+     * 개별 호출 대비 트랜잭션/커밋이 1회이고, 시퀀스 ID와 공유 코드가 메모리에서 할당되므로
+     * 모임·후보 INSERT가 배치 단위로 묶인다.
+     */
+    @Transactional
+    public List<CreateGatheringResponse> createGatherings(List<CreateGatheringRequest> requests) {
+        log.info("[모임 일괄 생성] 시작 - count={}", requests.size());
+
+        // --- 1. 전체 검증 (실패 시 몇 번째 요청인지 메시지에 포함) ---
         Instant now = Instant.now();
+        List<GatheringType> types = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                types.add(validate(requests.get(i), now));
+            } catch (BusinessException e) {
+                throw new BusinessException(e.getErrorCode(), "gatherings[" + i + "]: " + e.getMessage());
+            }
+        }
+
+        // --- 2. 조립 + 일괄 저장 ---
+        List<Gathering> gatherings = new ArrayList<>(requests.size());
+        List<String> adminNonces = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            String adminNonce = tokenSigner.newNonce();
+            gatherings.add(buildGathering(requests.get(i), types.get(i), shareCodeAllocator.next(), adminNonce));
+            adminNonces.add(adminNonce);
+        }
+        gatheringRepository.saveAll(gatherings);
+
+        // --- 3. 요청 순서대로 응답 ---
+        List<CreateGatheringResponse> responses = new ArrayList<>(gatherings.size());
+        for (int i = 0; i < gatherings.size(); i++) {
+            responses.add(toCreateResponse(gatherings.get(i), adminNonces.get(i)));
+        }
+        log.info("[모임 일괄 생성] 완료 - count={}", responses.size());
+        return responses;
+    }
+
+    /**
+     * 공유 코드로 모임의 변경 버전 조회.
+     *
+     * 폴링 API의 ETag 값으로 사용. 클라이언트가 보낸 If-None-Match와 같으면
+     * 상세/집계 조회 없이 304 Not Modified로 응답할 수 있다.
+     * 공유 코드는 GatheringRefCache로 ID까지 해석하고, 자주 바뀌는 버전만 PK로 읽는다.
+     */
+    public long getVersion(String shareCode) {
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
+        return gatheringRepository.findVersionById(ref.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+    }
+
+    /**
+     * 공유 코드로 모임 상세 조회.
+     *
+     * 참여자 링크 접속, 대시보드, 투표 현황 등 여러 화면에서 사용.
+     * 엔티티/후보 컬렉션/집계 캐시를 거치지 않고 읽기 모델 1행을 SQL 한 문장으로 읽는다
+     * (GatheringRepository.findDetailByShareCode).
+     * 응답은 컨트롤러에서 버전별로 캐시되므로 이 메서드는 버전이 바뀐 뒤 첫 조회 때만 호출된다.
+     */
+    public GatheringDetailResponse getGathering(String shareCode) {
+        log.info("[모임 조회] shareCode={}", shareCode);
+
+        // 1. 모임 + 후보별 득표수 + 참여자 수 (1회 왕복)
+        GatheringDetailView view = gatheringRepository.findDetailByShareCode(shareCode)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+
+        // 2. 후보 JSON 배열 → 응답 아이템 (키/형식이 같도록 SQL에서 만듦, 등록 순서, 득표수 포함)
+        List<GatheringDetailResponse.TimeCandidateItem> timeItems =
+                readItems(view.getTimeCandidates(), TIME_CANDIDATE_ITEMS);
+        List<GatheringDetailResponse.PlaceCandidateItem> placeItems =
+                readItems(view.getPlaceCandidates(), PLACE_CANDIDATE_ITEMS);
+
+        // 3. 응답 조립
+        return GatheringDetailResponse.builder()
+                .title(view.getTitle())
+                .hostName(view.getHostName())
+                .description(view.getDescription())
+                .type(view.getType())
+                .status(view.getStatus())
+                .deadline(Instant.EPOCH.plus(view.getDeadlineMicros(), ChronoUnit.MICROS).toString())
+                .timeCandidates(timeItems)
+                .placeCandidates(placeItems)
+                .participantCount(view.getParticipantCount().intValue())
+                .build();
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** DB가 json_agg로 만든 후보 배열 문자열 → 응답 아이템 목록 */
+    private <T> List<T> readItems(String json, TypeReference<List<T>> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("모임 상세 후보 목록 파싱 실패", e);
+        }
+    }
+
+    /** 분위기 태그 입력 → 저장용 배열 (쉼표로 나누고 앞뒤 공백 제거, 빈 태그 제외, 입력 순서 유지 — V8 백필과 같은 규칙) */
+    private List<String> normalizeMoodTags(String moodTags) {
+        List<String> tags = new ArrayList<>();
+        if (moodTags == null) {
+            return tags;
+        }
+        for (String tag : moodTags.split(",")) {
+            String trimmed = tag.trim();
+            if (!trimmed.isEmpty()) {
+                tags.add(trimmed);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 모임 생성 요청 검증 (마감 시간 + 타입별 후보).
+     *
+     * @return 파싱된 모임 타입
+     */
+    private GatheringType validate(CreateGatheringRequest request, Instant now) {
+        // --- 1. 마감 시간 검증 ---
         if (request.getDeadline().isBefore(now.plusSeconds(600))) {
             // 현재 시각 + 10분 이후여야 함 (너무 빠른 마감 방지)
             throw new BusinessException(ErrorCode.DEADLINE_PAST, "마감 시간은 최소 10분 후여야 합니다.");
@@ -104,26 +256,19 @@ public class GatheringService {
             }
         }
 
-        // --- 3. 공유 코드 생성 (중복 시 재생성) ---
-        String shareCode;
-
-        do {
-            shareCode = ShareCodeGenerator.generate();        // 62^6 ≈ 568억 조합이라 루프는 거의 1회만 실행됨
-            // 62^6 ≈ 568억 조합이라 루프는 거의 1회만 실행됨
-        } while (gatheringRepository.existsByShareCode(shareCode));
-
-        // --- 4. 관리 토큰 생성 ---
-        String adminToken = TokenHashUtil.generateToken(); // UUID 원본
-        String adminTokenHash = TokenHashUtil.hash(adminToken);  // SHA-256 해시 (DB 저장용)
+        return type;
+    }
 
-        // --- 5. Entity 조립 ---
+    /** 요청 → Gathering 엔티티 (후보 포함, 저장 전) */
+    private Gathering buildGathering(CreateGatheringRequest request, GatheringType type,
+                                     String shareCode, String adminNonce) {
         Gathering gathering = Gathering.builder()
                 .shareCode(shareCode)
                 .title(request.getTitle().trim())
                 .hostName(request.getHostName().trim())
                 .description(request.getDescription())
                 .type(type)
-                .adminTokenHash(adminTokenHash)
+                .adminTokenHash(TokenHashUtil.hash(adminNonce))  // SHA-256 해시 (DB 저장용)
                 .deadline(request.getDeadline())
                 .build();
 
@@ -152,105 +297,23 @@ public class GatheringService {
                         .estCost(item.getEstCost())
                         .travelMin(item.getTravelMin())
                         .moodTags(item.getMoodTags())
+                        .moodTagList(normalizeMoodTags(item.getMoodTags()))
                         .displayOrder(i)
                         .build();
                 gathering.addPlaceCandidate(candidate);
             }
         }
-        // --- 6. DB 저장 ---
-        // cascade ALL이므로 Gathering 저장 시 후보들도 함께 INSERT됨
-        gatheringRepository.save(gathering);
+        return gathering;
+    }
 
-        // --- 7. 응답 반환 ---
+    /** 저장된 모임의 생성 응답 (관리 토큰은 ID가 정해진 뒤 서명) */
+    private CreateGatheringResponse toCreateResponse(Gathering gathering, String adminNonce) {
+        String adminToken = tokenSigner.issue(TokenType.ADMIN, gathering.getId(), gathering.getId(), adminNonce);
         return CreateGatheringResponse.builder()
-                .shareCode(shareCode)
+                .shareCode(gathering.getShareCode())
                 .adminToken(adminToken)    // 원본 토큰 (이 시점에만 1회 반환!)
-                .shareUrl("/g/" + shareCode)
-                .deadline(request.getDeadline().toString())
+                .shareUrl("/g/" + gathering.getShareCode())
+                .deadline(gathering.getDeadline().toString())
                 .build();
     }
-
-    /**
-     * 공유 코드로 모임 상세 조회.
-     *
-     * 참여자 링크 접속, 대시보드, 투표 현황 등 여러 화면에서 사용.
-     * voteCount는 아직 0 → D3(투표 도메인)에서 집계 로직 추가 예정.
-     */
-    /**
-     * 공유 코드로 모임 상세 조회.
-     *
-     * 참여자 링크 접속, 대시보드, 투표 현황 등 여러 화면에서 사용.
-     * voteCount는 아직 0 → D3(투표 도메인)에서 집계 로직 추가 예정.
-     */
-    public GatheringDetailResponse getGathering(String shareCode) {
-        // 로그 기록: 모임 조회 시작 시 공유 코드 출력
-        log.info("[모임 조회] shareCode={}", shareCode);
-
-        // 1. 공유 코드로 모임 엔티티 조회
-        // - 존재하지 않는 경우 BusinessException 발생 (GATHERING_NOT_FOUND 오류)
-        Gathering gathering = gatheringRepository.findByShareCode(shareCode)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
-
-        // 2. 시간별 후보와 장소별 후보에 대한 득표수 Map 생성
-        // - 후보 ID를 key, 득표수를 value로 매핑
-        Map<Long, Long> timeVoteMap = buildVoteCountMap(gathering.getId(), CandidateType.TIME); // 시간 후보 득표수 매핑
-        Map<Long, Long> placeVoteMap = buildVoteCountMap(gathering.getId(), CandidateType.PLACE); // 장소 후보 득표수 매핑
-
-        // 3. 시간 후보 데이터 변환
-        // - Gathering에 저장된 시간 후보 엔티티를 `GatheringDetailResponse.TimeCandidateItem`으로 매핑
-        List<GatheringDetailResponse.TimeCandidateItem> timeItems =
-                gathering.getTimeCandidates().stream()
-                        .map(tc -> GatheringDetailResponse.TimeCandidateItem.builder()
-                                .id(tc.getId()) // 후보 ID
-                                .date(tc.getCandidateDate().toString()) // 날짜
-                                .startTime(tc.getStartTime().toString()) // 시작 시간
-                                .endTime(tc.getEndTime() != null ? tc.getEndTime().toString() : null) // 종료 시간 (null일 수 있음)
-                                .voteCount(timeVoteMap.getOrDefault(tc.getId(), 0L)) // 득표수, 기본값 0
-                                .build())
-                        .toList(); // 최종적으로 변환된 리스트 생성
-
-        // 4. 장소 후보 데이터 변환
-        // - Gathering에 저장된 장소 후보 엔티티를 `GatheringDetailResponse.PlaceCandidateItem`으로 매핑
-        List<GatheringDetailResponse.PlaceCandidateItem> placeItems =
-                gathering.getPlaceCandidates().stream()
-                        .map(pc -> GatheringDetailResponse.PlaceCandidateItem.builder()
-                                .id(pc.getId()) // 후보 ID
-                                .name(pc.getName()) // 장소 이름
-                                .mapLink(pc.getMapLink()) // 지도 링크
-                                .memo(pc.getMemo()) // 메모
-                                .estCost(pc.getEstCost()) // 예상 비용
-                                .travelMin(pc.getTravelMin()) // 예상 소요 시간 (분 단위)
-                                .moodTags(pc.getMoodTags() != null
-                                        ? Arrays.asList(pc.getMoodTags().split(",")) // 분위기 태그를 ","로 분리해 리스트로 변환
-                                        : Collections.emptyList()) // moodTags가 null인 경우 빈 리스트 반환
-                                .voteCount(placeVoteMap.getOrDefault(pc.getId(), 0L)) // 득표수, 기본값 0
-                                .build())
-                        .toList(); // 최종적으로 변환된 리스트 생성
-
-        // 5. 참여자 수 계산
-        // - 해당 모임에 등록된 참여자 수를 조회
-        long participantCount = participantRepository.countByGatheringId(gathering.getId());
-
-        // 6. 결과 응답 객체 빌드 및 반환
-        return GatheringDetailResponse.builder()
-                .title(gathering.getTitle()) // 모임 제목
-                .hostName(gathering.getHostName()) // 호스트 이름
-                .description(gathering.getDescription()) // 모임 설명
-                .type(gathering.getType().name()) // 모임 타입 (문자열)
-                .status(gathering.getStatus().name()) // 모임 상태 (문자열)
-                .deadline(gathering.getDeadline().toString()) // 마감 시간 (문자열)
-                .timeCandidates(timeItems) // 변환된 시간 후보 리스트
-                .placeCandidates(placeItems) // 변환된 장소 후보 리스트
-                .participantCount((int) participantCount) // 참여자 수
-                .build();
-    }
-    /** 후보별 득표수 Map 조립 */
-    private Map<Long, Long> buildVoteCountMap(Long gatheringId, CandidateType type) {
-        // 후보 ID → 득표수를 매핑하는 Map 생성
-        return voteRepository.countByGatheringAndType(gatheringId, type).stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],   // 후보 ID (첫 번째 컬럼)
-                        row -> (Long) row[1]    // 득표 수 (두 번째 컬럼)
-                ));
-    }
 }
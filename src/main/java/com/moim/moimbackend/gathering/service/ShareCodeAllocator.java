@@ -0,0 +1,117 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.moim.moimbackend.common.util.ShareCodeGenerator;
+import com.moim.moimbackend.common.util.ShareCodePermutation;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 새 모임의 공유 코드 할당.
+ *
+ * 기존: 랜덤 코드 생성 → existsByShareCode 조회 → 중복이면 반복 (모임 생성마다 쿼리 1회 추가)
+ * 변경: 시퀀스 값을 키 기반 순열(ShareCodePermutation)로 섞어서 코드로 변환
+ * - 시퀀스 값이 겹치지 않으므로 코드도 겹치지 않음 → 모임 생성마다 중복 체크 없음
+ * - share_code_seq는 INCREMENT BY 1000: nextval 1회로 값 1000개 블록을 노드가 독점
+ *   → 모임 1000개 생성마다 nextval 1회, 여러 인스턴스가 있어도 블록이 겹치지 않음
+ * - 블록 크기는 설정이 아니라 시퀀스의 increment_by에서 읽는다 (어긋나면 노드 간 블록이 겹침)
+ *
+ * 이전 방식으로 만든 무작위 코드와는 드물게 겹칠 수 있다 (확률 ≈ 기존 모임 수 / 568억).
+ * 새 블록을 받을 때 블록의 코드를 한 번에 조회해서 이미 쓰인 코드는 건너뛴다 (블록당 쿼리 1회).
+ * share_code UNIQUE 제약은 마지막 방어선으로 남아 있다.
+ *
+ * 주의: moim.share-code.key는 운영 중 바꾸면 안 된다 (다른 순열끼리는 결과가 겹칠 수 있음)
+ */
+@Slf4j
+@Component
+public class ShareCodeAllocator {
+
+    /** 키 미설정 시 사용 (코드 고유성은 유지되지만 순열을 추측할 수 있음) */
+    private static final String DEFAULT_KEY = "moim-share-code";
+
+    private final GatheringRepository gatheringRepository;
+    private final ShareCodePermutation permutation;
+
+    /**
+     * 블록 교체가 DB 왕복(nextval, 기존 코드 조회)을 포함하므로 synchronized 대신 ReentrantLock
+     * (가상 스레드에서 모니터를 잡은 채 I/O를 기다리면 캐리어 스레드가 고정된다).
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private long blockSize;
+    private long next;
+    private long limit;
+    /** 현재 블록에서 이전 방식의 코드와 겹쳐 건너뛸 코드 */
+    private Set<String> taken = Set.of();
+
+    public ShareCodeAllocator(GatheringRepository gatheringRepository,
+                              @Value("${moim.share-code.key:}") String key) {
+        if (key.isBlank()) {
+            log.warn("[공유코드] 순열 키 미설정 - 기본 키 사용 (moim.share-code.key 설정 필요)");
+            key = DEFAULT_KEY;
+        }
+        this.gatheringRepository = gatheringRepository;
+        this.permutation = new ShareCodePermutation(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다음 공유 코드.
+     * 블록이 남아 있으면 메모리에서 바로 만들고, 다 쓰면 nextval로 새 블록을 받는다.
+     * (nextval은 쓰기 트랜잭션 안에서 호출해야 한다 - PostgreSQL은 읽기 전용 트랜잭션에서 거부)
+     */
+    public String next() {
+        lock.lock();
+        try {
+            while (true) {
+                if (next >= limit) {
+                    allocateBlock();
+                }
+                long value = next++;
+                if (value >= ShareCodePermutation.DOMAIN) {
+                    throw new IllegalStateException("공유 코드 공간(62^6)을 모두 사용했습니다.");
+                }
+                String code = encode(value);
+                if (!taken.contains(code)) {
+                    return code;
+                }
+                log.info("[공유코드] 기존 코드와 겹쳐 다음 값 사용: {}", code);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 새 블록 할당 + 블록 안에서 이미 쓰인 코드 조회 (lock 보유 중 호출) */
+    private void allocateBlock() {
+        if (blockSize == 0) {
+            blockSize = gatheringRepository.findShareCodeBlockSize()
+                    .filter(size -> size > 0)
+                    .orElseThrow(() -> new IllegalStateException("share_code_seq 시퀀스를 찾을 수 없습니다."));
+        }
+        long start = gatheringRepository.nextShareCodeBlock();
+        long end = Math.min(start + blockSize, ShareCodePermutation.DOMAIN);
+
+        List<String> codes = new ArrayList<>((int) Math.max(0, end - start));
+        for (long value = start; value < end; value++) {
+            codes.add(encode(value));
+        }
+        taken = codes.isEmpty() ? Set.of() : new HashSet<>(gatheringRepository.findExistingShareCodes(codes));
+
+        next = start;
+        limit = start + blockSize;
+        log.debug("[공유코드] 시퀀스 블록 할당: {} ~ {} (기존 코드와 겹침 {}건)", start, limit - 1, taken.size());
+    }
+
+    private String encode(long value) {
+        return ShareCodeGenerator.encode(permutation.permute(value));
+    }
+}
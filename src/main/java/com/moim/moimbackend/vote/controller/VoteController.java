@@ -1,13 +1,22 @@
 package com.moim.moimbackend.vote.controller;
 
+import com.moim.moimbackend.common.cache.JsonResponseCache;
+import com.moim.moimbackend.common.cache.JsonResponseCache.CachedJson;
+import com.moim.moimbackend.gathering.service.GatheringService;
 import com.moim.moimbackend.vote.dto.*;
 import com.moim.moimbackend.vote.service.VoteService;
+import com.moim.moimbackend.vote.service.VoteStreamHub;
+import com.moim.moimbackend.vote.service.VoteWriteBatcher;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -16,6 +25,10 @@ import org.springframework.web.bind.annotation.*;
 public class VoteController {
 
     private final VoteService voteService;
+    private final GatheringService gatheringService;
+    private final VoteStreamHub voteStreamHub;
+    private final JsonResponseCache responseCache;
+    private final VoteWriteBatcher voteWriteBatcher;
 
     /**
      * 참여 등록 + 투표.
@@ -29,7 +42,8 @@ public class VoteController {
             @Valid @RequestBody ParticipateRequest request) {
         log.info("[API] POST /participate - shareCode={}, name={}", shareCode, request.getName());
 
-        ParticipateResponse response = voteService.participate(shareCode, request);
+        // 그룹 커밋 사용 시 배치가 커밋된 뒤 반환 (VoteWriteBatcher)
+        ParticipateResponse response = voteWriteBatcher.execute(() -> voteService.participate(shareCode, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -43,20 +57,81 @@ public class VoteController {
             @RequestHeader("X-Session-Token") String sessionToken,
             @RequestBody UpdateVotesRequest request) {
         log.info("[API] PUT /votes - shareCode={}", shareCode);
-        voteService.updateVotes(shareCode, sessionToken, request);
+        voteWriteBatcher.execute(() -> {
+            voteService.updateVotes(shareCode, sessionToken, request);
+            return null;
+        });
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * 투표 부분 변경.
+     * 추가/해제할 후보만 보내면 해당 투표 행만 INSERT / DELETE.
+     * X-Session-Token 헤더로 본인 확인.
+     */
+    @PatchMapping("/votes")
+    public ResponseEntity<Void> patchVotes(
+            @PathVariable String shareCode,
+            @RequestHeader("X-Session-Token") String sessionToken,
+            @RequestBody PatchVotesRequest request) {
+        log.info("[API] PATCH /votes - shareCode={}", shareCode);
+        voteWriteBatcher.execute(() -> {
+            voteService.patchVotes(shareCode, sessionToken, request);
+            return null;
+        });
         return ResponseEntity.ok().build();
     }
 
     /**
      * 투표 현황 조회.
      * 인증 불필요. 5초 폴링으로 호출됨.
+     *
+     * 모임 변경 버전을 ETag로 내려준다.
+     * 대부분의 폴링은 변경이 없으므로 If-None-Match가 같으면 버전 조회 1회 후 304로 응답.
+     * 변경 후 첫 요청만 현황을 만들어 직렬화하고, 같은 버전의 나머지 요청은 캐시된 JSON 바이트를 그대로 쓴다.
      */
     @GetMapping("/votes")
-    public ResponseEntity<VoteSummaryResponse> getVoteSummary(
-            @PathVariable String shareCode) {
+    public ResponseEntity<byte[]> getVoteSummary(
+            @PathVariable String shareCode,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+
+        long version = gatheringService.getVersion(shareCode);
+        if (webRequest.checkNotModified(JsonResponseCache.eTag(version))) {
+            return null;  // 304 Not Modified (본문 없음)
+        }
 
-        VoteSummaryResponse response = voteService.getVoteSummary(shareCode);
+        CachedJson body = responseCache.get(shareCode, "votes", version,
+                () -> voteService.getVoteSummary(shareCode));
+        return responseCache.toResponse(body, acceptEncoding);
+    }
+
+    /**
+     * 투표 변경분 조회.
+     * since(마지막으로 받은 version) 이후 참여/투표 변경만 반환.
+     * 기록이 부족하면 fullSnapshot=true + 전체 현황으로 대체된다.
+     */
+    @GetMapping("/votes/changes")
+    public ResponseEntity<VoteChangesResponse> getVoteChanges(
+            @PathVariable String shareCode,
+            @RequestParam long since) {
+
+        VoteChangesResponse response = voteService.getVoteChanges(shareCode, since);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 투표 현황 실시간 스트림 (SSE).
+     * 5초 폴링 대체용. 연결 직후 현재 현황을 1회 보내고, 이후 변경 시마다 푸시.
+     *
+     * 이벤트:
+     * - votes  : 투표 현황 (GET /votes 응답과 동일한 JSON)
+     * - status : 상태 전이 { status, version } — CONFIRMED / EXPIRED 후 스트림 종료
+     */
+    @GetMapping(value = "/votes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVotes(@PathVariable String shareCode) {
+        log.info("[API] GET /votes/stream - shareCode={}", shareCode);
+        return voteStreamHub.subscribe(shareCode);
+    }
+
 }
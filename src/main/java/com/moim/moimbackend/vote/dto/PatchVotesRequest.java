@@ -0,0 +1,31 @@
+package com.moim.moimbackend.vote.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 투표 부분 변경 요청 DTO.
+ * PATCH /api/v1/gatherings/{shareCode}/votes
+ * X-Session-Token 헤더 필수.
+ *
+ * 체크박스 하나를 토글할 때마다 저장하므로, 바뀐 후보만 보낸다.
+ * 같은 후보가 add와 remove에 모두 있으면 remove가 우선.
+ */
+@Getter
+@Setter
+public class PatchVotesRequest {
+
+    /** 새로 선택한 시간 후보 ID */
+    private List<Long> addTimeCandidateIds;
+
+    /** 선택 해제한 시간 후보 ID */
+    private List<Long> removeTimeCandidateIds;
+
+    /** 새로 선택한 장소 후보 ID */
+    private List<Long> addPlaceCandidateIds;
+
+    /** 선택 해제한 장소 후보 ID */
+    private List<Long> removePlaceCandidateIds;
+}
@@ -10,7 +10,8 @@ import java.util.List;
  * PUT /api/v1/gatherings/{shareCode}/votes
  * X-Session-Token 헤더 필수.
  *
- * 기존 투표를 전체 교체하는 방식 (부분 수정 X).
+ * 최종 선택 상태 전체를 보내는 방식 (서버가 기존 투표와 비교해 바뀐 것만 반영).
+ * 일부만 바꿀 때는 PatchVotesRequest 사용.
  */
 @Getter
 @Setter
@@ -0,0 +1,54 @@
+package com.moim.moimbackend.vote.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 투표 변경분 응답 DTO.
+ * GET /api/v1/gatherings/{shareCode}/votes/changes?since={version}
+ *
+ * since 이후의 변경만 내려준다:
+ * - fullSnapshot=false → changes에 (since, version] 구간의 변경 목록
+ * - fullSnapshot=true  → since가 너무 오래됐거나 변경 기록이 없어서 snapshot(전체 현황) + status로 대체
+ *
+ * 클라이언트는 다음 요청의 since로 version을 그대로 보내면 된다.
+ * 변경은 "추가/삭제" 집합이라, 스냅샷과 겹쳐 두 번 적용해도 결과가 같다 (멱등 적용).
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VoteChangesResponse {
+
+    /** 응답이 반영한 모임 변경 버전 */
+    private long version;
+
+    private boolean fullSnapshot;
+
+    /** fullSnapshot=true일 때만 채워짐 */
+    private VoteSummaryResponse snapshot;
+
+    /** fullSnapshot=true일 때 현재 모임 상태 (변경 목록의 STATUS_CHANGED 대신) */
+    private String status;
+
+    /** fullSnapshot=false일 때 변경 목록 (버전 오름차순) */
+    private List<Change> changes;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Change {
+        private long version;
+        /** PARTICIPANT_JOINED / VOTES_CHANGED / STATUS_CHANGED */
+        private String type;
+        private String participantName;
+        private List<Long> timeAdded;
+        private List<Long> timeRemoved;
+        private List<Long> placeAdded;
+        private List<Long> placeRemoved;
+        /** STATUS_CHANGED일 때 새 상태 */
+        private String status;
+    }
+}
@@ -23,7 +23,8 @@ import java.time.Instant;
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participant_id_seq")
+    @SequenceGenerator(name = "participant_id_seq", sequenceName = "participant_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -26,7 +26,8 @@ import java.time.Instant;
 public class Vote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_id_seq")
+    @SequenceGenerator(name = "vote_id_seq", sequenceName = "vote_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
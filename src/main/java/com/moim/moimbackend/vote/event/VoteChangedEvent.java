@@ -0,0 +1,43 @@
+package com.moim.moimbackend.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 투표 변경 이벤트.
+ *
+ * VoteService의 participate / updateVotes가 발행하고,
+ * 트랜잭션 커밋 이후(@TransactionalEventListener AFTER_COMMIT) 구독자가 처리한다.
+ *
+ * 변경분(delta)만 담는다:
+ * - 새 참여자면 participantName이 채워짐 (newParticipant=true)
+ * - 후보별 추가/삭제된 투표는 각 Set에 candidateId로 담김
+ *
+ * 같은 이벤트를 두 번 적용해도 결과가 같도록(멱등) "추가/삭제" 집합으로 표현한다.
+ * version: 이 변경으로 증가한 모임의 변경 버전.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VoteChangedEvent {
+
+    private final Long gatheringId;
+    private final String shareCode;
+    private final long version;
+    private final Long participantId;
+    private final String participantName;
+    private final boolean newParticipant;
+
+    @Builder.Default
+    private final Set<Long> timeAdded = Collections.emptySet();
+    @Builder.Default
+    private final Set<Long> timeRemoved = Collections.emptySet();
+    @Builder.Default
+    private final Set<Long> placeAdded = Collections.emptySet();
+    @Builder.Default
+    private final Set<Long> placeRemoved = Collections.emptySet();
+}
@@ -2,18 +2,39 @@ package com.moim.moimbackend.vote.repository;
 
 import com.moim.moimbackend.vote.entity.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
 
-    /** 모임 내 닉네임 중복 체크 */
-    boolean existsByGatheringIdAndName(Long gatheringId, String name);
+    /**
+     * 참여자 등록 (닉네임이 이미 있으면 아무것도 하지 않음).
+     * 중복 체크 + INSERT를 한 문장으로 처리 → 동시에 같은 닉네임으로 들어와도 UNIQUE 위반 없이 한 명만 성공.
+     *
+     * @return 새 참여자 ID, 닉네임이 이미 있으면 empty
+     */
+    @Query(value = "INSERT INTO participant (gathering_id, name, session_token_hash, created_at) " +
+            "VALUES (:gatheringId, :name, :sessionTokenHash, NOW()) " +
+            "ON CONFLICT (gathering_id, name) DO NOTHING " +
+            "RETURNING id",
+            nativeQuery = true)
+    Optional<Long> insertIfNameAvailable(@Param("gatheringId") Long gatheringId,
+                                         @Param("name") String name,
+                                         @Param("sessionTokenHash") String sessionTokenHash);
 
     /** 세션 토큰 해시로 참여자 조회 (투표 변경 시 본인 확인) */
     Optional<Participant> findByGatheringIdAndSessionTokenHash(Long gatheringId, String sessionTokenHash);
 
+    /** 서명 세션 토큰의 참여자가 실제로 이 모임에 있는지 확인 (삭제된 참여자 / 다른 모임 차단) */
+    Optional<Participant> findByIdAndGatheringId(Long id, Long gatheringId);
+
+    /** 참여자 닉네임만 조회 */
+    @Query("SELECT p.name FROM Participant p WHERE p.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
     /** 모임의 전체 참여자 목록 */
     List<Participant> findByGatheringId(Long gatheringId);
 
@@ -1,31 +1,57 @@
 package com.moim.moimbackend.vote.repository;
 
-import com.moim.moimbackend.vote.entity.CandidateType;
 import com.moim.moimbackend.vote.entity.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
 
-    /** 특정 참여자의 특정 타입 투표 목록 (투표 변경 시 기존 투표 삭제용) */
-    List<Vote> findByParticipantIdAndCandidateType(Long participantId, CandidateType candidateType);
+    /** 특정 참여자의 전체 투표 (TIME + PLACE 한 번에, 투표 변경 시 diff 계산용) */
+    List<Vote> findByParticipantId(Long participantId);
+
+    /**
+     * 투표 일괄 삭제 (DELETE ... WHERE id IN 1회).
+     * deleteAll(entities)는 엔티티마다 DELETE를 보내므로 diff로 골라낸 ID만 한 번에 지운다.
+     */
+    @Modifying
+    @Query("DELETE FROM Vote v WHERE v.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 투표 일괄 추가 (이미 있는 투표는 건너뜀, INSERT 1회).
+     * 같은 참여자의 동시 요청이 같은 후보를 추가해도 UNIQUE 위반(500) 없이 한쪽만 INSERT되고 다른 쪽은 멱등 처리된다.
+     * id는 컬럼 DEFAULT(vote_id_seq)로 채운다 (V3: pooled 범위와 겹치지 않음).
+     *
+     * @return 실제로 추가된 후보 ID
+     */
+    @Query(value = "INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type, created_at) " +
+            "SELECT :gatheringId, :participantId, c.id, :candidateType, NOW() " +
+            "FROM unnest(ARRAY[:candidateIds]) AS c(id) " +
+            "ON CONFLICT (participant_id, candidate_id, candidate_type) DO NOTHING " +
+            "RETURNING candidate_id",
+            nativeQuery = true)
+    List<Long> insertIgnoringDuplicates(@Param("gatheringId") Long gatheringId,
+                                        @Param("participantId") Long participantId,
+                                        @Param("candidateType") String candidateType,
+                                        @Param("candidateIds") Collection<Long> candidateIds);
 
     /** 특정 참여자의 전체 투표 삭제 */
     void deleteByParticipantId(Long participantId);
 
-    /** 후보별 득표수 조회. Object[0]=candidateId, Object[1]=count */
-    @Query("SELECT v.candidateId, COUNT(v) FROM Vote v " +
-            "WHERE v.gathering.id = :gatheringId AND v.candidateType = :type " +
-            "GROUP BY v.candidateId")
-    List<Object[]> countByGatheringAndType(@Param("gatheringId") Long gatheringId,
-                                           @Param("type") CandidateType type);
-
-    /** 특정 후보에 투표한 참여자 ID 목록 */
-    @Query("SELECT v.participant.id FROM Vote v " +
-            "WHERE v.candidateId = :candidateId AND v.candidateType = :type")
-    List<Long> findParticipantIdsByCandidateAndType(@Param("candidateId") Long candidateId,
-                                                    @Param("type") CandidateType type);
+    /**
+     * 모임의 전체 투표를 (타입, 후보, 참여자) 순으로 한 번에 조회.
+     * Object[0]=candidateType, Object[1]=candidateId, Object[2]=participantId
+     *
+     * 후보마다 투표자 목록을 따로 조회하면 후보 수만큼 쿼리가 늘어나므로(N+1),
+     * 정렬된 평면 결과 1건으로 받아서 Service에서 후보별로 묶는다.
+     */
+    @Query("SELECT v.candidateType, v.candidateId, v.participant.id FROM Vote v " +
+            "WHERE v.gathering.id = :gatheringId " +
+            "ORDER BY v.candidateType, v.candidateId, v.id")
+    List<Object[]> findVoteRowsByGatheringId(@Param("gatheringId") Long gatheringId);
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.vote.dto.VoteChangesResponse;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모임별 최근 투표 변경 기록 (고정 크기 링 버퍼).
+ *
+ * GET /votes/changes?since=N 에 (N, 현재] 구간의 변경만 내려주기 위해 사용.
+ * 커밋된 VoteChangedEvent / GatheringStatusChangedEvent를 버전 순으로 쌓는다.
+ *
+ * 버전은 DB(gathering.version)에서 1씩 증가하므로 기록이 연속이어야만 변경분으로 응답할 수 있다.
+ * 중간 버전이 비면 그 앞까지만 반환하고, 바로 다음 버전부터 없으면
+ * null을 반환해서 호출자가 전체 스냅샷으로 대체하게 한다:
+ * - since가 버퍼에 남은 가장 오래된 기록보다 이전 (버퍼가 한 바퀴 돈 경우)
+ * - 중간 버전이 비어 있음 (재시작 직후, 다른 인스턴스에서 발생한 변경 등)
+ */
+@Slf4j
+@Component
+public class VoteChangeLog {
+
+    private final int capacity;
+    private final long idleTtlMillis;
+
+    /** shareCode → 링 버퍼 */
+    private final ConcurrentHashMap<String, Ring> rings = new ConcurrentHashMap<>();
+
+    public VoteChangeLog(@Value("${moim.vote-changes.capacity:256}") int capacity,
+                         @Value("${moim.vote-changes.idle-ttl-seconds:3600}") long idleTtlSeconds) {
+        this.capacity = capacity;
+        this.idleTtlMillis = idleTtlSeconds * 1000;
+    }
+
+    /**
+     * (since, 기록된 최신 버전] 구간의 변경 목록.
+     *
+     * @return 연속된 변경 목록 (변경 없으면 빈 목록), 기록이 부족하면 null
+     */
+    public List<VoteChangesResponse.Change> since(String shareCode, long since) {
+        Ring ring = rings.get(shareCode);
+        return ring != null ? ring.since(since) : null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteChanged(VoteChangedEvent event) {
+        append(event.getShareCode(), VoteChangesResponse.Change.builder()
+                .version(event.getVersion())
+                .type(event.isNewParticipant() ? "PARTICIPANT_JOINED" : "VOTES_CHANGED")
+                .participantName(event.getParticipantName())
+                .timeAdded(List.copyOf(event.getTimeAdded()))
+                .timeRemoved(List.copyOf(event.getTimeRemoved()))
+                .placeAdded(List.copyOf(event.getPlaceAdded()))
+                .placeRemoved(List.copyOf(event.getPlaceRemoved()))
+                .build());
+    }
+
+    /**
+     * 상태 전이도 버전을 증가시키므로 기록해야 버전 연속성이 유지된다.
+     * 최종 상태(CONFIRMED / EXPIRED)도 마지막 기록으로 남긴다 → 직전 버전의 클라이언트가 종료를 변경분으로 받음.
+     * 이후에는 변경이 없으므로 버퍼는 evictIdle에서 정리된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(GatheringStatusChangedEvent event) {
+        append(event.getShareCode(), VoteChangesResponse.Change.builder()
+                .version(event.getVersion())
+                .type("STATUS_CHANGED")
+                .status(event.getStatus().name())
+                .build());
+    }
+
+    /** 10분마다 오래 변경이 없던 모임의 버퍼 제거 */
+    @Scheduled(fixedRate = 600_000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleTtlMillis;
+        rings.values().removeIf(ring -> ring.lastAppendAt < threshold);
+    }
+
+    private void append(String shareCode, VoteChangesResponse.Change change) {
+        rings.computeIfAbsent(shareCode, code -> new Ring(capacity)).append(change);
+    }
+
+    /**
+     * 고정 크기 링 버퍼.
+     * 버전 오름차순으로 유지하며, 가득 차면 가장 오래된 기록을 버린다.
+     *
+     * 커밋 순서는 버전 순서와 같지만(같은 gathering 행을 UPDATE하므로 직렬화됨),
+     * 커밋 이후 리스너 실행 순서는 스레드마다 뒤바뀔 수 있어서 정렬 위치에 끼워 넣는다.
+     */
+    private static class Ring {
+        private final VoteChangesResponse.Change[] buffer;
+        /** 가장 오래된 기록의 위치 */
+        private int start;
+        private int size;
+        volatile long lastAppendAt = System.currentTimeMillis();
+
+        Ring(int capacity) {
+            this.buffer = new VoteChangesResponse.Change[capacity];
+        }
+
+        synchronized void append(VoteChangesResponse.Change change) {
+            lastAppendAt = System.currentTimeMillis();
+
+            // 뒤에서부터 삽입 위치 탐색 (대부분 맨 끝)
+            int pos = size;
+            while (pos > 0 && at(pos - 1).getVersion() > change.getVersion()) {
+                pos--;
+            }
+            if (pos > 0 && at(pos - 1).getVersion() == change.getVersion()) {
+                return;  // 이미 기록된 버전
+            }
+            if (size == buffer.length) {
+                if (pos == 0) {
+                    return;  // 보관 중인 기록보다 오래됨
+                }
+                // 가장 오래된 기록 제거
+                buffer[start] = null;
+                start = (start + 1) % buffer.length;
+                size--;
+                pos--;
+            }
+            for (int i = size; i > pos; i--) {
+                set(i, at(i - 1));
+            }
+            set(pos, change);
+            size++;
+        }
+
+        synchronized List<VoteChangesResponse.Change> since(long since) {
+            if (size == 0) {
+                return null;
+            }
+            long oldestVersion = at(0).getVersion();
+            long newestVersion = at(size - 1).getVersion();
+            if (since >= newestVersion) {
+                return List.of();
+            }
+            if (since < oldestVersion - 1) {
+                return null;  // 필요한 기록이 이미 버려짐
+            }
+
+            List<VoteChangesResponse.Change> result = new ArrayList<>();
+            long expected = since + 1;
+            for (int i = 0; i < size; i++) {
+                VoteChangesResponse.Change change = at(i);
+                if (change.getVersion() < expected) {
+                    continue;
+                }
+                if (change.getVersion() != expected) {
+                    break;  // 중간 버전 누락 → 연속된 앞부분까지만
+                }
+                result.add(change);
+                expected++;
+            }
+            return result.isEmpty() ? null : result;
+        }
+
+        /** i번째로 오래된 기록 */
+        private VoteChangesResponse.Change at(int i) {
+            return buffer[(start + i) % buffer.length];
+        }
+
+        private void set(int i, VoteChangesResponse.Change change) {
+            buffer[(start + i) % buffer.length] = change;
+        }
+    }
+}
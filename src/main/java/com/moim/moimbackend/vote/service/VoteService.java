@@ -3,17 +3,24 @@ package com.moim.moimbackend.vote.service;
 import com.moim.moimbackend.common.exception.BusinessException;
 import com.moim.moimbackend.common.exception.ErrorCode;
 import com.moim.moimbackend.common.security.TokenHashUtil;
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
 import com.moim.moimbackend.gathering.entity.Gathering;
 import com.moim.moimbackend.gathering.entity.GatheringStatus;
 import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import com.moim.moimbackend.gathering.service.GatheringRefCache;
 import com.moim.moimbackend.vote.dto.*;
 import com.moim.moimbackend.vote.entity.CandidateType;
 import com.moim.moimbackend.vote.entity.Participant;
 import com.moim.moimbackend.vote.entity.Vote;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
 import com.moim.moimbackend.vote.repository.ParticipantRepository;
 import com.moim.moimbackend.vote.repository.VoteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,202 +34,409 @@ import java.util.stream.Collectors;
 public class VoteService {
 
     private final GatheringRepository gatheringRepository;
+    private final GatheringRefCache gatheringRefCache;
     private final ParticipantRepository participantRepository;
     private final VoteRepository voteRepository;
+    private final VoteTallyCache voteTallyCache;
+    private final VoteChangeLog voteChangeLog;
+    private final TokenSigner tokenSigner;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 참여 등록 + 투표 동시 처리.
      * 참여자 엔티티에 사용자 등록
      * 흐름:
      * 1. 모임 조회 + VOTING 상태 검증
-     * 2. 닉네임 중복 검증
-     * 3. 참여자 생성 (세션 토큰 발급)
-     * 4. 투표 저장
-     * 5. 세션 토큰 원본 1회 반환
+     * 2. 참여자 등록 (INSERT ... ON CONFLICT DO NOTHING, 닉네임 중복이면 DUPLICATE_NAME)
+     * 3. 투표 저장 (배치 INSERT)
+     * 4. 변경 버전 증가 + 변경 이벤트 발행 (커밋 후 집계 캐시에 반영)
+     * 5. 세션 토큰(참여자/모임 ID를 담은 서명 토큰) 1회 반환
      */
     @Transactional
     public ParticipateResponse participate(String shareCode, ParticipateRequest request){
-        // 1. 모임 조회 + Voting 상태 검증
-        Gathering gathering = findGatheringByCode(shareCode);
-        validateVotingOpen(gathering);
-
-        // 2. 닉네임 중복 검증
-        if(participantRepository.existsByGatheringIdAndName(gathering.getId(), request.getName().trim())){
-            throw new BusinessException(ErrorCode.DUPLICATE_NAME);
-        }
-
-        // 3. 참여자 생성 (세션 토큰 발급)
-        String sessionToken = TokenHashUtil.generateToken();
-        Participant participant = Participant.builder()
-                .gathering(gathering)
-                .name(request.getName().trim())
-                .sessionTokenHash(TokenHashUtil.hash(sessionToken))
-                .build();
-
-        participantRepository.save(participant);
-
-        // 4. 투표 저장
-        saveVotes(gathering, participant, request.getTimeCandidateIds(), CandidateType.TIME);
-        saveVotes(gathering, participant, request.getPlaceCandidateIds(), CandidateType.PLACE);
+        // 1. 모임 조회 + Voting 상태 검증 (엔티티 대신 캐시된 최소 정보)
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
+        validateVotingOpen(ref);
+
+        // 2. 참여자 등록 (세션 토큰 발급)
+        // 존재 여부를 먼저 조회하면 왕복이 1회 늘고, 동시 요청 둘 다 통과해서 UNIQUE 위반(500)이 난다.
+        // → 중복 체크와 INSERT를 한 문장으로: 이미 있는 닉네임이면 결과 행이 없다.
+        // DB에는 nonce의 해시만 저장 (서명 키가 바뀌어도 nonce로 본인 확인 가능)
+        String name = request.getName().trim();
+        String nonce = tokenSigner.newNonce();
+        Long participantId = participantRepository
+                .insertIfNameAvailable(ref.getId(), name, TokenHashUtil.hash(nonce))
+                .orElseThrow(() -> new BusinessException(ErrorCode.DUPLICATE_NAME));
+        String sessionToken = tokenSigner.issue(TokenType.SESSION, ref.getId(), participantId, nonce);
+
+        // 투표 FK용 참조만 필요 → SELECT 없이 프록시
+        Gathering gathering = gatheringRepository.getReferenceById(ref.getId());
+        Participant participant = participantRepository.getReferenceById(participantId);
+
+        // 3. 투표 저장 (커밋 전 flush 때 한 번에 배치 INSERT)
+        Set<Long> timeIds = saveVotes(gathering, participant, request.getTimeCandidateIds(), CandidateType.TIME);
+        Set<Long> placeIds = saveVotes(gathering, participant, request.getPlaceCandidateIds(), CandidateType.PLACE);
+
+        // 4. 변경 버전 증가 (DB에서 VOTING 재확인) + 변경 이벤트 발행
+        long version = incrementVersionIfVoting(ref);
+        eventPublisher.publishEvent(VoteChangedEvent.builder()
+                .gatheringId(ref.getId())
+                .shareCode(ref.getShareCode())
+                .version(version)
+                .participantId(participantId)
+                .participantName(name)
+                .newParticipant(true)
+                .timeAdded(timeIds)
+                .placeAdded(placeIds)
+                .build());
 
         log.info("[투표] 참여 완료 - shareCode={}, name={}, participantId={}",
-                shareCode, participant.getName(), participant.getId());
+                shareCode, name, participantId);
 
         return ParticipateResponse.builder()
-                .participantId(participant.getId())
-                .name(participant.getName())
+                .participantId(participantId)
+                .name(name)
                 .sessionToken(sessionToken)
                 .build();
     }
 
     /**
-     * 투표 변경.
+     * 투표 변경 (전체 선택 상태 전달).
      *
-     * 기존 투표를 전체 삭제 후 새로 저장하는 방식 (Replace 전략).
-     * 부분 수정(add/remove)보다 구현이 단순하고 프론트에서도 쉬움.
+     * 기존 투표를 1회 조회해서 요청과 비교하고, 바뀐 것만 반영한다.
+     * - 빠진 후보: DELETE ... WHERE id IN 1회
+     * - 새 후보: INSERT 배치 1회
+     * 변경이 없으면 아무것도 쓰지 않는다 (버전도 그대로 → 폴링은 계속 304).
      */
     @Transactional
     public void updateVotes(String shareCode, String sessionToken , UpdateVotesRequest request){
         // 코드로 모임 조회
-        Gathering gathering = findGatheringByCode(shareCode);
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
         // 투표 현황 검증
-        validateVotingOpen(gathering);
+        validateVotingOpen(ref);
 
         // 세션 토큰 및 모임 코드로 투표자 조회
-        Participant participant = findParticipantByToken(gathering.getId(), sessionToken);
-
-        // 기존 TIME 투표 삭제 + 새로 저장
-        // 투표자 ID와 후보 타입으로 기존 시간 목록 조회
-        List<Vote> oldTimeVotes = voteRepository.findByParticipantIdAndCandidateType(
-                participant.getId(), CandidateType.TIME);
-        // 기존 투표 전체 삭제
-        voteRepository.deleteAll(oldTimeVotes);
-        // 새 투표 저장
-        saveVotes(gathering, participant, request.getTimeCandidateIds(), CandidateType.TIME);
-
-        // 기존 PLACE 투표 삭제 + 새로 저장
-        List<Vote> oldPlaceVotes = voteRepository.findByParticipantIdAndCandidateType(
-                participant.getId(), CandidateType.PLACE);
-        voteRepository.deleteAll(oldPlaceVotes);
-        saveVotes(gathering, participant, request.getPlaceCandidateIds(), CandidateType.PLACE);
+        Participant participant = findParticipantByToken(ref.getId(), sessionToken);
+
+        // 요청 = 최종 선택 상태
+        applyVotes(ref, participant,
+                toSet(request.getTimeCandidateIds()),
+                toSet(request.getPlaceCandidateIds()));
 
         log.info("[투표] 변경 완료 - shareCode={}, participantId={}", shareCode, participant.getId());
     }
 
+    /**
+     * 투표 부분 변경 (추가/해제할 후보만 전달).
+     * 프론트에서 체크박스를 토글할 때마다 호출 → 해당 행만 INSERT / DELETE.
+     */
+    @Transactional
+    public void patchVotes(String shareCode, String sessionToken, PatchVotesRequest request) {
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
+        validateVotingOpen(ref);
+        Participant participant = findParticipantByToken(ref.getId(), sessionToken);
+
+        // 기존 선택 + add - remove = 최종 선택 상태
+        List<Vote> currentVotes = voteRepository.findByParticipantId(participant.getId());
+        Set<Long> timeIds = candidateIdsOf(currentVotes, CandidateType.TIME);
+        timeIds.addAll(toSet(request.getAddTimeCandidateIds()));
+        timeIds.removeAll(toSet(request.getRemoveTimeCandidateIds()));
+        Set<Long> placeIds = candidateIdsOf(currentVotes, CandidateType.PLACE);
+        placeIds.addAll(toSet(request.getAddPlaceCandidateIds()));
+        placeIds.removeAll(toSet(request.getRemovePlaceCandidateIds()));
+
+        applyVotes(ref, participant, currentVotes, timeIds, placeIds);
+
+        log.info("[투표] 부분 변경 완료 - shareCode={}, participantId={}", shareCode, participant.getId());
+    }
+
     /**
      * 투표 현황 조회.
      *
      * 후보별 득표수 + 투표한 참여자 닉네임 목록 반환.
-     * 5초 폴링으로 호출되므로 쿼리 최적화 필요 (인덱스 활용).
+     * 5초 폴링으로 호출되므로 모임은 GatheringRefCache, 집계는 VoteTallyCache에서 읽는다.
+     * DB는 매번 버전 1개(PK 조회)만 읽고, 캐시 미스일 때만 참여자 목록 + 전체 투표를 1회씩 조회 (후보 수와 무관).
      */
     public VoteSummaryResponse getVoteSummary(String shareCode) {
-        // 모임 코드 조회
-        Gathering gathering = findGatheringByCode(shareCode);
+        // 모임 코드 → ID/상태 (캐시), 버전은 다른 인스턴스의 변경을 알기 위해 DB에서
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
+        return buildVoteSummary(ref, findVersion(ref));
+    }
+
+    /**
+     * 투표 변경분 조회 (since 이후).
+     *
+     * 폴링마다 전체 현황(모든 투표자 이름 포함)을 보내는 대신, 변경분만 보낸다.
+     * 변경 기록이 부족하면 (since가 너무 오래됨, 재시작 직후 등) 전체 스냅샷으로 대체.
+     */
+    public VoteChangesResponse getVoteChanges(String shareCode, long since) {
+        GatheringRef ref = gatheringRefCache.resolve(shareCode);
+        long version = findVersion(ref);
+
+        // 변경 없음
+        if (since == version) {
+            return VoteChangesResponse.builder()
+                    .version(version)
+                    .changes(List.of())
+                    .build();
+        }
 
-        // 참여자 목록 조회
-        // 참여자 목록
-        List<Participant> participants = participantRepository.findByGatheringId(gathering.getId());
-        Map<Long, String> participantNameMap = participants.stream()
-                .collect(Collectors.toMap(Participant::getId, Participant::getName));
+        // since < version일 때만 변경분 응답 가능 (since가 더 크면 잘못된 버전 → 스냅샷)
+        List<VoteChangesResponse.Change> changes = since < version ? voteChangeLog.since(shareCode, since) : null;
+        if (changes != null && !changes.isEmpty()) {
+            return VoteChangesResponse.builder()
+                    .version(changes.get(changes.size() - 1).getVersion())
+                    .changes(changes)
+                    .build();
+        }
+
+        // 기록 부족 → 전체 스냅샷 + 현재 상태 (스냅샷은 version 이후 상태를 포함할 수 있으나, 변경 적용이 멱등이라 무방)
+        // 상태를 함께 보내야 기록이 없는 사이 확정/만료된 모임도 클라이언트가 폴링을 멈출 수 있다
+        return VoteChangesResponse.builder()
+                .version(version)
+                .fullSnapshot(true)
+                .snapshot(buildVoteSummary(ref, version))
+                .status(ref.getStatus().name())
+                .build();
+    }
+
+    // ========== Private 메서드 ==========
+
+    // 모임의 현재 변경 버전 (캐시 이후 삭제된 모임이면 404)
+    private long findVersion(GatheringRef ref) {
+        return gatheringRepository.findVersionById(ref.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+    }
+
+    /** 모임의 투표 현황 (집계는 VoteTallyCache) */
+    private VoteSummaryResponse buildVoteSummary(GatheringRef ref, long version) {
+        // 집계 스냅샷 (참여자 + 후보별 투표자)
+        VoteTally tally = voteTallyCache.get(ref.getId(), ref.getStatus(), version);
+        Map<Long, String> participantNameMap = tally.getParticipantNames();
 
         // 시간 후보별 집계
         List<VoteSummaryResponse.CandidateVote> timeVotes =
-                buildCandidateVotes(gathering.getId(), CandidateType.TIME, participantNameMap);
+                buildCandidateVotes(tally.getVoters(CandidateType.TIME), participantNameMap);
 
         // 장소 후보별 집계
         List<VoteSummaryResponse.CandidateVote> placeVotes =
-                buildCandidateVotes(gathering.getId(), CandidateType.PLACE, participantNameMap);
+                buildCandidateVotes(tally.getVoters(CandidateType.PLACE), participantNameMap);
 
         return VoteSummaryResponse.builder()
-                .participantCount(participants.size())
-                .participantNames(participants.stream().map(Participant::getName).toList())
+                .participantCount(tally.getParticipantCount())
+                .participantNames(List.copyOf(participantNameMap.values()))
                 .timeCandidateVotes(timeVotes)
                 .placeCandidateVotes(placeVotes)
                 .build();
     }
 
-    // ========== Private 메서드 ==========
-
-    // 모임 코드로 모임 조회
-    private Gathering findGatheringByCode(String shareCode) {
-        return gatheringRepository.findByShareCode(shareCode)
-                .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
-    }
-
     /** VOTING 상태가 아니면 투표 불가 */
-    private void validateVotingOpen(Gathering gathering) {
-        if (gathering.getStatus() != GatheringStatus.VOTING) {
+    private void validateVotingOpen(GatheringRef ref) {
+        if (ref.getStatus() != GatheringStatus.VOTING) {
             throw new BusinessException(ErrorCode.VOTING_CLOSED);
         }
     }
 
-    /** 세션 토큰으로 참여자 조회 */
+    /**
+     * 변경 버전 증가 (투표 쓰기 공통).
+     * 상태는 캐시에서 읽었으므로 UPDATE 조건으로 VOTING을 다시 확인한다.
+     * 그 사이 확정/만료됐으면 VOTING_CLOSED → 트랜잭션 롤백으로 투표도 취소.
+     */
+    private long incrementVersionIfVoting(GatheringRef ref) {
+        return gatheringRepository.incrementVersionIfVoting(ref.getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.VOTING_CLOSED));
+    }
+
+    /**
+     * 세션 토큰으로 참여자 조회.
+     *
+     * 1) 서명 토큰: 서명 + 모임 ID를 확인한 뒤 참여자가 실제로 있는지 확인
+     *    - 집계 캐시에 올라온 모임의 참여자면 프록시로 참조 (DB 조회 없음, 캐시는 버전이 바뀌면 다시 로드됨)
+     *    - 아니면 ID + 모임 ID로 1행 조회 → 삭제된 참여자의 토큰은 서명이 맞아도 거부
+     * 2) 기존 UUID 토큰, 또는 검증 키가 빠진 서명 토큰: 해시를 DB와 비교 (마이그레이션 기간용)
+     */
     private Participant findParticipantByToken(Long gatheringId, String sessionToken) {
         if (sessionToken == null || sessionToken.isBlank()) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED, "세션 토큰이 필요합니다.");
         }
-        String tokenHash = TokenHashUtil.hash(sessionToken);
+
+        TokenSigner.VerifiedToken verified = tokenSigner.verify(sessionToken, TokenType.SESSION);
+        if (verified != null) {
+            if (verified.getGatheringId() != gatheringId) {
+                throw new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 세션 토큰입니다.");
+            }
+            if (voteTallyCache.findParticipantName(gatheringId, verified.getSubjectId()) != null) {
+                return participantRepository.getReferenceById(verified.getSubjectId());
+            }
+            return participantRepository.findByIdAndGatheringId(verified.getSubjectId(), gatheringId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 세션 토큰입니다."));
+        }
+
+        String tokenHash = TokenHashUtil.hash(tokenSigner.fallbackSecret(sessionToken, TokenType.SESSION));
         return participantRepository.findByGatheringIdAndSessionTokenHash(gatheringId, tokenHash)
                 .orElseThrow(() -> new BusinessException(ErrorCode.UNAUTHORIZED, "유효하지 않은 세션 토큰입니다."));
     }
 
+    /**
+     * 변경 이벤트용 참여자 닉네임.
+     * 서명 토큰 경로(프록시)면 집계 캐시 → 닉네임 컬럼 순으로 찾아서 엔티티 로드를 피한다.
+     */
+    private String participantName(Long gatheringId, Participant participant) {
+        if (Hibernate.isInitialized(participant)) {
+            return participant.getName();
+        }
+        String cached = voteTallyCache.findParticipantName(gatheringId, participant.getId());
+        return cached != null ? cached : participantRepository.findNameById(participant.getId()).orElse(null);
+    }
+
     /**
      * 투표 저장 (공통).
      * candidateIds가 null이거나 비어있으면 skip.
      * 유효하지 않은 candidateId는 Service에서 검증하지 않음 (FK 없으므로).
      * → MVP에서는 프론트가 유효한 ID만 보내는 것을 신뢰.
+     *
+     * @return 실제로 저장한 후보 ID 집합 (중복 제거됨)
      */
-    private void saveVotes(Gathering gathering, Participant participant,
-                           List<Long> candidateIds, CandidateType type) {
+    private Set<Long> saveVotes(Gathering gathering, Participant participant,
+                                List<Long> candidateIds, CandidateType type) {
         // 후보가 없으면 스킵
         if (candidateIds == null || candidateIds.isEmpty()) {
-            return;
+            return Collections.emptySet();
         }
 
-        // 중복 distinct 후, map -> list로 변환
-        List<Vote> votes = candidateIds.stream()
-                .distinct()  // 클라이언트 중복 전송 방어
-                .map(candidateId -> Vote.builder()
-                        .gathering(gathering)
-                        .participant(participant)
-                        .candidateId(candidateId)
-                        .candidateType(type)
-                        .build())
+        // 클라이언트 중복 전송 방어 (입력 순서 유지)
+        Set<Long> distinctIds = new LinkedHashSet<>(candidateIds);
+
+        List<Vote> votes = distinctIds.stream()
+                .map(candidateId -> newVote(gathering, participant, candidateId, type))
                 .toList();
 
         // 투표 저장
         voteRepository.saveAll(votes);
+        return distinctIds;
     }
 
-    /** 후보별 득표수 + 투표자 이름 조립 */
-    private List<VoteSummaryResponse.CandidateVote> buildCandidateVotes(
-            Long gatheringId, CandidateType type, Map<Long, String> participantNameMap) {
+    /** 기존 투표를 조회한 뒤 최종 선택 상태로 맞춤 */
+    private void applyVotes(GatheringRef ref, Participant participant,
+                            Set<Long> timeIds, Set<Long> placeIds) {
+        List<Vote> currentVotes = voteRepository.findByParticipantId(participant.getId());
+        applyVotes(ref, participant, currentVotes, timeIds, placeIds);
+    }
 
-        // 후보별 득표수 조회
-        List<Object[]> voteCounts = voteRepository.countByGatheringAndType(gatheringId, type);
+    /**
+     * 현재 투표와 최종 선택 상태의 차이만 반영.
+     * 삭제는 ID 목록으로 1회, 추가는 타입별 INSERT ... ON CONFLICT DO NOTHING 1회.
+     * 바뀐 게 있을 때만 버전을 올리고 변경 이벤트를 발행한다.
+     *
+     * 같은 참여자의 요청 두 개가 동시에 같은 후보를 추가하면 둘 다 "없음"으로 읽는다.
+     * 추가는 이미 있는 행을 건너뛰므로 늦은 쪽은 아무것도 INSERT하지 않고 성공한다 (멱등).
+     */
+    private void applyVotes(GatheringRef ref, Participant participant, List<Vote> currentVotes,
+                            Set<Long> timeIds, Set<Long> placeIds) {
+        Set<Long> oldTimeIds = candidateIdsOf(currentVotes, CandidateType.TIME);
+        Set<Long> oldPlaceIds = candidateIdsOf(currentVotes, CandidateType.PLACE);
+
+        Set<Long> timeAdded = difference(timeIds, oldTimeIds);
+        Set<Long> timeRemoved = difference(oldTimeIds, timeIds);
+        Set<Long> placeAdded = difference(placeIds, oldPlaceIds);
+        Set<Long> placeRemoved = difference(oldPlaceIds, placeIds);
+
+        if (timeAdded.isEmpty() && timeRemoved.isEmpty() && placeAdded.isEmpty() && placeRemoved.isEmpty()) {
+            return;  // 변경 없음
+        }
 
-        // 조회한 득표 데이터를 기반으로 CandidateVote 리스트 생성
-        return voteCounts.stream()
-                .map(row -> {
-                    // 후보 ID와 해당 후보의 득표 수를 각각 추출
-                    Long candidateId = (Long) row[0];  // 후보 ID
-                    long count = (Long) row[1];        // 해당 후보의 득표 수
+        // 해제된 후보의 투표 행 삭제 (1회)
+        List<Long> removedVoteIds = currentVotes.stream()
+                .filter(vote -> vote.getCandidateType() == CandidateType.TIME
+                        ? timeRemoved.contains(vote.getCandidateId())
+                        : placeRemoved.contains(vote.getCandidateId()))
+                .map(Vote::getId)
+                .toList();
+        if (!removedVoteIds.isEmpty()) {
+            voteRepository.deleteAllByIdIn(removedVoteIds);
+        }
 
-                    // 해당 후보에 투표한 참여자들의 ID 목록 조회
-                    List<Long> voterIds = voteRepository.findParticipantIdsByCandidateAndType(candidateId, type);
+        // 새로 선택한 후보만 저장 (동시 요청이 먼저 넣은 행은 건너뜀 → 실제로 넣은 것만 변경분으로)
+        timeAdded.retainAll(insertVotes(ref, participant, timeAdded, CandidateType.TIME));
+        placeAdded.retainAll(insertVotes(ref, participant, placeAdded, CandidateType.PLACE));
+        if (timeAdded.isEmpty() && placeAdded.isEmpty() && removedVoteIds.isEmpty()) {
+            return;  // 추가하려던 투표가 모두 이미 있음
+        }
 
+        // 변경 버전 증가 + 변경 이벤트 발행
+        long version = incrementVersionIfVoting(ref);
+        eventPublisher.publishEvent(VoteChangedEvent.builder()
+                .gatheringId(ref.getId())
+                .shareCode(ref.getShareCode())
+                .version(version)
+                .participantId(participant.getId())
+                .participantName(participantName(ref.getId(), participant))
+                .timeAdded(timeAdded)
+                .timeRemoved(timeRemoved)
+                .placeAdded(placeAdded)
+                .placeRemoved(placeRemoved)
+                .build());
+    }
+
+    /** 투표 추가 (이미 있는 후보는 건너뜀), 실제로 추가된 후보 ID 반환 */
+    private List<Long> insertVotes(GatheringRef ref, Participant participant, Set<Long> candidateIds,
+                                   CandidateType type) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return voteRepository.insertIgnoringDuplicates(ref.getId(), participant.getId(), type.name(), candidateIds);
+    }
+
+    private Vote newVote(Gathering gathering, Participant participant, Long candidateId, CandidateType type) {
+        return Vote.builder()
+                .gathering(gathering)
+                .participant(participant)
+                .candidateId(candidateId)
+                .candidateType(type)
+                .build();
+    }
+
+    /** 투표 목록 → 해당 타입의 후보 ID 집합 (수정 가능한 새 Set) */
+    private Set<Long> candidateIdsOf(List<Vote> votes, CandidateType type) {
+        return votes.stream()
+                .filter(vote -> vote.getCandidateType() == type)
+                .map(Vote::getCandidateId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /** 요청 목록 → 중복 제거된 Set (null이면 빈 Set, 입력 순서 유지) */
+    private Set<Long> toSet(List<Long> candidateIds) {
+        return candidateIds != null ? new LinkedHashSet<>(candidateIds) : new LinkedHashSet<>();
+    }
+
+    /** a - b (차집합) */
+    private Set<Long> difference(Set<Long> a, Set<Long> b) {
+        Set<Long> result = new LinkedHashSet<>(a);
+        result.removeAll(b);
+        return result;
+    }
+
+    /**
+     * 후보별 득표수 + 투표자 이름 조립.
+     * votersByCandidate는 VoteTally의 후보 ID → 투표자 ID 목록 (후보 ID 오름차순).
+     */
+    private List<VoteSummaryResponse.CandidateVote> buildCandidateVotes(
+            Map<Long, List<Long>> votersByCandidate, Map<Long, String> participantNameMap) {
+
+        return votersByCandidate.entrySet().stream()
+                .map(entry -> {
                     // 참여자 ID를 기반으로 참여자 이름을 매핑, 이름 목록 생성
-                    List<String> voterNames = voterIds.stream()
+                    List<String> voterNames = entry.getValue().stream()
                             .map(id -> participantNameMap.getOrDefault(id, "알 수 없음")) // 참여자 이름이 없을 경우 "알 수 없음" 반환
                             .toList();
 
                     // 후보 ID, 득표 수, 참여자 이름 목록을 포함한 CandidateVote 객체 생성
                     return VoteSummaryResponse.CandidateVote.builder()
-                            .candidateId(candidateId)
-                            .voteCount(count)
+                            .candidateId(entry.getKey())
+                            .voteCount(voterNames.size())
                             .voterNames(voterNames)
                             .build();
                 })
-                .toList(); // 최종적으로 CandidateVote 객체 리스트를 반환
+                .toList();
     }
 }
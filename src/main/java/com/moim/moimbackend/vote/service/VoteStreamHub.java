@@ -0,0 +1,394 @@
+package com.moim.moimbackend.vote.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import com.moim.moimbackend.vote.dto.VoteSummaryResponse;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 투표 현황 실시간 스트림(SSE) 팬아웃 허브.
+ *
+ * 5초 폴링 대신, 모임(shareCode)별 구독자에게 변경이 있을 때만 푸시한다.
+ * - votes  이벤트: 투표 현황(VoteSummaryResponse) 전체
+ * - status 이벤트: 상태 전이 (VOTING → TIEBREAK → CONFIRMED / EXPIRED)
+ *
+ * 연결당 스레드를 점유하지 않는다:
+ * SseEmitter는 서블릿 비동기 요청이라 대기 중인 연결은 소켓만 차지하고,
+ * 실제 전송은 작은 sender 스레드 풀이 변경이 있을 때만 수행한다.
+ * (수만 연결을 받으려면 server.tomcat.max-connections도 함께 늘려야 함)
+ *
+ * 백프레셔:
+ * - votes 이벤트는 구독자별로 "최신 1건"만 유지 → 느린 클라이언트는 중간 상태를 건너뛴다
+ * - 전송 대기 중인 제어 이벤트(status/heartbeat)가 한도를 넘으면 연결을 끊는다 (재연결 시 최신 현황부터)
+ * - 현황 JSON은 변경 1회당 한 번만 직렬화해서 모든 구독자가 공유
+ *
+ * 전송 풀:
+ * - sender 작업은 구독자당 최대 1개 + 모임당 갱신 1개라서 대기열을 max-subscribers * 2로 제한한다
+ * - 그래도 대기열이 차면 해당 연결을 끊는다 (무한히 쌓이지 않음)
+ * - 가상 스레드 모드(BackgroundThreads)에서는 풀 대신 작업마다 가상 스레드
+ *   (구독자당 전송 작업이 최대 1개라 스레드 수는 구독자 수로 제한됨)
+ *
+ * 정리:
+ * - 완료/타임아웃/에러 콜백, heartbeat 전송 실패 시 구독 해제
+ * - CONFIRMED / EXPIRED가 되면 마지막 status 이벤트 전송 후 스트림 종료
+ * - 이미 CONFIRMED / EXPIRED인 모임을 구독하면 현황 + status 전송 후 바로 종료
+ */
+@Slf4j
+@Component
+public class VoteStreamHub {
+
+    /** 프록시/로드밸런서의 idle 연결 종료를 막고 끊긴 연결을 감지하기 위한 주석 이벤트 */
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    /** 스트림 종료 표시 (제어 큐에서 꺼내면 emitter.complete()) */
+    private static final Set<DataWithMediaType> COMPLETE = Collections.unmodifiableSet(new HashSet<>());
+
+    private final VoteService voteService;
+    private final GatheringRepository gatheringRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int maxPendingEvents;
+    private final Executor sender;
+    private final Supplier<SseEmitter> emitterFactory;
+
+    /** shareCode → 구독 토픽 */
+    private final ConcurrentHashMap<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public VoteStreamHub(VoteService voteService,
+                         GatheringRepository gatheringRepository,
+                         ObjectMapper objectMapper,
+                         BackgroundThreads backgroundThreads,
+                         @Value("${moim.vote-stream.timeout-millis:1800000}") long emitterTimeoutMillis,
+                         @Value("${moim.vote-stream.max-subscribers:50000}") int maxSubscribers,
+                         @Value("${moim.vote-stream.max-pending-events:16}") int maxPendingEvents,
+                         @Value("${moim.vote-stream.sender-threads:4}") int senderThreads) {
+        this(voteService, gatheringRepository, objectMapper, maxSubscribers, maxPendingEvents,
+                backgroundThreads.isVirtual()
+                        ? backgroundThreads.perTaskExecutor("vote-stream-")
+                        : senderPool(senderThreads, maxSubscribers * 2),
+                () -> new SseEmitter(emitterTimeoutMillis));
+    }
+
+    /** 전송 스레드와 emitter를 직접 지정 (테스트용) */
+    VoteStreamHub(VoteService voteService,
+                  GatheringRepository gatheringRepository,
+                  ObjectMapper objectMapper,
+                  int maxSubscribers,
+                  int maxPendingEvents,
+                  Executor sender,
+                  Supplier<SseEmitter> emitterFactory) {
+        this.voteService = voteService;
+        this.gatheringRepository = gatheringRepository;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPendingEvents = maxPendingEvents;
+        this.sender = sender;
+        this.emitterFactory = emitterFactory;
+    }
+
+    /**
+     * 모임 구독.
+     *
+     * 구독자를 먼저 등록한 뒤 현재 투표 현황을 읽어서 보낸다.
+     * 현황을 먼저 읽으면, 읽은 직후 ~ 등록 전에 커밋된 변경은 푸시 대상이 아니라서 유실된다.
+     * 등록 후에 커밋된 변경은 갱신(refresh)으로 전달되고, 갱신이 먼저 도착했으면 초기 현황은 보내지 않는다.
+     */
+    public SseEmitter subscribe(String shareCode) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.RATE_LIMITED, "실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = emitterFactory.get();
+        Subscriber subscriber = new Subscriber(shareCode, emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        topics.compute(shareCode, (code, topic) -> {
+            Topic target = topic != null ? topic : new Topic(code);
+            target.subscribers.add(subscriber);
+            return target;
+        });
+
+        try {
+            // 존재하지 않는 모임이면 GATHERING_NOT_FOUND (상태는 캐시가 아니라 DB에서 확인)
+            GatheringRef ref = gatheringRepository.findRefByShareCode(shareCode)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.GATHERING_NOT_FOUND));
+            Set<DataWithMediaType> votesEvent = votesEvent(voteService.getVoteSummary(shareCode));
+
+            if (isTerminal(ref.getStatus())) {
+                // 이미 끝난 모임 → 등록 전에 지나간 상태 전이 이벤트를 다시 받을 수 없으므로 여기서 종료
+                long version = gatheringRepository.findVersionByShareCode(shareCode).orElse(0L);
+                subscriber.offerControl(votesEvent);
+                subscriber.offerControl(statusEvent(ref.getStatus(), version));
+                subscriber.offerControl(COMPLETE);
+            } else {
+                subscriber.offerSnapshot(votesEvent);
+            }
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+
+        log.debug("[스트림] 구독 - shareCode={}, 전체 연결={}", shareCode, subscriberCount.get());
+        return emitter;
+    }
+
+    /** 커밋된 투표 변경 → 해당 모임 구독자에게 최신 현황 푸시 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteChanged(VoteChangedEvent event) {
+        refresh(event.getShareCode());
+    }
+
+    /** 상태 전이 → status 이벤트 전송, 최종 상태면 스트림 종료 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(GatheringStatusChangedEvent event) {
+        Topic topic = topics.get(event.getShareCode());
+        if (topic == null) {
+            return;
+        }
+
+        Set<DataWithMediaType> statusEvent = statusEvent(event.getStatus(), event.getVersion());
+        boolean terminal = isTerminal(event.getStatus());
+
+        for (Subscriber subscriber : topic.subscribers) {
+            subscriber.offerControl(statusEvent);
+            if (terminal) {
+                subscriber.offerControl(COMPLETE);
+            }
+        }
+    }
+
+    /** 15초마다 heartbeat. 전송 실패한 연결은 이 과정에서 정리된다. */
+    @Scheduled(fixedRateString = "${moim.vote-stream.heartbeat-millis:15000}")
+    public void heartbeat() {
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                if (!subscriber.draining.get()) {
+                    subscriber.offerControl(HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /** 현재 연결 수 (모니터링용) */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorConfigurationSupport pool) {
+            pool.shutdown();
+        }
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    // ========== Private 메서드 ==========
+
+    /**
+     * 모임의 최신 현황을 한 번만 만들어 모든 구독자에게 전달.
+     * 짧은 시간에 변경이 몰리면 하나의 갱신으로 합쳐진다.
+     */
+    private void refresh(String shareCode) {
+        Topic topic = topics.get(shareCode);
+        if (topic == null || !topic.refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                // 현황을 읽기 전에 해제 → 읽는 도중 들어온 변경은 다음 갱신으로 반영됨
+                topic.refreshScheduled.set(false);
+                try {
+                    Set<DataWithMediaType> votesEvent = votesEvent(voteService.getVoteSummary(shareCode));
+                    topic.subscribers.forEach(subscriber -> subscriber.offerVotes(votesEvent));
+                } catch (Exception e) {
+                    log.warn("[스트림] 현황 갱신 실패 - shareCode={}, error={}", shareCode, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            topic.refreshScheduled.set(false);
+            log.warn("[스트림] 전송 대기열 가득 참, 현황 갱신 생략 - shareCode={}", shareCode);
+        }
+    }
+
+    private Set<DataWithMediaType> votesEvent(VoteSummaryResponse summary) {
+        return SseEmitter.event().name("votes").data(toJson(summary)).build();
+    }
+
+    private Set<DataWithMediaType> statusEvent(GatheringStatus status, long version) {
+        return SseEmitter.event()
+                .name("status")
+                .data(toJson(Map.of("status", status.name(), "version", version)))
+                .build();
+    }
+
+    private static boolean isTerminal(GatheringStatus status) {
+        return status == GatheringStatus.CONFIRMED || status == GatheringStatus.EXPIRED;
+    }
+
+    /** 고정 크기 전송 풀 (대기열 상한 있음, 가득 차면 RejectedExecutionException) */
+    private static ThreadPoolTaskExecutor senderPool(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(threads);
+        pool.setMaxPoolSize(threads);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("vote-stream-");
+        pool.setDaemon(true);
+        pool.initialize();
+        return pool;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패", e);
+        }
+    }
+
+    /** 모임 하나의 구독자 묶음 */
+    private static class Topic {
+        final String shareCode;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+        Topic(String shareCode) {
+            this.shareCode = shareCode;
+        }
+    }
+
+    /**
+     * 연결 하나.
+     * 전송은 구독자당 최대 1개의 sender 작업만 돌도록 직렬화한다 (draining 플래그).
+     */
+    private class Subscriber {
+        final String shareCode;
+        final SseEmitter emitter;
+        final AtomicReference<Set<DataWithMediaType>> latestVotes = new AtomicReference<>();
+        final Queue<Set<DataWithMediaType>> control = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        /** 등록 후 갱신(refresh)을 한 번이라도 받았는지 → 받았으면 초기 현황은 더 오래된 값이라 버린다 */
+        boolean refreshed;
+
+        Subscriber(String shareCode, SseEmitter emitter) {
+            this.shareCode = shareCode;
+            this.emitter = emitter;
+        }
+
+        /** 최신 현황으로 교체 (이전에 못 보낸 현황은 버림) */
+        void offerVotes(Set<DataWithMediaType> event) {
+            synchronized (this) {
+                refreshed = true;
+                latestVotes.set(event);
+            }
+            schedule();
+        }
+
+        /** 구독 직후 현황. 그 사이 갱신이 먼저 왔으면 버린다. */
+        void offerSnapshot(Set<DataWithMediaType> event) {
+            synchronized (this) {
+                if (refreshed) {
+                    return;
+                }
+                latestVotes.set(event);
+            }
+            schedule();
+        }
+
+        void offerControl(Set<DataWithMediaType> event) {
+            if (control.size() >= maxPendingEvents) {
+                // 소비가 너무 느린 연결 → 끊고 재연결 유도
+                log.debug("[스트림] 느린 연결 종료 - shareCode={}", shareCode);
+                close();
+                emitter.complete();
+                return;
+            }
+            control.add(event);
+            schedule();
+        }
+
+        void schedule() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // 전송 풀 포화 → 이 연결은 끊고 재연결 시 최신 현황부터
+                    draining.set(false);
+                    close();
+                    emitter.complete();
+                }
+            }
+        }
+
+        void drain() {
+            try {
+                Set<DataWithMediaType> next;
+                while (!closed.get()
+                        && ((next = control.poll()) != null || (next = latestVotes.getAndSet(null)) != null)) {
+                    if (next == COMPLETE) {
+                        close();
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 끊김
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료 직후 들어온 이벤트가 있으면 다시 예약
+            if (!control.isEmpty() || latestVotes.get() != null) {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriberCount.decrementAndGet();
+            topics.computeIfPresent(shareCode, (code, topic) -> {
+                topic.subscribers.remove(this);
+                return topic.subscribers.isEmpty() ? null : topic;
+            });
+        }
+    }
+}
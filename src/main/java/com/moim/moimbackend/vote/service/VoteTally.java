@@ -0,0 +1,52 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.vote.entity.CandidateType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모임 하나의 투표 집계 스냅샷 (읽기 전용).
+ *
+ * VoteTallyCache가 변경 시점에 한 번 만들어 두고, 폴링 요청들은 같은 스냅샷을 공유한다.
+ * 내부 컬렉션은 모두 불변이므로 여러 스레드에서 동시에 읽어도 안전.
+ */
+public class VoteTally {
+
+    /** 참여자 ID → 닉네임 (참여 순서 유지) */
+    private final Map<Long, String> participantNames;
+
+    /** 후보 ID → 투표한 참여자 ID 목록 (후보 ID 오름차순) */
+    private final Map<Long, List<Long>> timeVoters;
+    private final Map<Long, List<Long>> placeVoters;
+
+    VoteTally(Map<Long, String> participantNames,
+              Map<Long, List<Long>> timeVoters,
+              Map<Long, List<Long>> placeVoters) {
+        this.participantNames = Collections.unmodifiableMap(participantNames);
+        this.timeVoters = Collections.unmodifiableMap(timeVoters);
+        this.placeVoters = Collections.unmodifiableMap(placeVoters);
+    }
+
+    public int getParticipantCount() {
+        return participantNames.size();
+    }
+
+    public Map<Long, String> getParticipantNames() {
+        return participantNames;
+    }
+
+    /** 후보 ID → 투표자 ID 목록 */
+    public Map<Long, List<Long>> getVoters(CandidateType type) {
+        return type == CandidateType.TIME ? timeVoters : placeVoters;
+    }
+
+    /** 후보 ID → 득표수 (투표가 1건 이상인 후보만 포함) */
+    public Map<Long, Long> getVoteCounts(CandidateType type) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        getVoters(type).forEach((candidateId, voters) -> counts.put(candidateId, (long) voters.size()));
+        return counts;
+    }
+}
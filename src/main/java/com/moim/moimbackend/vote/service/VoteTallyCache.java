@@ -0,0 +1,312 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.vote.entity.CandidateType;
+import com.moim.moimbackend.vote.entity.Participant;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import com.moim.moimbackend.vote.repository.ParticipantRepository;
+import com.moim.moimbackend.vote.repository.VoteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 진행 중인 모임(VOTING / TIEBREAK)의 투표 집계 인메모리 캐시.
+ *
+ * 득표수는 participate / updateVotes 때만 바뀌는데,
+ * 5초 폴링마다 vote 테이블을 GROUP BY 하는 것은 낭비 → 집계 결과를 메모리에 유지.
+ *
+ * 동작 방식:
+ * 1. 캐시 미스 → DB에서 참여자 + 투표를 1회 로드 (lazy)
+ * 2. 투표 변경 → 커밋 이후 VoteChangedEvent의 변경분만 반영 (증분 갱신)
+ * 3. CONFIRMED / EXPIRED 전환 → 즉시 제거 (더 이상 바뀌지 않음)
+ * 4. 일정 시간 조회가 없으면 제거 (idle eviction)
+ *
+ * 각 항목은 "이 버전까지의 모임 변경(gathering.version)을 빠짐없이 반영했다"는 버전을 기억한다.
+ * - 커밋 후 이벤트는 커밋 순서와 다르게 도착할 수 있어서, 다음 버전이 올 때까지 모아 두었다가 순서대로 반영
+ * - VOTING → TIEBREAK 전환도 버전을 올리므로 변경분 없이 버전만 채운다
+ * - 조회 시 DB의 버전이 더 크면 (다른 인스턴스의 변경, 빠진 이벤트 등) 다시 로드
+ * 그래서 조회한 버전 이상의 항목이면 그 버전까지의 투표가 모두 들어 있다
+ * (ConfirmService가 이 집계로 판정하고, 버전 조건부 전이로 그 뒤의 투표를 걸러낸다).
+ *
+ * 미스 시 로드는 맵 락 밖에서 한다: CompletableFuture를 putIfAbsent로 먼저 등록한 스레드만 DB를 읽고,
+ * 같은 모임의 동시 미스는 그 future를 기다린다 (computeIfAbsent 안에서 JDBC를 돌리면
+ * 같은 bin의 다른 모임까지 막히고 가상 스레드가 캐리어에 고정된다).
+ */
+@Slf4j
+@Component
+public class VoteTallyCache {
+
+    /** 버전 공백이 채워지길 기다리며 모아 둘 이벤트 수 상한 (넘으면 버리고 다음 조회 때 다시 로드) */
+    private static final int MAX_PENDING = 256;
+
+    private final ParticipantRepository participantRepository;
+    private final VoteRepository voteRepository;
+
+    /** 마지막 조회 후 이 시간이 지나면 제거 */
+    private final long idleTtlMillis;
+    /** 캐시에 유지할 최대 모임 수 (초과 시 캐시 없이 DB에서 바로 집계) */
+    private final int maxGatherings;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<Entry>> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VoteTallyCache(ParticipantRepository participantRepository,
+                          VoteRepository voteRepository,
+                          @Value("${moim.vote-tally.idle-ttl-seconds:600}") long idleTtlSeconds,
+                          @Value("${moim.vote-tally.max-gatherings:10000}") int maxGatherings) {
+        this(participantRepository, voteRepository, idleTtlSeconds, maxGatherings, System::currentTimeMillis);
+    }
+
+    /** 시계를 직접 지정 (테스트용, 유휴 제거를 기다리지 않고 검증) */
+    VoteTallyCache(ParticipantRepository participantRepository,
+                   VoteRepository voteRepository,
+                   long idleTtlSeconds,
+                   int maxGatherings,
+                   LongSupplier clock) {
+        this.participantRepository = participantRepository;
+        this.voteRepository = voteRepository;
+        this.idleTtlMillis = idleTtlSeconds * 1000;
+        this.maxGatherings = maxGatherings;
+        this.clock = clock;
+    }
+
+    /**
+     * 모임의 투표 집계 스냅샷 조회.
+     *
+     * VOTING / TIEBREAK 모임만 캐시에 올린다.
+     * 확정/만료된 모임은 값이 더 이상 바뀌지 않고 조회도 드물어서 매번 DB에서 집계.
+     *
+     * 모임 엔티티 대신 ID/상태와 DB에서 읽은 변경 버전만 받는다.
+     * 반환된 스냅샷은 version까지의 변경을 모두 반영한다 (그 뒤의 변경이 들어 있을 수도 있음).
+     */
+    public VoteTally get(Long gatheringId, GatheringStatus status, long version) {
+        if (!isCacheable(status)) {
+            return load(gatheringId, version).snapshot();
+        }
+
+        while (true) {
+            CompletableFuture<Entry> future = entries.get(gatheringId);
+            if (future == null) {
+                if (entries.size() >= maxGatherings) {
+                    return load(gatheringId, version).snapshot();
+                }
+                CompletableFuture<Entry> created = new CompletableFuture<>();
+                future = entries.putIfAbsent(gatheringId, created);
+                if (future == null) {
+                    // 등록에 성공한 스레드만 로드, 나머지는 아래 await에서 기다림
+                    future = created;
+                    loadInto(created, gatheringId, version);
+                }
+            }
+
+            Entry entry = await(future);
+            if (entry.version < version) {
+                // 캐시가 모르는 변경이 있음 → 이 항목을 내리고 다시 로드
+                entries.remove(gatheringId, future);
+                continue;
+            }
+            entry.lastAccessAt = clock.getAsLong();
+            return entry.snapshot();
+        }
+    }
+
+    /**
+     * 캐시에 올라와 있는 모임의 참여자 닉네임 (없으면 null).
+     * 서명 토큰으로 인증해 참여자 엔티티를 로드하지 않은 경우, 이벤트용 닉네임을 DB 없이 찾는 데 사용.
+     */
+    public String findParticipantName(Long gatheringId, Long participantId) {
+        Entry entry = loaded(entries.get(gatheringId));
+        return entry != null ? entry.snapshot().getParticipantNames().get(participantId) : null;
+    }
+
+    /**
+     * 커밋된 투표 변경분을 반영. 캐시에 없는 모임이면 무시 (다음 조회 때 로드됨).
+     * 로드 중인 모임이면 로드가 끝난 뒤 반영한다 (로드 결과에 이미 들어 있는 버전이면 건너뜀).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onVoteChanged(VoteChangedEvent event) {
+        CompletableFuture<Entry> future = entries.get(event.getGatheringId());
+        if (future != null) {
+            future.thenAccept(entry -> entry.apply(event.getVersion(), event));
+        }
+    }
+
+    /**
+     * 확정/만료된 모임은 더 이상 집계가 바뀌지 않으므로 제거.
+     * VOTING → TIEBREAK는 집계는 그대로이고 버전만 오른다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStatusChanged(GatheringStatusChangedEvent event) {
+        if (!isCacheable(event.getStatus())) {
+            entries.remove(event.getGatheringId());
+            return;
+        }
+        CompletableFuture<Entry> future = entries.get(event.getGatheringId());
+        if (future != null) {
+            future.thenAccept(entry -> entry.apply(event.getVersion(), null));
+        }
+    }
+
+    /** 1분마다 오래 조회되지 않은 모임 제거 (로드 중인 항목은 건드리지 않음) */
+    @Scheduled(fixedRate = 60_000)
+    public void evictIdle() {
+        long threshold = clock.getAsLong() - idleTtlMillis;
+        int before = entries.size();
+        entries.values().removeIf(future -> {
+            Entry entry = loaded(future);
+            return entry != null && entry.lastAccessAt < threshold;
+        });
+        int evicted = before - entries.size();
+        if (evicted > 0) {
+            log.debug("[집계캐시] idle 모임 {} 건 제거 (남은 모임 {} 건)", evicted, entries.size());
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    private boolean isCacheable(GatheringStatus status) {
+        return status == GatheringStatus.VOTING || status == GatheringStatus.TIEBREAK;
+    }
+
+    /** 등록한 future를 로드 결과로 완료. 실패하면 항목을 내려서 다음 조회가 다시 로드하게 한다. */
+    private void loadInto(CompletableFuture<Entry> future, Long gatheringId, long version) {
+        try {
+            future.complete(load(gatheringId, version));
+        } catch (RuntimeException e) {
+            entries.remove(gatheringId, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /** 로드 완료까지 대기 (로드한 스레드의 예외는 그대로 다시 던짐) */
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 로드가 끝난 항목 (없거나 로드 중/실패면 null) */
+    private static Entry loaded(CompletableFuture<Entry> future) {
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * DB에서 참여자 + 전체 투표를 읽어 집계 (쿼리 2회).
+     * version은 조회 시점에 읽은 모임 버전 → 로드 결과는 최소한 이 버전 이상의 상태를 반영한다.
+     */
+    private Entry load(Long gatheringId, long version) {
+        Entry entry = new Entry(version, clock.getAsLong());
+        for (Participant participant : participantRepository.findByGatheringId(gatheringId)) {
+            entry.participantNames.put(participant.getId(), participant.getName());
+        }
+        for (Object[] row : voteRepository.findVoteRowsByGatheringId(gatheringId)) {
+            entry.voters((CandidateType) row[0])
+                    .computeIfAbsent((Long) row[1], id -> new LinkedHashSet<>())
+                    .add((Long) row[2]);
+        }
+        return entry;
+    }
+
+    /**
+     * 모임 하나의 가변 집계 상태.
+     * 변경(apply)과 스냅샷 생성은 synchronized로 직렬화하고,
+     * 스냅샷은 변경이 있을 때만 다시 만든다 (읽기 위주 워크로드).
+     */
+    private static class Entry {
+        final Map<Long, String> participantNames = new LinkedHashMap<>();
+        final Map<Long, Set<Long>> timeVoters = new TreeMap<>();
+        final Map<Long, Set<Long>> placeVoters = new TreeMap<>();
+        /** 버전 → 아직 반영하지 못한 변경 (앞 버전이 도착하지 않음, null = 상태 전환) */
+        private final TreeMap<Long, VoteChangedEvent> pending = new TreeMap<>();
+        /** 이 버전까지의 모임 변경을 빠짐없이 반영함 */
+        volatile long version;
+        volatile long lastAccessAt;
+        private VoteTally snapshot;
+
+        Entry(long version, long now) {
+            this.version = version;
+            this.lastAccessAt = now;
+        }
+
+        Map<Long, Set<Long>> voters(CandidateType type) {
+            return type == CandidateType.TIME ? timeVoters : placeVoters;
+        }
+
+        /**
+         * eventVersion의 변경을 반영 (event가 null이면 집계 변경 없는 상태 전환).
+         * 이미 반영한 버전은 무시하고, 앞 버전이 빠져 있으면 채워질 때까지 보류한다.
+         */
+        synchronized void apply(long eventVersion, VoteChangedEvent event) {
+            if (eventVersion <= version || pending.size() >= MAX_PENDING) {
+                return;
+            }
+            pending.put(eventVersion, event);
+            while (!pending.isEmpty() && pending.firstKey() == version + 1) {
+                VoteChangedEvent next = pending.pollFirstEntry().getValue();
+                if (next != null) {
+                    applyDelta(next);
+                    snapshot = null;
+                }
+                version++;
+            }
+        }
+
+        private void applyDelta(VoteChangedEvent event) {
+            Long participantId = event.getParticipantId();
+            if (event.getParticipantName() != null) {
+                participantNames.put(participantId, event.getParticipantName());
+            }
+            remove(timeVoters, event.getTimeRemoved(), participantId);
+            add(timeVoters, event.getTimeAdded(), participantId);
+            remove(placeVoters, event.getPlaceRemoved(), participantId);
+            add(placeVoters, event.getPlaceAdded(), participantId);
+        }
+
+        synchronized VoteTally snapshot() {
+            if (snapshot == null) {
+                snapshot = new VoteTally(new LinkedHashMap<>(participantNames), copy(timeVoters), copy(placeVoters));
+            }
+            return snapshot;
+        }
+
+        private static void add(Map<Long, Set<Long>> voters, Set<Long> candidateIds, Long participantId) {
+            for (Long candidateId : candidateIds) {
+                voters.computeIfAbsent(candidateId, id -> new LinkedHashSet<>()).add(participantId);
+            }
+        }
+
+        private static void remove(Map<Long, Set<Long>> voters, Set<Long> candidateIds, Long participantId) {
+            for (Long candidateId : candidateIds) {
+                Set<Long> set = voters.get(candidateId);
+                if (set != null && set.remove(participantId) && set.isEmpty()) {
+                    voters.remove(candidateId);
+                }
+            }
+        }
+
+        private static Map<Long, List<Long>> copy(Map<Long, Set<Long>> voters) {
+            Map<Long, List<Long>> copy = new LinkedHashMap<>();
+            voters.forEach((candidateId, set) -> copy.put(candidateId, List.copyOf(set)));
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.config.BackgroundThreads;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 투표 쓰기 그룹 커밋 (선택 기능, moim.vote-batch.enabled=true).
+ *
+ * "지금 다 투표해주세요" 순간에는 같은 모임에 participate/updateVotes가 몰리고,
+ * 요청마다 트랜잭션을 따로 커밋한다 (커밋 = WAL fsync 1회).
+ * 이 배처는 쓰기 요청을 큐에 모았다가 max-wait-millis 또는 max-size마다 한 트랜잭션으로 묶어 커밋한다.
+ * - 호출 스레드는 자기 작업이 포함된 배치가 커밋될 때까지 기다린다 → 응답 시점에는 이미 저장됨
+ * - 큐가 가득 차면 SERVER_BUSY(503)로 바로 거절 (메모리 무한 증가 방지)
+ * - await-timeout-millis 안에 커밋되지 않으면 SERVER_BUSY. 아직 큐에 있던 작업은 빼서 실행되지 않게 한다
+ *   (이미 배치에 들어간 작업은 그대로 커밋될 수 있음 → 투표 추가는 멱등, 참여 재시도는 DUPLICATE_NAME)
+ * - 종료(shutdown) 이후 요청과, 쓰기 스레드가 끝난 뒤 큐에 남은 작업은 SERVER_BUSY
+ * - VoteService 쓰기 메서드는 REQUIRED라 배치 트랜잭션에 그대로 참여한다
+ *
+ * 실패 처리:
+ * 배치 중 하나라도 실패하면(닉네임 중복, 마감 등) 배치 전체를 롤백하고 각 작업을 개별 트랜잭션으로 다시 실행한다.
+ * savepoint로 실패한 작업만 되돌리지 않는 이유:
+ * - 되돌린 작업이 persist한 엔티티가 영속성 컨텍스트에 남는다
+ * - 되돌린 작업이 발행한 VoteChangedEvent도 배치 커밋 후 그대로 전달된다 (집계 캐시 오염)
+ *
+ * 메트릭 (on/off 비교용, 둘 다 같은 이름):
+ * - moim.vote.write{mode=batch|direct}: 요청 1건의 쓰기 지연 (큐 대기 + 커밋), 히스토그램
+ * - moim.vote.batch.size: 커밋당 작업 수
+ * - moim.vote.batch.fallback: 개별 재실행으로 전환된 배치 수
+ * - moim.vote.batch.queue: 커밋을 기다리는 작업 수
+ * 같은 부하에서 두 모드의 moim.vote.write를 비교하는 테스트: VoteWriteBurstTest (MOIM_TEST_VOTE_BURST=true)
+ */
+@Slf4j
+@Component
+public class VoteWriteBatcher {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingWrite<?>> queue;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer writeTimer;
+    private final DistributionSummary batchSize;
+    private final MeterRegistry meterRegistry;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public VoteWriteBatcher(PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            BackgroundThreads backgroundThreads,
+                            @Value("${moim.vote-batch.enabled:false}") boolean enabled,
+                            @Value("${moim.vote-batch.max-size:64}") int maxSize,
+                            @Value("${moim.vote-batch.max-wait-millis:5}") long maxWaitMillis,
+                            @Value("${moim.vote-batch.queue-capacity:4096}") int queueCapacity,
+                            @Value("${moim.vote-batch.await-timeout-millis:10000}") long awaitTimeoutMillis) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+
+        this.writeTimer = Timer.builder("moim.vote.write")
+                .tag("mode", enabled ? "batch" : "direct")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("moim.vote.batch.size")
+                .register(meterRegistry);
+        meterRegistry.gauge("moim.vote.batch.queue", queue, BlockingQueue::size);
+
+        if (enabled) {
+            // 가상 스레드 모드면 writer도 가상 스레드 (BackgroundThreads)
+            this.writer = backgroundThreads.newThread("vote-batch-writer", this::runWriter);
+            this.writer.start();
+            log.info("[투표 배치] 그룹 커밋 사용 - maxSize={}, maxWait={}ms", maxSize, maxWaitMillis);
+        } else {
+            this.writer = null;
+        }
+    }
+
+    /**
+     * 투표 쓰기 실행.
+     * 비활성화 상태면 바로 실행(서비스 자체 트랜잭션), 활성화 상태면 배치 커밋될 때까지 대기.
+     *
+     * @return operation의 결과 (배치 커밋 후)
+     */
+    public <T> T execute(Supplier<T> operation) {
+        long start = System.nanoTime();
+        try {
+            if (!enabled) {
+                return operation.get();
+            }
+
+            if (!running) {
+                throw new BusinessException(ErrorCode.SERVER_BUSY);
+            }
+            PendingWrite<T> write = new PendingWrite<>(operation);
+            if (!queue.offer(write)) {
+                throw new BusinessException(ErrorCode.SERVER_BUSY);
+            }
+            // offer 직전에 종료됐으면 쓰기 스레드가 이미 빠져나갔을 수 있음 → 아직 큐에 있으면 직접 거절
+            if (!running && queue.remove(write)) {
+                throw new BusinessException(ErrorCode.SERVER_BUSY);
+            }
+            return await(write);
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 큐에서 배치를 기다리는 작업 수 */
+    int queued() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));  // 남은 작업을 모두 커밋하고 종료
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    /**
+     * 배치 수집 → 커밋 반복 (종료 신호 후에도 큐에 남은 작업은 처리).
+     * 어떤 이유로든 루프가 끝나면 큐에 남은 작업을 모두 실패시킨다 (호출자가 타임아웃까지 기다리지 않도록).
+     */
+    private void runWriter() {
+        try {
+            writeLoop();
+        } finally {
+            running = false;
+            PendingWrite<?> left;
+            while ((left = queue.poll()) != null) {
+                left.future.completeExceptionally(new BusinessException(ErrorCode.SERVER_BUSY));
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 작업 기준 maxWait 동안 추가 작업을 모음 (maxSize가 차면 바로 커밋)
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite<?> next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Throwable e) {
+                // 여기까지 오면 버그 또는 Error → 대기 중인 호출자가 기다리지 않도록 배치를 실패 처리
+                log.error("[투표 배치] 처리 중 예외", e);
+                batch.forEach(write -> write.future.completeExceptionally(e));
+                if (e instanceof Error error) {
+                    throw error;  // 스레드 종료 (runWriter가 남은 큐를 실패 처리)
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite<?>> batch) {
+        batchSize.record(batch.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(PendingWrite::run));
+            batch.forEach(PendingWrite::complete);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(e);
+                return;
+            }
+            // 배치 전체 롤백됨 → 작업별 트랜잭션으로 다시 실행해서 실패한 작업만 실패시킨다
+            log.debug("[투표 배치] 배치 실패, 개별 재실행 - size={}, cause={}", batch.size(), e.toString());
+            meterRegistry.counter("moim.vote.batch.fallback").increment();
+            for (PendingWrite<?> write : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write.run());
+                    write.complete();
+                } catch (RuntimeException single) {
+                    write.future.completeExceptionally(single);
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 결과 대기 (BusinessException 등 원래 예외를 그대로 전달).
+     * 시간 초과면 SERVER_BUSY. 아직 큐에 있으면 빼서 나중에 실행되지 않게 한다.
+     */
+    private <T> T await(PendingWrite<T> write) {
+        try {
+            return write.future.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            boolean dequeued = queue.remove(write);
+            log.warn("[투표 배치] 커밋 대기 시간 초과 - {}ms, queued={}", awaitTimeoutMillis, dequeued);
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("투표 저장 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /** 큐에 들어간 쓰기 작업 (결과는 커밋 후에만 future로 전달) */
+    private static final class PendingWrite<T> {
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+
+        private PendingWrite(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        private void run() {
+            result = operation.get();
+        }
+
+        private void complete() {
+            future.complete(result);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- ============================================================
+-- V2__gathering_version.sql
+-- 모임별 변경 버전 (ETag / 조건부 GET 용)
+-- ============================================================
+
+-- 투표 참여/변경, 상태 전이마다 1씩 증가하는 단조 증가 버전.
+-- 폴링 요청은 If-None-Match로 받은 버전과 이 값만 비교하고,
+-- 같으면 집계/직렬화 없이 304 Not Modified로 응답한다.
+ALTER TABLE gathering
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
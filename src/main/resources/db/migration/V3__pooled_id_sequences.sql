@@ -0,0 +1,19 @@
+-- ============================================================
+-- V3__pooled_id_sequences.sql
+-- ID 생성 방식 변경: IDENTITY → SEQUENCE (pooled, 50개 단위)
+-- ============================================================
+
+-- IDENTITY는 INSERT를 실행해야 ID를 알 수 있어서 Hibernate가 JDBC 배치를 못 한다.
+-- (후보 30개 모임 생성 = INSERT 31번, 투표 30개 = INSERT 30번 왕복)
+--
+-- BIGSERIAL이 만든 기존 시퀀스를 그대로 쓰고 증가폭만 50으로 바꾼다.
+-- Hibernate pooled optimizer는 nextval 1회로 ID 50개(nextval-49 ~ nextval)를 메모리에서 할당하므로
+-- 엔티티의 @SequenceGenerator(allocationSize = 50)와 반드시 같은 값이어야 한다.
+--
+-- 컬럼 DEFAULT(nextval)는 유지 → 네이티브 INSERT도 계속 동작하며,
+-- 증가폭이 같아서 Hibernate가 할당한 범위와 겹치지 않는다.
+ALTER SEQUENCE gathering_id_seq       INCREMENT BY 50;
+ALTER SEQUENCE time_candidate_id_seq  INCREMENT BY 50;
+ALTER SEQUENCE place_candidate_id_seq INCREMENT BY 50;
+ALTER SEQUENCE participant_id_seq     INCREMENT BY 50;
+ALTER SEQUENCE vote_id_seq            INCREMENT BY 50;
@@ -0,0 +1,9 @@
+-- ============================================================
+-- V4__participant_token_index.sql
+-- 세션 토큰 해시 조회용 인덱스
+-- ============================================================
+
+-- 세션 토큰은 HMAC 서명 토큰으로 바뀌어 평소에는 DB 조회 없이 검증된다.
+-- 기존 UUID 토큰(마이그레이션 기간)과 서명 키가 빠진 토큰만
+-- (gathering_id, session_token_hash)로 조회하므로, 이 경로가 전체 스캔이 되지 않도록 인덱스 추가.
+CREATE INDEX idx_participant_gathering_token ON participant(gathering_id, session_token_hash);
@@ -0,0 +1,14 @@
+-- ============================================================
+-- V5__share_code_sequence.sql
+-- 공유 코드용 시퀀스 (ShareCodeAllocator)
+-- ============================================================
+
+-- 공유 코드 = encode(permute(시퀀스 값)) → 값이 겹치지 않으면 코드도 겹치지 않는다.
+-- nextval 1회로 1000개 블록을 한 노드가 가져간다 (ShareCodeAllocator는 블록 크기를 이 INCREMENT BY에서 읽는다).
+-- 최댓값은 62^6 - 1 (6자리 base62 공간).
+CREATE SEQUENCE share_code_seq
+    START WITH 0
+    MINVALUE 0
+    MAXVALUE 56800235583
+    INCREMENT BY 1000
+    NO CYCLE;
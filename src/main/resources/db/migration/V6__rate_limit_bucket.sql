@@ -0,0 +1,18 @@
+-- ============================================================
+-- V6__rate_limit_bucket.sql
+-- 인스턴스 간 공유 요청 한도 버킷 (moim.rate-limit.store=postgres)
+-- ============================================================
+
+-- (IP, 읽기/쓰기)당 1행. PostgresRateLimitStore가 version 비교(CAS)로 갱신한다.
+-- tokens는 재충전이 분 단위 비율이라 소수로 저장, refilled_at은 마지막 갱신 시각(epoch millis).
+CREATE TABLE rate_limit_bucket (
+    client_key  VARCHAR(64)      NOT NULL,
+    limit_type  CHAR(1)          NOT NULL,   -- r: 읽기, w: 쓰기
+    tokens      DOUBLE PRECISION NOT NULL,
+    refilled_at BIGINT           NOT NULL,
+    version     BIGINT           NOT NULL DEFAULT 0,
+    PRIMARY KEY (client_key, limit_type)
+);
+
+-- 오래 안 쓴 버킷 정리 (DELETE ... WHERE refilled_at < ?)
+CREATE INDEX idx_rate_limit_bucket_refilled_at ON rate_limit_bucket(refilled_at);
@@ -0,0 +1,13 @@
+-- ============================================================
+-- V7__gathering_deadline_claim.sql
+-- 마감 처리 claim (인스턴스 여러 대가 밀린 모임을 나눠 처리)
+-- ============================================================
+
+-- 각 인스턴스의 DeadlineScheduler는 마감 지난 모임을
+-- SELECT ... FOR UPDATE SKIP LOCKED로 잠가서 이 두 컬럼에 자기 노드 ID와 만료 시각을 기록한 뒤 처리한다.
+-- 다른 인스턴스는 claim_expires_at이 지나기 전까지 그 모임을 건너뛴다.
+-- 처리 도중 죽은 인스턴스의 claim은 만료 후 다른 인스턴스가 다시 가져간다.
+-- (처리가 끝나면 status가 바뀌어 대상에서 빠지므로 claim을 지우지 않는다)
+ALTER TABLE gathering
+    ADD COLUMN claimed_by       VARCHAR(64),
+    ADD COLUMN claim_expires_at TIMESTAMPTZ;
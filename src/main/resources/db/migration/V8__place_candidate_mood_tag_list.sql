@@ -0,0 +1,20 @@
+-- ============================================================
+-- V8__place_candidate_mood_tag_list.sql
+-- 분위기 태그를 저장 시점에 배열로 정규화
+-- ============================================================
+
+-- 지금까지 mood_tags는 입력 문자열 그대로(쉼표 구분)라서 상세 조회 때마다 string_to_array로 나눴다.
+-- 생성 시 한 번 나눠 둔 배열을 mood_tag_list에 저장하고, 조회는 이 컬럼을 그대로 JSON 배열로 쓴다.
+-- 정규화 규칙 (GatheringService와 같음): 쉼표로 나누고 앞뒤 공백 제거, 빈 태그 제외, 입력 순서 유지.
+-- mood_tags는 입력 원문으로 남겨 둔다 (배포 중 이전 버전 노드가 계속 읽음).
+ALTER TABLE place_candidate
+    ADD COLUMN mood_tag_list TEXT[] NOT NULL DEFAULT '{}';
+
+-- 기존 행 채우기
+UPDATE place_candidate
+SET mood_tag_list = ARRAY(
+        SELECT btrim(t.tag)
+        FROM unnest(string_to_array(mood_tags, ',')) WITH ORDINALITY AS t(tag, ord)
+        WHERE btrim(t.tag) <> ''
+        ORDER BY t.ord)
+WHERE mood_tags IS NOT NULL;
@@ -0,0 +1,165 @@
+package com.moim.moimbackend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.exception.GlobalExceptionHandler;
+import com.moim.moimbackend.gathering.controller.GatheringController;
+import com.moim.moimbackend.gathering.dto.GatheringDetailResponse;
+import com.moim.moimbackend.gathering.service.GatheringService;
+import com.moim.moimbackend.vote.controller.VoteController;
+import com.moim.moimbackend.vote.dto.VoteSummaryResponse;
+import com.moim.moimbackend.vote.service.VoteService;
+import com.moim.moimbackend.vote.service.VoteStreamHub;
+import com.moim.moimbackend.vote.service.VoteWriteBatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 폴링 엔드포인트의 조건부 GET 검증.
+ * - GET /api/v1/gatherings/{shareCode}/votes (VoteController)
+ * - GET /api/v1/gatherings/{shareCode}       (GatheringController)
+ *
+ * 모임 버전이 약한 ETag(W/"version")로 내려가는지, If-None-Match가 같으면 버전 조회만 하고
+ * 서비스 호출 없이 304로 끝나는지, 버전이 오르면 200과 새 ETag로 응답하는지 확인한다.
+ * JsonResponseCache는 실제 객체를 쓴다 (캐시 적중이 서비스 호출 횟수에 섞이지 않도록 버전별로 확인).
+ */
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetControllerTest {
+
+    private static final String SHARE_CODE = "aB3kX7";
+    private static final String VOTES_URL = "/api/v1/gatherings/" + SHARE_CODE + "/votes";
+    private static final String DETAIL_URL = "/api/v1/gatherings/" + SHARE_CODE;
+
+    @Mock
+    private GatheringService gatheringService;
+    @Mock
+    private VoteService voteService;
+    @Mock
+    private VoteStreamHub voteStreamHub;
+    @Mock
+    private VoteWriteBatcher voteWriteBatcher;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        JsonResponseCache responseCache = new JsonResponseCache(new ObjectMapper(), 1 << 20, true);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new VoteController(voteService, gatheringService, voteStreamHub, responseCache, voteWriteBatcher),
+                        new GatheringController(gatheringService, responseCache))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void 투표_현황은_버전을_ETag로_내려준다() throws Exception {
+        when(gatheringService.getVersion(SHARE_CODE)).thenReturn(3L);
+        when(voteService.getVoteSummary(SHARE_CODE)).thenReturn(summary(2));
+
+        mockMvc.perform(get(VOTES_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(jsonPath("$.participantCount").value(2));
+    }
+
+    @Test
+    void 투표_현황_ETag가_같으면_서비스_호출_없이_304() throws Exception {
+        when(gatheringService.getVersion(SHARE_CODE)).thenReturn(3L);
+
+        mockMvc.perform(get(VOTES_URL).header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(gatheringService).getVersion(SHARE_CODE);
+        verifyNoInteractions(voteService);
+    }
+
+    @Test
+    void 투표_현황_버전이_오르면_200과_새_ETag() throws Exception {
+        when(gatheringService.getVersion(SHARE_CODE)).thenReturn(4L);
+        when(voteService.getVoteSummary(SHARE_CODE)).thenReturn(summary(3));
+
+        mockMvc.perform(get(VOTES_URL).header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"4\""))
+                .andExpect(jsonPath("$.participantCount").value(3));
+
+        verify(voteService, times(1)).getVoteSummary(SHARE_CODE);
+    }
+
+    @Test
+    void 모임_상세는_버전을_ETag로_내려준다() throws Exception {
+        when(gatheringService.getVersion(SHARE_CODE)).thenReturn(1L);
+        when(gatheringService.getGathering(SHARE_CODE)).thenReturn(detail("VOTING"));
+
+        mockMvc.perform(get(DETAIL_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                .andExpect(jsonPath("$.status").value("VOTING"));
+    }
+
+    @Test
+    void 모임_상세_ETag가_같으면_서비스_호출_없이_304() throws Exception {
+        when(gatheringService.getVersion(SHARE_CODE)).thenReturn(1L);
+
+        mockMvc.perform(get(DETAIL_URL).header(HttpHeaders.IF_NONE_MATCH, "W/\"1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(gatheringService, never()).getGathering(SHARE_CODE);
+    }
+
+    @Test
+    void 모임_상세_버전이_오르면_200과_새_ETag() throws Exception {
+        when(gatheringService.getVersion(SHARE_CODE)).thenReturn(1L, 2L);
+        when(gatheringService.getGathering(SHARE_CODE)).thenReturn(detail("VOTING"), detail("CONFIRMED"));
+
+        mockMvc.perform(get(DETAIL_URL))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""));
+        // 상태 전이로 버전 증가 → 이전 ETag로 조회해도 새 본문
+        mockMvc.perform(get(DETAIL_URL).header(HttpHeaders.IF_NONE_MATCH, "W/\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"2\""))
+                .andExpect(jsonPath("$.status").value("CONFIRMED"));
+
+        verify(gatheringService, times(2)).getGathering(SHARE_CODE);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private VoteSummaryResponse summary(int participants) {
+        return VoteSummaryResponse.builder()
+                .participantCount(participants)
+                .participantNames(List.of())
+                .timeCandidateVotes(List.of())
+                .placeCandidateVotes(List.of())
+                .build();
+    }
+
+    private GatheringDetailResponse detail(String status) {
+        return GatheringDetailResponse.builder()
+                .title("저녁 모임")
+                .hostName("주최자")
+                .type("BOTH")
+                .status(status)
+                .timeCandidates(List.of())
+                .placeCandidates(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.moim.moimbackend.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.cache.JsonResponseCache.CachedJson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 바이트 캐시 검증.
+ *
+ * 버전별 재사용, gzip/원본 표현과 ETag, 무효화/상한 정리의 바이트 합계를 확인한다.
+ */
+class JsonResponseCacheTest {
+
+    private static final String SHARE_CODE = "aB3kX7";
+    private static final int MAX_BYTES = 64 * 1024;
+
+    private JsonResponseCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new JsonResponseCache(new ObjectMapper(), MAX_BYTES, true);
+    }
+
+    @Test
+    void 같은_버전은_한_번만_만들어서_재사용한다() {
+        CachedJson first = cache.get(SHARE_CODE, "detail", 1, () -> load(100));
+        CachedJson second = cache.get(SHARE_CODE, "detail", 1, () -> load(100));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void 버전이_바뀌면_새로_만든다() {
+        cache.get(SHARE_CODE, "detail", 1, () -> load(100));
+        cache.get(SHARE_CODE, "detail", 2, () -> load(100));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void 늦게_도착한_이전_버전은_최신_버전을_덮어쓰지_않는다() {
+        CachedJson latest = cache.get(SHARE_CODE, "detail", 2, () -> load(100));
+        cache.get(SHARE_CODE, "detail", 1, () -> load(100));
+
+        assertThat(cache.get(SHARE_CODE, "detail", 2, () -> load(100))).isSameAs(latest);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void gzip을_받는_클라이언트에는_압축본을_보낸다() throws IOException {
+        CachedJson cached = cache.get(SHARE_CODE, "detail", 3, () -> load(4096));
+
+        ResponseEntity<byte[]> gzip = cache.toResponse(cached, "gzip, deflate");
+        ResponseEntity<byte[]> identity = cache.toResponse(cached, null);
+
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(gunzip(gzip.getBody())).isEqualTo(identity.getBody());
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "deflate, gzip;q=0.5", "GZIP", "br;q=1.0, gzip ; q=0.8", "x-gzip", "*", "identity, *;q=0.1"})
+    void Accept_Encoding이_gzip을_허용하면_압축본을_보낸다(String acceptEncoding) {
+        CachedJson cached = cache.get(SHARE_CODE, "detail", 3, () -> load(4096));
+
+        assertThat(cache.toResponse(cached, acceptEncoding).getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                .isEqualTo("gzip");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip;q=0", "gzip;q=0.000, deflate", "deflate, br", "*;q=0", "gzip;q=0, *",
+            "identity", "x-gzipped", "gzip;q=abc", "gzip;q=2", ""})
+    void gzip을_거부하거나_언급하지_않으면_원본을_보낸다(String acceptEncoding) {
+        CachedJson cached = cache.get(SHARE_CODE, "detail", 3, () -> load(4096));
+
+        ResponseEntity<byte[]> response = cache.toResponse(cached, acceptEncoding);
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getBody()).isEqualTo(cache.toResponse(cached, null).getBody());
+    }
+
+    @Test
+    void 두_표현은_같은_약한_ETag를_쓴다() {
+        CachedJson cached = cache.get(SHARE_CODE, "detail", 3, () -> load(4096));
+
+        // 강한 ETag는 바이트가 같은 표현에만 쓸 수 있음 → gzip/원본 공통이면 약한 ETag
+        assertThat(cache.toResponse(cached, "gzip").getHeaders().getETag()).isEqualTo("W/\"3\"");
+        assertThat(cache.toResponse(cached, null).getHeaders().getETag()).isEqualTo("W/\"3\"");
+        assertThat(JsonResponseCache.eTag(3)).isEqualTo("W/\"3\"");
+    }
+
+    @Test
+    void 작은_응답은_압축하지_않는다() {
+        CachedJson cached = cache.get(SHARE_CODE, "detail", 1, () -> load(10));
+
+        assertThat(cache.toResponse(cached, "gzip").getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    void 무효화하면_바이트를_돌려받고_다시_만든다() {
+        cache.get(SHARE_CODE, "detail", 1, () -> load(100));
+        cache.get(SHARE_CODE, "votes", 1, () -> load(100));
+        assertThat(cache.getTotalBytes()).isPositive();
+
+        cache.invalidate(SHARE_CODE);
+        cache.get(SHARE_CODE, "detail", 1, () -> load(100));
+
+        assertThat(loads).hasValue(3);
+        cache.invalidate(SHARE_CODE);
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    void 상한을_넘으면_다른_모임부터_정리한다() {
+        for (int i = 0; i < 100; i++) {
+            cache.get("code" + i, "detail", 1, () -> load(900));
+        }
+
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(MAX_BYTES);
+        // 방금 저장한 모임은 남아 있음
+        int before = loads.get();
+        cache.get("code99", "detail", 1, () -> load(900));
+        assertThat(loads).hasValue(before);
+    }
+
+    @Test
+    void 상한보다_큰_응답은_저장하지_않는다() {
+        cache.get(SHARE_CODE, "detail", 1, () -> load(MAX_BYTES * 2));
+
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+
+    @Test
+    void 동시에_조회_저장_무효화해도_바이트_합계가_맞는다() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier start = new CyclicBarrier(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 5_000; i++) {
+                        String shareCode = "code" + random.nextInt(50);
+                        if (random.nextInt(10) == 0) {
+                            cache.invalidate(shareCode);
+                        } else {
+                            cache.get(shareCode, random.nextBoolean() ? "detail" : "votes",
+                                    random.nextInt(3), () -> load(500 + random.nextInt(1500)));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 모두 제거하면 합계가 정확히 0이어야 함 (누락/중복 차감 없음)
+        for (int i = 0; i < 50; i++) {
+            cache.invalidate("code" + i);
+        }
+        assertThat(cache.getTotalBytes()).isZero();
+    }
+
+    // ========== Private 메서드 ==========
+
+    private Object load(int length) {
+        loads.incrementAndGet();
+        return Map.of("text", "가".repeat(length / 3));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
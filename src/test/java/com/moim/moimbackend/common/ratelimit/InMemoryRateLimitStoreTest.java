@@ -0,0 +1,203 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import io.github.bucket4j.TimeMeter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 요청 한도 검증.
+ *
+ * 시계는 직접 움직이는 TimeMeter라 재충전/유휴 제거를 기다리지 않는다.
+ * - 한도까지 허용, 초과 시 다음 토큰까지 대기 시간
+ * - 시간이 지나면 조금씩 재충전 (greedy)
+ * - 같은 IP / 같은 stripe를 여러 스레드가 동시에 써도 한도만큼만 통과
+ * - 유휴 IP 제거, max-clients 상한
+ */
+class InMemoryRateLimitStoreTest {
+
+    private static final long READ_PER_MINUTE = 120;
+    private static final long WRITE_PER_MINUTE = 30;
+    private static final String IP = "203.0.113.7";
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toNanos(1));
+    private final TimeMeter clock = new TimeMeter() {
+        @Override
+        public long currentTimeNanos() {
+            return now.get();
+        }
+
+        @Override
+        public boolean isWallClockBased() {
+            return false;
+        }
+    };
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 한도까지_허용하고_초과하면_다음_토큰까지_기다릴_시간을_알려준다() {
+        InMemoryRateLimitStore store = store(100_000);
+
+        assertThat(consume(store, IP, true, 100)).isEqualTo(WRITE_PER_MINUTE);
+
+        RateLimitResult rejected = store.tryConsume(IP, true);
+        assertThat(rejected.isAllowed()).isFalse();
+        // 30회/분 greedy → 2초마다 1개
+        assertThat(rejected.getNanosToWait()).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void 시간이_지나면_조금씩_다시_채워진다() {
+        InMemoryRateLimitStore store = store(100_000);
+        consume(store, IP, true, 100);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(consume(store, IP, true, 100)).isEqualTo(1);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertThat(consume(store, IP, true, 100)).isEqualTo(10);
+
+        // 1분 넘게 쉬어도 용량(1분치) 이상은 쌓이지 않음
+        now.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        assertThat(consume(store, IP, true, 100)).isEqualTo(WRITE_PER_MINUTE);
+    }
+
+    @Test
+    void 읽기와_쓰기_한도는_따로다() {
+        InMemoryRateLimitStore store = store(100_000);
+
+        assertThat(consume(store, IP, true, 100)).isEqualTo(WRITE_PER_MINUTE);
+        assertThat(consume(store, IP, false, 1_000)).isEqualTo(READ_PER_MINUTE);
+    }
+
+    @Test
+    void IP마다_한도가_따로다() {
+        InMemoryRateLimitStore store = store(100_000);
+
+        assertThat(consume(store, "203.0.113.1", true, 100)).isEqualTo(WRITE_PER_MINUTE);
+        assertThat(consume(store, "203.0.113.2", true, 100)).isEqualTo(WRITE_PER_MINUTE);
+    }
+
+    @Test
+    void 같은_IP를_여러_스레드가_동시에_써도_한도만큼만_통과한다() throws Exception {
+        InMemoryRateLimitStore store = store(100_000);
+
+        // 스레드 16개 × 50회 = 800회 중 읽기 한도 120회만
+        assertThat(concurrently(16, thread -> consume(store, IP, false, 50))).isEqualTo(READ_PER_MINUTE);
+    }
+
+    @Test
+    void 같은_stripe의_여러_IP를_동시에_써도_IP마다_한도만큼만_통과한다() throws Exception {
+        InMemoryRateLimitStore store = store(100_000);
+        List<String> ips = sameStripeIps(8);
+
+        // 스레드마다 IP 8개를 돌아가며 요청 → 같은 stripe 락 경합 + IP별 버킷 CAS 경합
+        long allowed = concurrently(16, thread -> {
+            long count = 0;
+            for (int i = 0; i < 40; i++) {
+                count += consume(store, ips.get((thread + i) % ips.size()), true, 1);
+            }
+            return count;
+        });
+
+        assertThat(allowed).isEqualTo(WRITE_PER_MINUTE * ips.size());
+        for (String ip : ips) {
+            assertThat(store.tryConsume(ip, true).isAllowed()).isFalse();
+        }
+    }
+
+    @Test
+    void 오래_요청이_없던_IP는_제거되고_가득_찬_버킷으로_다시_시작한다() {
+        InMemoryRateLimitStore store = store(100_000);
+        consume(store, "203.0.113.1", true, 100);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(300));
+        store.tryConsume("203.0.113.2", false);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(301));
+
+        store.evictIdle();
+
+        // 601초 쉰 IP만 제거, 301초 쉰 IP는 남음
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(consume(store, "203.0.113.1", true, 100)).isEqualTo(WRITE_PER_MINUTE);
+    }
+
+    @Test
+    void 클라이언트가_상한을_넘으면_오래_안_쓴_IP부터_제거한다() {
+        InMemoryRateLimitStore store = store(640);
+
+        for (int i = 0; i < 10_000; i++) {
+            store.tryConsume("10.0." + (i / 256) + "." + (i % 256), false);
+        }
+
+        assertThat(store.size()).isLessThanOrEqualTo(640);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private InMemoryRateLimitStore store(int maxClients) {
+        return new InMemoryRateLimitStore(READ_PER_MINUTE, WRITE_PER_MINUTE, maxClients, 600, clock);
+    }
+
+    /** attempts번 요청해서 통과한 횟수 */
+    private static long consume(InMemoryRateLimitStore store, String ip, boolean write, int attempts) {
+        long allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (store.tryConsume(ip, write).isAllowed()) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    /** 스레드 threads개가 동시에 시작해서 반환한 값의 합 */
+    private long concurrently(int threads, ThreadTask task) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(threads);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.run(thread);
+            }));
+        }
+        long sum = 0;
+        for (Future<Long> future : futures) {
+            sum += future.get(30, TimeUnit.SECONDS);
+        }
+        return sum;
+    }
+
+    /** stripeOf와 같은 규칙으로 같은 stripe에 떨어지는 IP count개 */
+    private static List<String> sameStripeIps(int count) {
+        List<String> ips = new ArrayList<>();
+        int target = -1;
+        for (int i = 0; ips.size() < count; i++) {
+            String ip = "198.51." + (i / 256) + "." + (i % 256);
+            int h = ip.hashCode();
+            int stripe = (h ^ (h >>> 16)) & 63;
+            if (target < 0) {
+                target = stripe;
+            }
+            if (stripe == target) {
+                ips.add(ip);
+            }
+        }
+        return ips;
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        long run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,113 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import com.moim.moimbackend.support.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 인스턴스가 같은 DB 버킷을 공유하는지 검증.
+ *
+ * 같은 임시 스키마를 쓰는 애플리케이션 컨텍스트 여러 개(각자 커넥션 풀 + PostgresRateLimitStore)를 띄워
+ * 같은 IP 요청을 번갈아 보낸다. 인메모리 저장소라면 인스턴스마다 한도가 따로라 인스턴스 수만큼 배로 통과한다.
+ * 임대 맵 상한(max-clients)에서는 임대 없이 DB 버킷으로 세는지도 확인한다.
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class PostgresRateLimitStoreTest {
+
+    private static final int WRITE_PER_MINUTE = 10;
+    private static final int LEASE_TOKENS = 3;
+    private static final int INSTANCES = 3;
+
+    private TestDatabase database;
+    private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        instances.forEach(ConfigurableApplicationContext::close);
+        database.close();
+    }
+
+    @Test
+    void 여러_인스턴스가_한도를_나눠_쓴다() {
+        List<RateLimitStore> stores = new ArrayList<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            stores.add(startInstance(100_000));
+        }
+
+        int allowed = 0;
+        for (int i = 0; i < WRITE_PER_MINUTE * 3; i++) {
+            if (stores.get(i % INSTANCES).tryConsume("203.0.113.7", true).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        // 공유 한도(10)를 넘지 않음. 각 인스턴스가 임대한 뒤 못 쓴 토큰(최대 LEASE-1개씩)만큼은 덜 통과할 수 있다
+        assertThat(allowed).isLessThanOrEqualTo(WRITE_PER_MINUTE);
+        assertThat(allowed).isGreaterThanOrEqualTo(WRITE_PER_MINUTE - INSTANCES * (LEASE_TOKENS - 1));
+        assertThat(database.count("SELECT COUNT(*) FROM rate_limit_bucket")).isEqualTo(1);
+    }
+
+    @Test
+    void 거절되면_다음_토큰까지_기다릴_시간을_알려준다() {
+        RateLimitStore store = startInstance(100_000);
+
+        RateLimitResult result = RateLimitResult.ALLOWED;
+        for (int i = 0; i <= WRITE_PER_MINUTE && result.isAllowed(); i++) {
+            result = store.tryConsume("203.0.113.8", true);
+        }
+
+        assertThat(result.isAllowed()).isFalse();
+        assertThat(result.getNanosToWait()).isPositive();
+        // 읽기 한도는 별도
+        assertThat(store.tryConsume("203.0.113.8", false).isAllowed()).isTrue();
+    }
+
+    @Test
+    void 임대_맵이_상한이면_더_늘리지_않고_DB_버킷으로_센다() {
+        PostgresRateLimitStore store = startInstance(10);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(store.tryConsume("198.51.100." + i, true).isAllowed()).isTrue();
+        }
+        assertThat(store.leaseCount()).isLessThanOrEqualTo(10);
+        assertThat(database.count("SELECT COUNT(*) FROM rate_limit_bucket")).isEqualTo(100);
+
+        // 임대 없이 세는 클라이언트도 한도는 그대로
+        int allowed = 0;
+        for (int i = 0; i < WRITE_PER_MINUTE * 3; i++) {
+            if (store.tryConsume("203.0.113.9", true).isAllowed()) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(WRITE_PER_MINUTE);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private PostgresRateLimitStore startInstance(int maxClients) {
+        ConfigurableApplicationContext context = database.startApplication(
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000",
+                "moim.rate-limit.store=postgres",
+                "moim.rate-limit.write-per-minute=" + WRITE_PER_MINUTE,
+                "moim.rate-limit.postgres.lease-tokens=" + LEASE_TOKENS,
+                "moim.rate-limit.max-clients=" + maxClients);
+        instances.add(context);
+        return context.getBean(PostgresRateLimitStore.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.moim.moimbackend.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 요청 한도 필터 검증.
+ *
+ * 저장소는 목으로 두고 필터가 하는 일만 확인한다.
+ * - 허용이면 다음 필터로, 거절이면 429 + Retry-After(올림, 최소 1초) + 공통 에러 JSON
+ * - GET/HEAD는 읽기, 나머지는 쓰기 한도
+ * - /api/ 밖, OPTIONS, 비활성화면 세지 않음
+ */
+class RateLimitFilterTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private final RateLimitStore rateLimitStore = mock(RateLimitStore.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 허용되면_다음_필터로_넘긴다() throws Exception {
+        when(rateLimitStore.tryConsume(IP, false)).thenReturn(RateLimitResult.ALLOWED);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(true, request("GET", "/api/gatherings/aB3kX7"), chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void 거절되면_429와_Retry_After와_공통_에러_형식으로_응답한다() throws Exception {
+        when(rateLimitStore.tryConsume(IP, true))
+                .thenReturn(RateLimitResult.rejected(TimeUnit.MILLISECONDS.toNanos(1_200)));
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = filter(true, request("POST", "/api/gatherings/aB3kX7/participants"), chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        // 1.2초 → 올림해서 2초 (내림하면 1초 뒤 재시도가 또 거절됨)
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("code").asText()).isEqualTo("RATE_LIMITED");
+        assertThat(body.get("message").asText()).isNotBlank();
+        assertThat(body.has("timestamp")).isTrue();
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.counter("moim.rate-limit.rejected", "type", "write").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기_시간이_1초_미만이어도_Retry_After는_1초다() throws Exception {
+        when(rateLimitStore.tryConsume(IP, false)).thenReturn(RateLimitResult.rejected(0));
+
+        MockHttpServletResponse response = filter(true, request("GET", "/api/gatherings/aB3kX7"), new MockFilterChain());
+
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.counter("moim.rate-limit.rejected", "type", "read").count()).isEqualTo(1);
+    }
+
+    @Test
+    void GET_HEAD는_읽기_나머지는_쓰기_한도로_센다() throws Exception {
+        when(rateLimitStore.tryConsume(anyString(), anyBoolean())).thenReturn(RateLimitResult.ALLOWED);
+
+        for (String method : new String[]{"GET", "HEAD", "POST", "PATCH", "PUT", "DELETE"}) {
+            filter(true, request(method, "/api/gatherings/aB3kX7"), new MockFilterChain());
+        }
+
+        verify(rateLimitStore, times(2)).tryConsume(IP, false);
+        verify(rateLimitStore, times(4)).tryConsume(IP, true);
+    }
+
+    @Test
+    void api_밖의_경로와_OPTIONS는_세지_않는다() throws Exception {
+        filter(true, request("GET", "/actuator/health"), new MockFilterChain());
+        filter(true, request("OPTIONS", "/api/gatherings"), new MockFilterChain());
+
+        verifyNoInteractions(rateLimitStore);
+    }
+
+    @Test
+    void 비활성화하면_세지_않는다() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter(false, request("POST", "/api/gatherings"), chain);
+
+        verifyNoInteractions(rateLimitStore);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    // ========== Private 메서드 ==========
+
+    private MockHttpServletResponse filter(boolean enabled, MockHttpServletRequest request,
+                                           MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new RateLimitFilter(rateLimitStore, objectMapper, meterRegistry, enabled).doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(IP);
+        return request;
+    }
+}
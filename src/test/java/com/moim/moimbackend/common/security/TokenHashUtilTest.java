@@ -0,0 +1,126 @@
+package com.moim.moimbackend.common.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 해시 검증.
+ *
+ * 풀에서 빌린 작업 공간 + ASCII 직접 인코딩 경로가
+ * 예전 구현(매번 MessageDigest 생성 + getBytes(UTF_8) + HexFormat)과 같은 결과를 내는지 확인한다.
+ */
+class TokenHashUtilTest {
+
+    /** 128자를 넘는 토큰 (버퍼 대신 일반 UTF-8 경로) */
+    private static final String LONG_TOKEN = "x".repeat(200);
+
+    @Test
+    void 알려진_SHA256_값과_같다() {
+        assertThat(TokenHashUtil.hash(""))
+                .isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+        assertThat(TokenHashUtil.hash("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "550e8400-e29b-41d4-a716-446655440000",  // 발급 형식 (ASCII)
+            "토큰-한글",                               // 비 ASCII
+            "emoji-😀",                                // 서로게이트 쌍
+    })
+    void 예전_구현과_같은_해시를_만든다(String token) throws Exception {
+        assertThat(TokenHashUtil.hash(token)).isEqualTo(legacyHash(token));
+        assertThat(TokenHashUtil.matches(token, legacyHash(token))).isTrue();
+    }
+
+    @Test
+    void 버퍼보다_긴_토큰도_예전_구현과_같다() throws Exception {
+        assertThat(TokenHashUtil.hash(LONG_TOKEN)).isEqualTo(legacyHash(LONG_TOKEN));
+        assertThat(TokenHashUtil.hash("가".repeat(200))).isEqualTo(legacyHash("가".repeat(200)));
+        assertThat(TokenHashUtil.matches(LONG_TOKEN, legacyHash(LONG_TOKEN))).isTrue();
+    }
+
+    @Test
+    void 다른_토큰이나_null은_일치하지_않는다() {
+        String hash = TokenHashUtil.hash("token-a");
+
+        assertThat(TokenHashUtil.matches("token-b", hash)).isFalse();
+        assertThat(TokenHashUtil.matches(null, hash)).isFalse();
+        assertThat(TokenHashUtil.matches("token-a", null)).isFalse();
+    }
+
+    @Test
+    void 대문자_hex는_예전_문자열_비교처럼_일치하지_않는다() {
+        String hash = TokenHashUtil.hash("token-a");
+
+        assertThat(TokenHashUtil.matches("token-a", hash.toUpperCase())).isFalse();
+    }
+
+    @Test
+    void 형식이_다른_해시는_어떤_토큰과도_일치하지_않는다() {
+        String hash = TokenHashUtil.hash("token-a");
+
+        assertThat(TokenHashUtil.matches("token-a", hash.substring(1))).isFalse();          // 63자
+        assertThat(TokenHashUtil.matches("token-a", hash + "0")).isFalse();                 // 65자
+        assertThat(TokenHashUtil.matches("token-a", "g" + hash.substring(1))).isFalse();    // hex 아님
+        assertThat(TokenHashUtil.matches("token-a", "０" + hash.substring(1))).isFalse();  // 전각 숫자 0
+        assertThat(TokenHashUtil.matches("token-a", "")).isFalse();
+    }
+
+    @Test
+    void 해시를_여러_번_해도_결과가_같다() {
+        // 같은 작업 공간을 재사용해도 이전 입력이 남지 않아야 함 (긴 입력 뒤 짧은 입력)
+        String first = TokenHashUtil.hash("abc");
+        TokenHashUtil.hash(LONG_TOKEN);
+        TokenHashUtil.hash("a".repeat(128));
+
+        assertThat(TokenHashUtil.hash("abc")).isEqualTo(first);
+    }
+
+    @Test
+    void 작업_공간_풀은_반납한_객체를_다시_빌려준다() {
+        AtomicInteger created = new AtomicInteger();
+        WorkspacePool<Object> pool = new WorkspacePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.borrow();
+        pool.release(first);
+        Object second = pool.borrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    void 작업_공간_풀이_비었으면_새로_만든다() {
+        AtomicInteger created = new AtomicInteger();
+        WorkspacePool<Object> pool = new WorkspacePool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.borrow();
+        Object second = pool.borrow();  // first를 반납하기 전 → 새로 생성
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(created).hasValue(2);
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 작업 공간 재사용 전의 TokenHashUtil.hash */
+    private static String legacyHash(String token) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.moim.moimbackend.common.security;
+
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서명 토큰 발급/검증 + 키 교체 검증.
+ */
+class TokenSignerTest {
+
+    private static final String OLD_KEY = "k1:" + Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String NEW_KEY = "k2:" + Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    @Test
+    void 발급한_토큰은_서명만으로_검증되고_내용이_복원된다() {
+        TokenSigner signer = new TokenSigner(OLD_KEY, "k1");
+
+        String token = signer.issue(TokenType.SESSION, 10L, 20L, signer.newNonce());
+        TokenSigner.VerifiedToken verified = signer.verify(token, TokenType.SESSION);
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.getGatheringId()).isEqualTo(10L);
+        assertThat(verified.getSubjectId()).isEqualTo(20L);
+    }
+
+    @Test
+    void 변조되거나_종류가_다른_토큰은_거부된다() {
+        TokenSigner signer = new TokenSigner(OLD_KEY, "k1");
+        String token = signer.issue(TokenType.SESSION, 10L, 20L, signer.newNonce());
+
+        assertThat(signer.verify(token.replace("s1.10.20.", "s1.10.21."), TokenType.SESSION)).isNull();
+        assertThat(signer.verify(token, TokenType.ADMIN)).isNull();
+        assertThat(signer.verify("550e8400-e29b-41d4-a716-446655440000", TokenType.SESSION)).isNull();
+    }
+
+    @Test
+    void 키_교체후에도_예전_키_토큰이_검증되고_키가_빠지면_nonce로_대체확인한다() {
+        TokenSigner before = new TokenSigner(OLD_KEY, "k1");
+        String nonce = before.newNonce();
+        String oldToken = before.issue(TokenType.ADMIN, 1L, 1L, nonce);
+
+        TokenSigner rotated = new TokenSigner(OLD_KEY + "," + NEW_KEY, "k2");
+        assertThat(rotated.verify(oldToken, TokenType.ADMIN)).isNotNull();
+        assertThat(rotated.issue(TokenType.ADMIN, 1L, 1L, nonce)).contains(".k2.");
+
+        TokenSigner retired = new TokenSigner(NEW_KEY, "k2");
+        assertThat(retired.verify(oldToken, TokenType.ADMIN)).isNull();
+        assertThat(retired.fallbackSecret(oldToken, TokenType.ADMIN)).isEqualTo(nonce);
+    }
+}
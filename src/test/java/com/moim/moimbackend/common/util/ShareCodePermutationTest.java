@@ -0,0 +1,71 @@
+package com.moim.moimbackend.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 코드 순열이 전단사인지 검증.
+ *
+ * 전체 62^6 공간을 다 돌 수는 없으므로
+ * 연속 구간(시퀀스가 실제로 내주는 값)과 전체 공간의 무작위 표본에서
+ * 결과가 겹치지 않고, 범위를 벗어나지 않으며, 역변환으로 되돌아오는지 확인한다.
+ */
+class ShareCodePermutationTest {
+
+    private final ShareCodePermutation permutation =
+            new ShareCodePermutation("test-key".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void 연속된_시퀀스_값은_서로_다른_코드로_변환된다() {
+        int count = 200_000;
+        Set<Long> seen = new HashSet<>(count * 2);
+
+        for (long value = 0; value < count; value++) {
+            long permuted = permutation.permute(value);
+
+            assertThat(permuted).isBetween(0L, ShareCodePermutation.DOMAIN - 1);
+            assertThat(seen.add(permuted)).isTrue();
+            assertThat(permutation.unpermute(permuted)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void 전체_공간의_표본도_역변환으로_되돌아온다() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = Math.floorMod(random.nextLong(), ShareCodePermutation.DOMAIN);
+            assertThat(permutation.unpermute(permutation.permute(value))).isEqualTo(value);
+        }
+        long last = ShareCodePermutation.DOMAIN - 1;
+        assertThat(permutation.unpermute(permutation.permute(last))).isEqualTo(last);
+    }
+
+    @Test
+    void 코드_문자열로_변환해도_pack으로_원래_값이_나온다() {
+        for (long value = 0; value < 10_000; value++) {
+            String code = ShareCodeGenerator.encode(permutation.permute(value));
+
+            assertThat(code).hasSize(6);
+            assertThat(permutation.unpermute(ShareCodeGenerator.pack(code))).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void 키가_다르면_다른_순열이다() {
+        ShareCodePermutation other = new ShareCodePermutation("other-key".getBytes(StandardCharsets.UTF_8));
+
+        int same = 0;
+        for (long value = 0; value < 1_000; value++) {
+            if (permutation.permute(value) == other.permute(value)) {
+                same++;
+            }
+        }
+        assertThat(same).isLessThan(5);
+    }
+}
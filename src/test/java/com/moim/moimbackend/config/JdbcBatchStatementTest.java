@@ -0,0 +1,148 @@
+package com.moim.moimbackend.config;
+
+import com.moim.moimbackend.gathering.dto.CreateGatheringRequest;
+import com.moim.moimbackend.gathering.dto.CreateGatheringResponse;
+import com.moim.moimbackend.gathering.service.GatheringService;
+import com.moim.moimbackend.support.TestDatabase;
+import com.moim.moimbackend.vote.dto.ParticipateRequest;
+import com.moim.moimbackend.vote.dto.UpdateVotesRequest;
+import com.moim.moimbackend.vote.service.VoteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 경로가 후보/투표 수와 무관하게 몇 개의 문장으로 끝나는지 검증 (JpaConfig의 JDBC 배치).
+ *
+ * Hibernate는 배치 하나를 한 번만 준비(prepare)하므로, 행마다 INSERT를 보내면 준비 횟수가 행 수만큼 늘어난다.
+ * - createGathering: 최대 후보 30개(시간 20 + 장소 10) → 모임 1 + 후보 30행을 시퀀스 조회 + 타입별 배치로
+ * - updateVotes: 30표 → 타입별 INSERT ... unnest 1문장씩, 타입별 1표일 때와 문장 수가 같음
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class JdbcBatchStatementTest {
+
+    private static final int TIME_CANDIDATES = 20;
+    private static final int PLACE_CANDIDATES = 10;
+    /** 공유 코드 블록 + 시퀀스 3개(모임/시간/장소, pooled 첫 조회는 2회일 수 있음) + INSERT 3종 */
+    private static final int MAX_CREATE_STATEMENTS = 10;
+
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        context = database.startApplication(
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000");
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        database.close();
+    }
+
+    @Test
+    void 후보_30개_모임_생성은_배치로_묶인다() {
+        GatheringService gatheringService = context.getBean(GatheringService.class);
+
+        statistics.clear();
+        CreateGatheringResponse created = gatheringService.createGathering(request());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + TIME_CANDIDATES + PLACE_CANDIDATES);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_CREATE_STATEMENTS);
+        assertThat(database.count("SELECT COUNT(*) FROM time_candidate t JOIN gathering g ON g.id = t.gathering_id " +
+                "WHERE g.share_code = ?", created.getShareCode())).isEqualTo(TIME_CANDIDATES);
+        assertThat(database.count("SELECT COUNT(*) FROM place_candidate p JOIN gathering g ON g.id = p.gathering_id " +
+                "WHERE g.share_code = ?", created.getShareCode())).isEqualTo(PLACE_CANDIDATES);
+    }
+
+    @Test
+    void 투표_30개_변경은_타입별_1개일_때와_문장_수가_같다() {
+        GatheringService gatheringService = context.getBean(GatheringService.class);
+        VoteService voteService = context.getBean(VoteService.class);
+        String shareCode = gatheringService.createGathering(request()).getShareCode();
+        List<Long> timeIds = candidateIds("time_candidate", shareCode);
+        List<Long> placeIds = candidateIds("place_candidate", shareCode);
+
+        String one = voteService.participate(shareCode, participateRequest("한 표")).getSessionToken();
+        String thirty = voteService.participate(shareCode, participateRequest("서른 표")).getSessionToken();
+
+        statistics.clear();
+        voteService.updateVotes(shareCode, one, votes(timeIds.subList(0, 1), placeIds.subList(0, 1)));
+        long singleVote = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        voteService.updateVotes(shareCode, thirty, votes(timeIds, placeIds));
+        long thirtyVotes = statistics.getPrepareStatementCount();
+
+        assertThat(thirtyVotes).isEqualTo(singleVote);
+        assertThat(database.count("SELECT COUNT(*) FROM vote v JOIN participant p ON p.id = v.participant_id " +
+                "WHERE p.name = '서른 표'")).isEqualTo(TIME_CANDIDATES + PLACE_CANDIDATES);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private CreateGatheringRequest request() {
+        List<CreateGatheringRequest.TimeCandidateItem> times = new ArrayList<>();
+        for (int i = 0; i < TIME_CANDIDATES; i++) {
+            CreateGatheringRequest.TimeCandidateItem time = new CreateGatheringRequest.TimeCandidateItem();
+            time.setDate(LocalDate.now().plusDays(i + 1).toString());
+            time.setStartTime("18:00");
+            times.add(time);
+        }
+        List<CreateGatheringRequest.PlaceCandidateItem> places = new ArrayList<>();
+        for (int i = 0; i < PLACE_CANDIDATES; i++) {
+            CreateGatheringRequest.PlaceCandidateItem place = new CreateGatheringRequest.PlaceCandidateItem();
+            place.setName("장소 " + i);
+            places.add(place);
+        }
+
+        CreateGatheringRequest request = new CreateGatheringRequest();
+        request.setTitle("배치 모임");
+        request.setHostName("주최자");
+        request.setType("BOTH");
+        request.setDeadline(Instant.now().plus(1, ChronoUnit.DAYS));
+        request.setTimeCandidates(times);
+        request.setPlaceCandidates(places);
+        return request;
+    }
+
+    private ParticipateRequest participateRequest(String name) {
+        ParticipateRequest request = new ParticipateRequest();
+        request.setName(name);
+        return request;
+    }
+
+    private UpdateVotesRequest votes(List<Long> timeIds, List<Long> placeIds) {
+        UpdateVotesRequest request = new UpdateVotesRequest();
+        request.setTimeCandidateIds(timeIds);
+        request.setPlaceCandidateIds(placeIds);
+        return request;
+    }
+
+    private List<Long> candidateIds(String table, String shareCode) {
+        return database.jdbcTemplate().queryForList(
+                "SELECT c.id FROM " + table + " c JOIN gathering g ON g.id = c.gathering_id " +
+                "WHERE g.share_code = ? ORDER BY c.display_order", Long.class, shareCode);
+    }
+}
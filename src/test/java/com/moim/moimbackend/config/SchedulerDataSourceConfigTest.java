@@ -0,0 +1,108 @@
+package com.moim.moimbackend.config;
+
+import com.moim.moimbackend.config.SchedulerDataSourceConfig.RoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * 스케줄러 전용 커넥션 풀 라우팅 검증.
+ *
+ * 두 풀은 목으로 두고 어느 쪽에서 커넥션을 얻는지만 본다.
+ * - runOnSchedulerPool 안에서만 스케줄러 풀, 끝나면(예외 포함) 기본 풀
+ * - 중첩 호출이 바깥 범위를 일찍 끝내지 않음
+ * - 다른 스레드로 전파되지 않음 (작업자 풀 작업은 각자 감싸야 함)
+ * - 풀 크기 기본값은 마감 작업자 수 + 2
+ */
+class SchedulerDataSourceConfigTest {
+
+    private final HikariDataSource web = mock(HikariDataSource.class);
+    private final HikariDataSource scheduler = mock(HikariDataSource.class);
+    private final Connection webConnection = mock(Connection.class);
+    private final Connection schedulerConnection = mock(Connection.class);
+    private RoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(web.getConnection()).thenReturn(webConnection);
+        when(scheduler.getConnection()).thenReturn(schedulerConnection);
+        routing = new RoutingDataSource(web, scheduler);
+        routing.afterPropertiesSet();
+    }
+
+    @Test
+    void 기본은_웹_풀이고_스케줄러_작업_안에서만_스케줄러_풀() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(webConnection);
+
+        Connection inside = SchedulerDataSourceConfig.callOnSchedulerPool(this::connection);
+
+        assertThat(inside).isSameAs(schedulerConnection);
+        assertThat(routing.getConnection()).isSameAs(webConnection);
+    }
+
+    @Test
+    void 중첩_호출이_끝나도_바깥_범위는_스케줄러_풀() {
+        Connection afterNested = SchedulerDataSourceConfig.callOnSchedulerPool(() -> {
+            SchedulerDataSourceConfig.runOnSchedulerPool(this::connection);
+            return connection();
+        });
+
+        assertThat(afterNested).isSameAs(schedulerConnection);
+    }
+
+    @Test
+    void 예외로_끝나도_기본_풀로_돌아온다() throws SQLException {
+        assertThatThrownBy(() -> SchedulerDataSourceConfig.runOnSchedulerPool(() -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(routing.getConnection()).isSameAs(webConnection);
+    }
+
+    @Test
+    void 다른_스레드로_전파되지_않는다() {
+        Connection otherThread = SchedulerDataSourceConfig.callOnSchedulerPool(() ->
+                CompletableFuture.supplyAsync(this::connection).join());
+
+        assertThat(otherThread).isSameAs(webConnection);
+    }
+
+    @Test
+    void 메트릭과_헬스_체크는_기본_풀로_unwrap한다() throws SQLException {
+        assertThat(routing.unwrap(HikariDataSource.class)).isSameAs(web);
+        assertThat(routing.isWrapperFor(HikariDataSource.class)).isTrue();
+    }
+
+    @Test
+    void 닫으면_두_풀_모두_닫는다() {
+        routing.close();
+
+        verify(scheduler).close();
+        verify(web).close();
+    }
+
+    @Test
+    void 풀_크기를_지정하지_않으면_작업자_수_더하기_2() {
+        assertThat(SchedulerDataSourceConfig.poolSize(-1, 4)).isEqualTo(6);
+        assertThat(SchedulerDataSourceConfig.poolSize(3, 4)).isEqualTo(3);
+        assertThat(SchedulerDataSourceConfig.poolSize(0, 4)).isZero();
+    }
+
+    // ========== Private 메서드 ==========
+
+    private Connection connection() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
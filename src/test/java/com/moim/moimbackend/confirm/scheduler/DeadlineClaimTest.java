@@ -0,0 +1,295 @@
+package com.moim.moimbackend.confirm.scheduler;
+
+import com.moim.moimbackend.confirm.service.ConfirmService;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.support.TestDatabase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인스턴스 여러 대가 마감 처리를 나눠 하는지 검증.
+ *
+ * 같은 DB를 바라보는 애플리케이션 컨텍스트 여러 개를 띄우고, 모든 노드에서 동시에 정리 스캔을 돌린다.
+ * claim이 없다면 모든 노드가 같은 모임을 잡아 확정을 여러 번 시도한다.
+ * 일괄 모드(moim.deadline.bulk-confirm)의 판정이 모임별 경로와 같은지,
+ * 판정 후 커밋된 투표를 일괄 경로가 무시하지 않는지도 여기서 확인한다.
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class DeadlineClaimTest {
+
+    private static final int GATHERINGS = 2000;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+    private TestDatabase database;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        closeNodes();
+        database.close();
+    }
+
+    @Test
+    void 여러_인스턴스가_밀린_모임을_한_번씩만_확정한다() {
+        startNodes(3);
+        seedExpiredGatherings(GATHERINGS);
+
+        sweepOnAllNodes();
+
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'CONFIRMED'")).isEqualTo(GATHERINGS);
+        assertThat(count("SELECT COUNT(*) FROM confirmed_result")).isEqualTo(GATHERINGS);
+        // 실제 확정 횟수 (상태 재확인에서 걸러진 시도는 세지 않음) = 모임 수
+        assertThat(nodes.stream().mapToLong(this::confirmCount).sum()).isEqualTo(GATHERINGS);
+        // 모든 노드가 일부를 나눠 가짐
+        assertThat(count("SELECT COUNT(DISTINCT claimed_by) FROM gathering")).isEqualTo(3);
+    }
+
+    @Test
+    void 만료된_claim은_다시_가져가고_유효한_claim은_건너뛴다() {
+        startNodes(2);
+        // 처리 도중 죽은 노드: 절반은 claim 만료, 절반은 아직 유효
+        seedExpiredGatherings(100, "UPDATE gathering SET claimed_by = 'crashed', " +
+                "claim_expires_at = CASE WHEN id % 2 = 0 THEN NOW() - INTERVAL '1 second' " +
+                "ELSE NOW() + INTERVAL '1 hour' END");
+
+        sweepOnAllNodes();
+
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'CONFIRMED'")).isEqualTo(50);
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'VOTING' AND claimed_by = 'crashed'"))
+                .isEqualTo(50);
+    }
+
+    @Test
+    void 노드가_늘어도_모임마다_한_번씩만_처리한다() {
+        startNodes(3);
+        seedExpiredGatherings(GATHERINGS);
+
+        sweepOnAllNodes();
+        // 다시 돌려도 남은 모임이 없으므로 처리 건수가 늘지 않음
+        sweepOnAllNodes();
+
+        // 노드별 처리 시도(성공 + 실패) 합계 = 모임 수 → 두 노드가 같은 모임을 잡은 적 없음
+        assertThat(nodes.stream().mapToDouble(this::processedCount).sum()).isEqualTo(GATHERINGS);
+        // 상태 전이마다 버전 1 증가 → 두 번 확정된 모임 없음
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'CONFIRMED' AND version = 1"))
+                .isEqualTo(GATHERINGS);
+    }
+
+    @Test
+    void 일괄_모드는_동점_모임만_모임별로_처리한다() {
+        startNodes(2, "moim.deadline.bulk-confirm=true");
+        // 1위 분명 100건 + 참여자 없음 10건 + 동점 10건
+        seedExpiredGatherings(100,
+                "INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, deadline) " +
+                        "SELECT 'E' || lpad(n::text, 6, '0'), '빈 모임', '주최자', 'TIME_ONLY', repeat('0', 64), " +
+                        "NOW() - INTERVAL '1 minute' FROM generate_series(1, 10) n",
+                "INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, deadline) " +
+                        "SELECT 'D' || lpad(n::text, 6, '0'), '동점 모임', '주최자', 'TIME_ONLY', repeat('0', 64), " +
+                        "NOW() - INTERVAL '1 minute' FROM generate_series(1, 10) n",
+                "INSERT INTO time_candidate (gathering_id, candidate_date, start_time, display_order) " +
+                        "SELECT g.id, CURRENT_DATE + 7, TIME '19:00', o FROM gathering g, generate_series(0, 1) o " +
+                        "WHERE g.share_code LIKE 'D%'",
+                "INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                        "SELECT id, '참여자', repeat('0', 64) FROM gathering WHERE share_code LIKE 'D%'",
+                // 동점 모임: 후보 2개에 참여자 1명이 둘 다 투표
+                "INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                        "SELECT p.gathering_id, p.id, t.id, 'TIME' FROM participant p " +
+                        "JOIN time_candidate t ON t.gathering_id = p.gathering_id " +
+                        "JOIN gathering g ON g.id = p.gathering_id WHERE g.share_code LIKE 'D%'");
+
+        sweepOnAllNodes();
+
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'CONFIRMED'")).isEqualTo(100);
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'EXPIRED'")).isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'TIEBREAK'")).isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM confirmed_result r JOIN time_candidate t " +
+                "ON t.id = r.time_candidate_id AND t.gathering_id = r.gathering_id")).isEqualTo(100);
+        // 상태 전이마다 버전 1 증가
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE version <> 1")).isZero();
+    }
+
+    @Test
+    void 일괄_판정_후_투표가_커밋되면_그_모임은_모임별_경로로_다시_판정한다() throws Exception {
+        startNodes(1, "moim.deadline.bulk-confirm=true");
+        // 시작 직후 스캔이 끝난 뒤에 넣어야 테스트가 직접 처리할 때까지 VOTING으로 남는다
+        awaitSweepsFinished(List.of(nodes.get(0).getBean(DeadlineScheduler.class)));
+        seedExpiredGatherings(1,
+                "INSERT INTO time_candidate (gathering_id, candidate_date, start_time, display_order) " +
+                        "SELECT id, CURRENT_DATE + 8, TIME '19:00', 1 FROM gathering");
+        long id = count("SELECT id FROM gathering");
+        long secondCandidateId = count("SELECT id FROM time_candidate WHERE display_order = 1");
+        ConfirmService confirmService = nodes.get(0).getBean(ConfirmService.class);
+
+        // 첫 후보 1표인 상태에서, 두 번째 후보에 2표를 넣고 버전을 올린 투표 트랜잭션이 아직 커밋 전 (행 잠금 유지)
+        List<Long> undecided;
+        try (Connection voter = database.dataSource().getConnection()) {
+            voter.setAutoCommit(false);
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(voter, true));
+            jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                    "SELECT ?, '늦은 참여자 ' || n, repeat('0', 64) FROM generate_series(1, 2) n", id);
+            jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                    "SELECT gathering_id, id, ?, 'TIME' FROM participant " +
+                    "WHERE gathering_id = ? AND name LIKE '늦은 참여자%'", secondCandidateId, id);
+            jdbc.update("UPDATE gathering SET version = version + 1 WHERE id = ? AND status = 'VOTING'", id);
+
+            // 일괄 확정은 커밋 전 득표(첫 후보 1위)로 판정하고 updated CTE에서 잠금을 기다린다
+            CompletableFuture<List<Long>> batch =
+                    CompletableFuture.supplyAsync(() -> confirmService.autoConfirmBatch(List.of(id)));
+            database.awaitBlockedBy(jdbc.queryForObject("SELECT pg_backend_pid()", Integer.class));
+            voter.commit();
+            undecided = batch.get(30, TimeUnit.SECONDS);
+        }
+
+        // 버전이 달라 일괄 경로는 전이하지 않고 돌려줌 → 모임별 경로가 새 득표로 판정
+        assertThat(undecided).containsExactly(id);
+        assertThat(count("SELECT COUNT(*) FROM confirmed_result")).isZero();
+        confirmService.autoConfirm(id);
+        assertThat(database.count("SELECT time_candidate_id FROM confirmed_result WHERE gathering_id = ?", id))
+                .isEqualTo(secondCandidateId);
+        assertThat(count("SELECT version FROM gathering")).isEqualTo(2);
+    }
+
+    /**
+     * 10만 건을 모임별 경로와 일괄 모드로 각각 확정했을 때 결과가 같은지 (1노드, 큰 묶음).
+     * 오래 걸리므로 기본으로는 건너뛴다 (MOIM_TEST_BULK_100K=true일 때 실행).
+     * 처리 시간은 여기서 비교하지 않는다 → moim.deadline.bulk.duration / moim.deadline.processed 메트릭으로 본다.
+     */
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MOIM_TEST_BULK_100K", matches = "true")
+    void 십만_건도_모임별_경로와_일괄_모드의_결과가_같다() {
+        int gatherings = 100_000;
+        String[] tuning = {"moim.deadline.page-size=1000", "moim.deadline.workers=4"};
+
+        startNodes(1, tuning);
+        seedExpiredGatherings(gatherings);
+        sweepAndAssertConfirmed(gatherings);
+        closeNodes();
+
+        database.reset();
+        startNodes(1, concat(tuning, "moim.deadline.bulk-confirm=true"));
+        seedExpiredGatherings(gatherings);
+        sweepAndAssertConfirmed(gatherings);
+        // 동점 없는 데이터 → 전부 일괄 경로로 처리
+        assertThat(nodes.get(0).getBean(MeterRegistry.class)
+                .counter("moim.deadline.processed", "type", "voting", "outcome", "bulk").count())
+                .isEqualTo(gatherings);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void startNodes(int count, String... properties) {
+        for (int i = 0; i < count; i++) {
+            nodes.add(database.startApplication(concat(new String[]{
+                    "moim.deadline.node-id=node-" + i,
+                    "moim.deadline.workers=2",
+                    "moim.deadline.page-size=50",
+                    // 시작 직후 1회 외에는 스캔/타이머가 돌지 않도록 (테스트가 직접 호출)
+                    "moim.deadline.timer.enabled=false",
+                    "moim.deadline.sweep-millis=3600000"
+            }, properties)));  // 테스트별 설정이 위 기본값을 덮어씀
+        }
+    }
+
+    private void closeNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        nodes.clear();
+    }
+
+    private void sweepAndAssertConfirmed(int gatherings) {
+        sweepOnAllNodes();
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'CONFIRMED'")).isEqualTo(gatherings);
+        assertThat(count("SELECT COUNT(*) FROM confirmed_result")).isEqualTo(gatherings);
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE version <> 1")).isZero();
+    }
+
+    private static String[] concat(String[] properties, String... more) {
+        String[] all = Arrays.copyOf(properties, properties.length + more.length);
+        System.arraycopy(more, 0, all, properties.length, more.length);
+        return all;
+    }
+
+    /** 모든 노드에서 동시에 정리 스캔 (스캔은 전용 스레드에서 돌므로 모두 끝날 때까지 기다림) */
+    private void sweepOnAllNodes() {
+        List<DeadlineScheduler> schedulers = nodes.stream()
+                .map(node -> node.getBean(DeadlineScheduler.class))
+                .toList();
+        // 시작 직후 스캔이 진행 중이면 이번 호출이 건너뛰어지므로 먼저 끝나길 기다림
+        awaitSweepsFinished(schedulers);
+        schedulers.forEach(DeadlineScheduler::processExpiredVoting);
+        awaitSweepsFinished(schedulers);
+    }
+
+    private static void awaitSweepsFinished(List<DeadlineScheduler> schedulers) {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(10);
+        while (schedulers.stream().anyMatch(scheduler -> scheduler.isSweeping(GatheringStatus.VOTING))) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("정리 스캔이 끝나지 않음");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private double processedCount(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).find("moim.deadline.processed").tag("type", "voting").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private long confirmCount(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).find("moim.deadline.confirm.lag").timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    /**
+     * 후보 1개, 참여자 1명, 투표 1개 → 1위가 분명한 TIME_ONLY 모임 (마감 1분 전 경과).
+     * 노드 시작 직후의 정리 스캔이 반쯤 만든 모임을 잡지 않도록 한 트랜잭션으로 넣는다.
+     */
+    private void seedExpiredGatherings(int count, String... afterSeed) {
+        database.inTransaction(jdbc -> {
+            jdbc.update("INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, deadline) " +
+                    "SELECT 'T' || lpad(n::text, 6, '0'), '모임 ' || n, '주최자', 'TIME_ONLY', repeat('0', 64), " +
+                    "NOW() - INTERVAL '1 minute' FROM generate_series(1, ?) n", count);
+            jdbc.update("INSERT INTO time_candidate (gathering_id, candidate_date, start_time) " +
+                    "SELECT id, CURRENT_DATE + 7, TIME '19:00' FROM gathering");
+            jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                    "SELECT id, '참여자', repeat('0', 64) FROM gathering");
+            jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                    "SELECT p.gathering_id, p.id, t.id, 'TIME' FROM participant p " +
+                    "JOIN time_candidate t ON t.gathering_id = p.gathering_id");
+            Arrays.stream(afterSeed).forEach(jdbc::update);
+        });
+    }
+
+    private long count(String sql) {
+        return database.count(sql);
+    }
+}
@@ -0,0 +1,101 @@
+package com.moim.moimbackend.confirm.scheduler;
+
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 정리 스캔 스레드 분리 검증.
+ *
+ * @Scheduled 메서드는 스캔을 전용 스레드에 넘기고 바로 반환해야 한다 (공용 스케줄러 스레드를 붙잡지 않음).
+ * 같은 상태의 스캔이 진행 중이면 다음 주기는 건너뛰고, 다른 상태의 스캔은 따로 돈다.
+ */
+class DeadlineSchedulerTest {
+
+    private final GatheringRepository gatheringRepository = mock(GatheringRepository.class);
+    private final DeadlineWorkers deadlineWorkers = mock(DeadlineWorkers.class);
+    private final DeadlineScheduler scheduler = new DeadlineScheduler(gatheringRepository, deadlineWorkers,
+            new BackgroundThreads(new StandardEnvironment()), 50);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 스캔은_전용_스레드에서_돌고_진행_중이면_다음_주기는_건너뛴다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(gatheringRepository.countByStatusAndDeadlineBefore(eq(GatheringStatus.VOTING), any())).thenReturn(100L);
+        when(deadlineWorkers.claimAndProcess(eq(GatheringStatus.VOTING), any(), eq(50))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return 0;
+        });
+
+        // 스캔이 끝나지 않았는데도 바로 반환
+        scheduler.processExpiredVoting();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(scheduler.isSweeping(GatheringStatus.VOTING)).isTrue();
+
+        scheduler.processExpiredVoting();
+        scheduler.processExpiredVoting();
+
+        release.countDown();
+        awaitFinished(GatheringStatus.VOTING);
+        verify(deadlineWorkers, times(1)).claimAndProcess(eq(GatheringStatus.VOTING), any(), anyInt());
+    }
+
+    @Test
+    void 투표_스캔이_진행_중이어도_결선_스캔은_돈다() throws Exception {
+        when(gatheringRepository.countByStatusAndDeadlineBefore(any(), any())).thenReturn(1L);
+        when(deadlineWorkers.claimAndProcess(eq(GatheringStatus.VOTING), any(), anyInt())).thenAnswer(invocation -> {
+            release.await();
+            return 0;
+        });
+
+        scheduler.processExpiredVoting();
+        scheduler.processExpiredTiebreak();
+
+        verify(deadlineWorkers, timeout(10_000)).claimAndProcess(eq(GatheringStatus.TIEBREAK), any(), anyInt());
+        awaitFinished(GatheringStatus.TIEBREAK);
+        assertThat(scheduler.isSweeping(GatheringStatus.VOTING)).isTrue();
+    }
+
+    @Test
+    void 스캔이_실패해도_다음_주기에_다시_시작한다() throws Exception {
+        when(gatheringRepository.countByStatusAndDeadlineBefore(eq(GatheringStatus.VOTING), any()))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenReturn(0L);
+
+        scheduler.processExpiredVoting();
+        awaitFinished(GatheringStatus.VOTING);
+        scheduler.processExpiredVoting();
+        awaitFinished(GatheringStatus.VOTING);
+
+        verify(gatheringRepository, times(2)).countByStatusAndDeadlineBefore(eq(GatheringStatus.VOTING), any());
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void awaitFinished(GatheringStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (scheduler.isSweeping(status)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(status + " 스캔이 끝나지 않음");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
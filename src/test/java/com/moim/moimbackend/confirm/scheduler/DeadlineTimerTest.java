@@ -0,0 +1,182 @@
+package com.moim.moimbackend.confirm.scheduler;
+
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.confirm.service.ConfirmService;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 마감 타이머 검증.
+ *
+ * 조회는 목 저장소, 처리는 목 작업자 풀로 두고 작업자에게 넘긴 순서와 시각만 본다.
+ * - 이미 지난 마감은 바로, 곧 올 마감은 그 시각이 된 뒤에 넘김
+ * - TIEBREAK은 마감 + 24시간에 넘기고, 조회 구간도 24시간 당겨서 찾음
+ * - 먼저 도래하는 마감부터, 같은 마감을 여러 번 refill해도 한 번만
+ * - 비활성화면 조회하지 않음
+ *
+ * 운영 환경의 실제 지연은 moim.deadline.confirm.lag 메트릭으로 본다 (여기서는 순서/하한만 검증).
+ */
+class DeadlineTimerTest {
+
+    private static final long HORIZON_MILLIS = 300_000;
+
+    private final GatheringRepository gatheringRepository = mock(GatheringRepository.class);
+    private final DeadlineWorkers deadlineWorkers = mock(DeadlineWorkers.class);
+    private final BackgroundThreads backgroundThreads = new BackgroundThreads(new StandardEnvironment());
+    /** 작업자에게 넘긴 마감 (상태, 모임 ID, 넘긴 시각) */
+    private final List<Submission> submitted = new CopyOnWriteArrayList<>();
+    private DeadlineTimer timer;
+
+    @AfterEach
+    void tearDown() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void 이미_지난_마감은_바로_작업자에게_넘긴다() throws InterruptedException {
+        startTimer(true);
+        stubDue(GatheringStatus.VOTING, row(1L, Instant.now().minusSeconds(1)));
+
+        timer.refill();
+
+        awaitSubmitted(1);
+        assertThat(submitted.get(0).status).isEqualTo(GatheringStatus.VOTING);
+        assertThat(submitted.get(0).gatheringId).isEqualTo(1L);
+        assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    void 곧_올_마감은_그_시각이_된_뒤에_넘긴다() throws InterruptedException {
+        startTimer(true);
+        Instant deadline = Instant.now().plusMillis(300);
+        stubDue(GatheringStatus.VOTING, row(1L, deadline));
+
+        timer.refill();
+
+        assertThat(timer.size()).isEqualTo(1);
+        awaitSubmitted(1);
+        assertThat(submitted.get(0).atMillis).isGreaterThanOrEqualTo(deadline.toEpochMilli());
+    }
+
+    @Test
+    void 결선은_마감_24시간_뒤에_넘기고_조회_구간도_24시간_당긴다() throws InterruptedException {
+        startTimer(true);
+        Instant deadline = Instant.now().minus(ConfirmService.TIEBREAK_TIMEOUT).plusMillis(200);
+        stubDue(GatheringStatus.TIEBREAK, row(7L, deadline));
+
+        long before = System.currentTimeMillis();
+        timer.refill();
+
+        awaitSubmitted(1);
+        assertThat(submitted.get(0).status).isEqualTo(GatheringStatus.TIEBREAK);
+        assertThat(submitted.get(0).atMillis)
+                .isGreaterThanOrEqualTo(deadline.plus(ConfirmService.TIEBREAK_TIMEOUT).toEpochMilli());
+
+        ArgumentCaptor<Instant> from = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> to = ArgumentCaptor.forClass(Instant.class);
+        verify(gatheringRepository).findIdAndDeadlineByStatusAndDeadlineBetween(
+                eq(GatheringStatus.TIEBREAK), from.capture(), to.capture());
+        long shift = ConfirmService.TIEBREAK_TIMEOUT.toMillis();
+        assertThat(from.getValue().toEpochMilli()).isBetween(before - HORIZON_MILLIS - shift,
+                System.currentTimeMillis() - HORIZON_MILLIS - shift);
+        assertThat(to.getValue().toEpochMilli() - from.getValue().toEpochMilli()).isEqualTo(2 * HORIZON_MILLIS);
+    }
+
+    @Test
+    void 먼저_도래하는_마감부터_넘긴다() throws InterruptedException {
+        startTimer(true);
+        Instant now = Instant.now();
+        stubDue(GatheringStatus.VOTING,
+                row(3L, now.plusMillis(450)), row(1L, now.plusMillis(150)), row(2L, now.plusMillis(300)));
+
+        timer.refill();
+
+        awaitSubmitted(3);
+        assertThat(submitted).extracting(submission -> submission.gatheringId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void 같은_마감을_여러_번_refill해도_한_번만_등록한다() {
+        startTimer(true);
+        stubDue(GatheringStatus.VOTING, row(1L, Instant.now().plusSeconds(60)), row(2L, Instant.now().plusSeconds(90)));
+
+        timer.refill();
+        timer.refill();
+        timer.refill();
+
+        assertThat(timer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 비활성화면_조회하지_않는다() {
+        startTimer(false);
+
+        timer.refill();
+
+        verifyNoInteractions(gatheringRepository, deadlineWorkers);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void startTimer(boolean enabled) {
+        doAnswer(invocation -> {
+            submitted.add(new Submission(invocation.getArgument(0), invocation.getArgument(1), System.currentTimeMillis()));
+            return CompletableFuture.completedFuture(null);
+        }).when(deadlineWorkers).submit(any(), any());
+        timer = new DeadlineTimer(gatheringRepository, deadlineWorkers, backgroundThreads, enabled, HORIZON_MILLIS);
+        timer.start();
+    }
+
+    /** status 조회 결과 (다른 상태는 빈 목록) */
+    private void stubDue(GatheringStatus status, Object[]... rows) {
+        when(gatheringRepository.findIdAndDeadlineByStatusAndDeadlineBetween(any(), any(), any()))
+                .thenReturn(List.of());
+        when(gatheringRepository.findIdAndDeadlineByStatusAndDeadlineBetween(eq(status), any(), any()))
+                .thenReturn(new ArrayList<>(Arrays.asList(rows)));
+    }
+
+    private static Object[] row(Long gatheringId, Instant deadline) {
+        return new Object[]{gatheringId, deadline};
+    }
+
+    private void awaitSubmitted(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (submitted.size() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("submitted=" + submitted.size() + ", expected=" + count);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static final class Submission {
+        private final GatheringStatus status;
+        private final Long gatheringId;
+        private final long atMillis;
+
+        private Submission(GatheringStatus status, Long gatheringId, long atMillis) {
+            this.status = status;
+            this.gatheringId = gatheringId;
+            this.atMillis = atMillis;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.moim.moimbackend.confirm.scheduler;
+
+import com.moim.moimbackend.config.BackgroundThreads;
+import com.moim.moimbackend.confirm.service.ConfirmService;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 마감 처리 작업자 풀 검증.
+ *
+ * 저장소/확정 서비스는 목으로 두고 claim 결과에 따라 무엇을 몇 번, 몇 개씩 동시에 처리하는지 본다.
+ * - 타이머 경로: claim에 성공한 노드만 처리
+ * - 정리 스캔 경로: claim한 묶음을 작업자 수만큼만 동시에, 모두 끝난 뒤 반환
+ * - 한 모임의 실패가 나머지를 막지 않음 (outcome 메트릭)
+ * - 일괄 모드: 동점만 모임별, 일괄 실패 시 묶음 전체를 모임별로
+ */
+class DeadlineWorkersTest {
+
+    private static final int WORKERS = 2;
+    private static final String NODE = "node-1";
+
+    private final ConfirmService confirmService = mock(ConfirmService.class);
+    private final GatheringRepository gatheringRepository = mock(GatheringRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BackgroundThreads backgroundThreads = new BackgroundThreads(new StandardEnvironment());
+    private DeadlineWorkers workers;
+
+    @AfterEach
+    void tearDown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    @Test
+    void 타이머_경로는_claim에_성공했을_때만_확정한다() throws Exception {
+        workers = workers(false);
+        when(gatheringRepository.claimOne(eq(1L), eq("VOTING"), eq(NODE), anyLong())).thenReturn(Optional.of(1L));
+        when(gatheringRepository.claimOne(eq(2L), eq("VOTING"), eq(NODE), anyLong())).thenReturn(Optional.empty());
+
+        workers.submit(GatheringStatus.VOTING, 1L).get(10, TimeUnit.SECONDS);
+        workers.submit(GatheringStatus.VOTING, 2L).get(10, TimeUnit.SECONDS);
+
+        verify(confirmService).autoConfirm(1L);
+        verify(confirmService, never()).autoConfirm(2L);
+    }
+
+    @Test
+    void 결선은_autoResolveTiebreak으로_처리한다() throws Exception {
+        workers = workers(false);
+        when(gatheringRepository.claimOne(eq(3L), eq("TIEBREAK"), eq(NODE), anyLong())).thenReturn(Optional.of(3L));
+
+        workers.submit(GatheringStatus.TIEBREAK, 3L).get(10, TimeUnit.SECONDS);
+
+        verify(confirmService).autoResolveTiebreak(3L);
+        verify(confirmService, never()).autoConfirm(any());
+    }
+
+    @Test
+    void claim한_묶음을_작업자_수만큼만_동시에_처리하고_모두_끝난_뒤_반환한다() {
+        workers = workers(false);
+        List<Long> claimed = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        when(gatheringRepository.claimDue(eq("VOTING"), any(), eq(NODE), anyLong(), eq(50))).thenReturn(claimed);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<Long> done = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            done.add(invocation.getArgument(0));
+            return null;
+        }).when(confirmService).autoConfirm(anyLong());
+
+        int result = workers.claimAndProcess(GatheringStatus.VOTING, Instant.now(), 50);
+
+        assertThat(result).isEqualTo(claimed.size());
+        assertThat(done).containsExactlyInAnyOrderElementsOf(claimed);
+        assertThat(maxRunning.get()).isBetween(1, WORKERS);
+    }
+
+    @Test
+    void 한_모임이_실패해도_나머지는_처리하고_결과를_메트릭에_남긴다() {
+        workers = workers(false);
+        when(gatheringRepository.claimDue(eq("VOTING"), any(), eq(NODE), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L, 3L));
+        doThrow(new IllegalStateException("실패")).when(confirmService).autoConfirm(2L);
+
+        workers.claimAndProcess(GatheringStatus.VOTING, Instant.now(), 50);
+
+        verify(confirmService).autoConfirm(1L);
+        verify(confirmService).autoConfirm(3L);
+        assertThat(processed("voting", "success")).isEqualTo(2);
+        assertThat(processed("voting", "failure")).isEqualTo(1);
+    }
+
+    @Test
+    void 일괄_모드는_동점_모임만_모임별로_처리한다() {
+        workers = workers(true);
+        when(gatheringRepository.claimDue(eq("VOTING"), any(), eq(NODE), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(confirmService.autoConfirmBatch(List.of(1L, 2L, 3L, 4L))).thenReturn(List.of(4L));
+
+        int result = workers.claimAndProcess(GatheringStatus.VOTING, Instant.now(), 50);
+
+        assertThat(result).isEqualTo(4);
+        verify(confirmService).autoConfirm(4L);
+        verify(confirmService, times(1)).autoConfirm(anyLong());
+        assertThat(processed("voting", "bulk")).isEqualTo(3);
+    }
+
+    @Test
+    void 일괄_확정이_실패하면_묶음_전체를_모임별로_처리한다() {
+        workers = workers(true);
+        when(gatheringRepository.claimDue(eq("VOTING"), any(), eq(NODE), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L));
+        when(confirmService.autoConfirmBatch(anyList())).thenThrow(new IllegalStateException("실패"));
+
+        workers.claimAndProcess(GatheringStatus.VOTING, Instant.now(), 50);
+
+        verify(confirmService).autoConfirm(1L);
+        verify(confirmService).autoConfirm(2L);
+    }
+
+    @Test
+    void 결선_묶음은_일괄_모드여도_모임별로_처리한다() {
+        workers = workers(true);
+        when(gatheringRepository.claimDue(eq("TIEBREAK"), any(), eq(NODE), anyLong(), anyInt()))
+                .thenReturn(List.of(1L));
+
+        workers.claimAndProcess(GatheringStatus.TIEBREAK, Instant.now(), 50);
+
+        verify(confirmService, never()).autoConfirmBatch(anyList());
+        verify(confirmService).autoResolveTiebreak(1L);
+    }
+
+    @Test
+    void 밀린_건수는_스캔이_보고한_수와_작업자_큐의_합() {
+        workers = workers(false);
+
+        workers.reportScanRemaining(GatheringStatus.VOTING, 10);
+        workers.reportScanRemaining(GatheringStatus.TIEBREAK, -3);
+
+        assertThat(meterRegistry.get("moim.deadline.backlog").gauge().value()).isEqualTo(10);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private DeadlineWorkers workers(boolean bulkConfirm) {
+        return new DeadlineWorkers(confirmService, gatheringRepository, meterRegistry, backgroundThreads,
+                WORKERS, NODE, 300_000, bulkConfirm);
+    }
+
+    private double processed(String type, String outcome) {
+        return meterRegistry.counter("moim.deadline.processed", "type", type, "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,232 @@
+package com.moim.moimbackend.confirm.service;
+
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
+import com.moim.moimbackend.confirm.dto.ConfirmRequest;
+import com.moim.moimbackend.confirm.dto.TiebreakRequest;
+import com.moim.moimbackend.confirm.scheduler.DeadlineScheduler;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.support.TestDatabase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동 확정과 주최자 확정이 같은 모임을 동시에 처리할 때 한쪽만 성공하는지 검증.
+ *
+ * 모임마다 두 스레드를 같은 순간에 출발시킨다.
+ * 상태 전이가 조건부 UPDATE가 아니면 둘 다 VOTING을 보고 확정해서
+ * confirmed_result UNIQUE 위반이 나거나 상태 전이 이벤트가 두 번 발행된다.
+ * 진 주최자 요청은 ALREADY_CONFIRMED(409), 상태를 읽기 전에 이미 졌으면 상태 검사의 INVALID_INPUT이어야 한다.
+ * 자동 확정이 득표를 센 뒤 투표가 커밋되면 버전 조건 전이가 실패하고 새 득표로 다시 판정하는지도 확인한다.
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class ConfirmServiceConcurrencyTest {
+
+    private static final int GATHERINGS = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    /** 진 주최자 요청의 에러 코드 */
+    private final Set<ErrorCode> hostErrors = ConcurrentHashMap.newKeySet();
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        database = TestDatabase.create();
+        context = database.startApplication(
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000");
+        // 시작 직후 정리 스캔(빈 스키마)이 끝난 뒤에 마감 지난 모임을 넣는다 → 이후 1시간 동안 스캔 없음
+        // (스캔이 늦게 시작해서 겹치더라도 경쟁자가 하나 늘 뿐, 한 번만 확정된다는 검증은 그대로)
+        awaitStartupSweeps();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        database.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 자동_확정과_수동_확정이_겹치면_한쪽만_확정한다() {
+        seedGatherings("VOTING", "NOW() - INTERVAL '1 minute'");
+
+        ConfirmService confirmService = context.getBean(ConfirmService.class);
+        AtomicInteger hostWins = new AtomicInteger();
+        race((id, shareCode, timeCandidateId) -> {
+            ConfirmRequest request = new ConfirmRequest();
+            request.setTimeCandidateId(timeCandidateId);
+            return List.of(
+                    () -> confirmService.autoConfirm(id),
+                    () -> {
+                        confirmService.manualConfirm(shareCode, adminToken(id), request);
+                        hostWins.incrementAndGet();
+                    });
+        });
+
+        assertConfirmedOnce(hostWins.get(), "voting");
+    }
+
+    @Test
+    void 동점_자동_해소와_주최자_선택이_겹치면_한쪽만_확정한다() {
+        seedGatherings("TIEBREAK", "NOW() - INTERVAL '24 hours 1 minute'");
+
+        ConfirmService confirmService = context.getBean(ConfirmService.class);
+        AtomicInteger hostWins = new AtomicInteger();
+        race((id, shareCode, timeCandidateId) -> {
+            TiebreakRequest request = new TiebreakRequest();
+            request.setTimeCandidateId(timeCandidateId);
+            return List.of(
+                    () -> confirmService.autoResolveTiebreak(id),
+                    () -> {
+                        confirmService.resolveTiebreak(shareCode, adminToken(id), request);
+                        hostWins.incrementAndGet();
+                    });
+        });
+
+        assertConfirmedOnce(hostWins.get(), "tiebreak");
+    }
+
+    @Test
+    void 득표를_센_뒤_투표가_커밋되면_새_버전으로_다시_판정한다() throws Exception {
+        seedGatherings("VOTING", "NOW() - INTERVAL '1 minute'");
+        Map<String, Object> row = database.jdbcTemplate().queryForMap(
+                "SELECT g.id, MAX(t.id) AS second_candidate_id FROM gathering g " +
+                        "JOIN time_candidate t ON t.gathering_id = g.id GROUP BY g.id ORDER BY g.id LIMIT 1");
+        long id = ((Number) row.get("id")).longValue();
+        long secondCandidateId = ((Number) row.get("second_candidate_id")).longValue();
+        ConfirmService confirmService = context.getBean(ConfirmService.class);
+
+        // 첫 후보 1표인 상태에서, 두 번째 후보에 2표를 넣고 버전을 올린 투표 트랜잭션이 아직 커밋 전 (행 잠금 유지)
+        try (Connection voter = database.dataSource().getConnection()) {
+            voter.setAutoCommit(false);
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(voter, true));
+            jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                    "SELECT ?, '늦은 참여자 ' || n, repeat('0', 64) FROM generate_series(1, 2) n", id);
+            jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                    "SELECT gathering_id, id, ?, 'TIME' FROM participant " +
+                    "WHERE gathering_id = ? AND name LIKE '늦은 참여자%'", secondCandidateId, id);
+            jdbc.update("UPDATE gathering SET version = version + 1 WHERE id = ? AND status = 'VOTING'", id);
+
+            // 자동 확정은 커밋 전 상태(첫 후보 1위)로 판정하고 전이 UPDATE에서 잠금을 기다린다
+            CompletableFuture<Void> confirm = CompletableFuture.runAsync(() -> confirmService.autoConfirm(id), executor);
+            database.awaitBlockedBy(jdbc.queryForObject("SELECT pg_backend_pid()", Integer.class));
+            voter.commit();
+            confirm.get(30, TimeUnit.SECONDS);
+        }
+
+        // 버전이 달라 첫 판정은 전이하지 못하고, 새 버전으로 다시 센 두 번째 후보가 확정
+        assertThat(database.count("SELECT time_candidate_id FROM confirmed_result WHERE gathering_id = ?", id))
+                .isEqualTo(secondCandidateId);
+        assertThat(database.count("SELECT version FROM gathering WHERE id = ?", id)).isEqualTo(2);
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 모임 1건에 대해 동시에 실행할 작업 2개 */
+    private interface Contenders {
+        List<Runnable> of(Long id, String shareCode, Long timeCandidateId);
+    }
+
+    /** 모임마다 두 작업을 같은 순간에 출발 (진 쪽의 BusinessException은 정상, 에러 코드만 기록) */
+    private void race(Contenders contenders) {
+        List<Map<String, Object>> rows = database.jdbcTemplate().queryForList(
+                "SELECT g.id, g.share_code, MIN(t.id) AS time_candidate_id FROM gathering g " +
+                        "JOIN time_candidate t ON t.gathering_id = g.id GROUP BY g.id, g.share_code");
+        for (Map<String, Object> row : rows) {
+            List<Runnable> tasks = contenders.of(((Number) row.get("id")).longValue(),
+                    (String) row.get("share_code"), ((Number) row.get("time_candidate_id")).longValue());
+            CyclicBarrier start = new CyclicBarrier(tasks.size());
+            CompletableFuture.allOf(tasks.stream()
+                            .map(task -> CompletableFuture.runAsync(() -> {
+                                try {
+                                    start.await();
+                                    task.run();
+                                } catch (BusinessException e) {
+                                    // 다른 쪽이 먼저 확정 (자동 경로는 예외 없이 건너뜀 → 주최자 쪽)
+                                    hostErrors.add(e.getErrorCode());
+                                } catch (Exception e) {
+                                    throw new IllegalStateException(e);
+                                }
+                            }, executor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+    }
+
+    private void assertConfirmedOnce(int hostWins, String type) {
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE status = 'CONFIRMED'")).isEqualTo(GATHERINGS);
+        assertThat(count("SELECT COUNT(*) FROM confirmed_result")).isEqualTo(GATHERINGS);
+        assertThat(count("SELECT COUNT(*) FROM confirmed_result WHERE confirmed_by = 'HOST'")).isEqualTo(hostWins);
+        // 상태 전이는 모임당 1번 (버전은 전이마다 1 증가)
+        assertThat(count("SELECT COUNT(*) FROM gathering WHERE version <> 1")).isZero();
+        // 자동 경로는 전이에 성공했을 때만 지연을 기록 → 주최자 성공 + 자동 성공 = 모임 수
+        long autoWins = context.getBean(MeterRegistry.class)
+                .find("moim.deadline.confirm.lag").tag("type", type).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        assertThat(hostWins + autoWins).isEqualTo(GATHERINGS);
+        assertThat(hostErrors).isSubsetOf(ErrorCode.ALREADY_CONFIRMED, ErrorCode.INVALID_INPUT);
+    }
+
+    private void awaitStartupSweeps() throws InterruptedException {
+        DeadlineScheduler scheduler = context.getBean(DeadlineScheduler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (scheduler.isSweeping(GatheringStatus.VOTING) || scheduler.isSweeping(GatheringStatus.TIEBREAK)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("시작 직후 정리 스캔이 끝나지 않음");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private String adminToken(Long gatheringId) {
+        TokenSigner tokenSigner = context.getBean(TokenSigner.class);
+        return tokenSigner.issue(TokenType.ADMIN, gatheringId, gatheringId, tokenSigner.newNonce());
+    }
+
+    /**
+     * 시간 후보 2개에 참여자 1명이 첫 후보에만 투표한 TIME_ONLY 모임.
+     * 마감은 이미 지난 시각 (TIEBREAK는 24시간 유예까지 지난 시각).
+     */
+    private void seedGatherings(String status, String deadline) {
+        database.inTransaction(jdbc -> {
+            jdbc.update("INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, status, deadline) " +
+                    "SELECT 'C' || lpad(n::text, 6, '0'), '모임 ' || n, '주최자', 'TIME_ONLY', repeat('0', 64), ?, " +
+                    deadline + " FROM generate_series(1, ?) n",
+                    status, GATHERINGS);
+            jdbc.update("INSERT INTO time_candidate (gathering_id, candidate_date, start_time, display_order) " +
+                    "SELECT g.id, CURRENT_DATE + 7, TIME '19:00', o FROM gathering g, generate_series(0, 1) o");
+            jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                    "SELECT id, '참여자', repeat('0', 64) FROM gathering");
+            jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                    "SELECT p.gathering_id, p.id, MIN(t.id), 'TIME' FROM participant p " +
+                    "JOIN time_candidate t ON t.gathering_id = p.gathering_id GROUP BY p.gathering_id, p.id");
+        });
+    }
+
+    private long count(String sql) {
+        return database.count(sql);
+    }
+}
@@ -0,0 +1,146 @@
+package com.moim.moimbackend.gathering.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.common.exception.GlobalExceptionHandler;
+import com.moim.moimbackend.gathering.dto.CreateGatheringResponse;
+import com.moim.moimbackend.gathering.service.GatheringService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * POST /api/v1/gatherings:batch 검증.
+ *
+ * 요청 DTO의 개수 제한(1~300)과 항목별 @Valid 검증이 서비스 호출 전에 400으로 끝나는지,
+ * 서비스의 항목 검증 실패가 인덱스 메시지와 함께 그대로 전달되는지 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringBatchControllerTest {
+
+    private static final String URL = "/api/v1/gatherings:batch";
+
+    @Mock
+    private GatheringService gatheringService;
+
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new GatheringBatchController(gatheringService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void 유효한_요청은_201과_요청_순서대로_결과() throws Exception {
+        when(gatheringService.createGatherings(anyList())).thenReturn(List.of(response("aB3kX7"), response("Zz9Yy8")));
+
+        send(gatherings(2))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.gatherings.length()").value(2))
+                .andExpect(jsonPath("$.gatherings[0].shareCode").value("aB3kX7"))
+                .andExpect(jsonPath("$.gatherings[1].shareCode").value("Zz9Yy8"));
+    }
+
+    @Test
+    void 최대_개수_300개까지는_허용한다() throws Exception {
+        when(gatheringService.createGatherings(anyList())).thenReturn(List.of());
+
+        send(gatherings(300)).andExpect(status().isCreated());
+    }
+
+    @Test
+    void 개수_상한을_넘으면_서비스를_호출하지_않고_400() throws Exception {
+        send(gatherings(301))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_INPUT"))
+                .andExpect(jsonPath("$.errors.gatherings").value("한 번에 최대 300개까지 생성할 수 있습니다."));
+        verifyNoInteractions(gatheringService);
+    }
+
+    @Test
+    void 빈_목록이면_400() throws Exception {
+        send(gatherings(0))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.gatherings").value("생성할 모임을 1개 이상 보내주세요."));
+        verifyNoInteractions(gatheringService);
+    }
+
+    @Test
+    void 한_항목의_필드_오류도_전체를_거부하고_위치를_알려준다() throws Exception {
+        Map<String, Object> body = gatherings(3);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> items = (List<Map<String, Object>>) body.get("gatherings");
+        items.get(1).remove("title");
+
+        send(body)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['gatherings[1].title']").value("모임 제목은 필수입니다."));
+        verifyNoInteractions(gatheringService);
+    }
+
+    @Test
+    void 서비스_검증_실패는_항목_인덱스_메시지와_함께_응답한다() throws Exception {
+        when(gatheringService.createGatherings(anyList())).thenThrow(
+                new BusinessException(ErrorCode.DEADLINE_PAST, "gatherings[1]: 마감 시간은 최소 10분 후여야 합니다."));
+
+        send(gatherings(2))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("DEADLINE_PAST"))
+                .andExpect(jsonPath("$.message").value("gatherings[1]: 마감 시간은 최소 10분 후여야 합니다."));
+    }
+
+    // ========== Private 메서드 ==========
+
+    private ResultActions send(Map<String, Object> body) throws Exception {
+        return mockMvc.perform(post(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(body)));
+    }
+
+    /** 유효한 모임 count개 요청 본문 */
+    private static Map<String, Object> gatherings(int count) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("title", "모임 " + i);
+            item.put("hostName", "주최자");
+            item.put("type", "BOTH");
+            item.put("deadline", Instant.now().plusSeconds(3600).toString());
+            item.put("timeCandidates", List.of(Map.of("date", "2030-01-01", "startTime", "19:00")));
+            item.put("placeCandidates", List.of(Map.of("name", "강남역")));
+            items.add(item);
+        }
+        return new HashMap<>(Map.of("gatherings", items));
+    }
+
+    private static CreateGatheringResponse response(String shareCode) {
+        return CreateGatheringResponse.builder()
+                .shareCode(shareCode)
+                .adminToken("a1.token")
+                .shareUrl("/g/" + shareCode)
+                .deadline(Instant.now().toString())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
+import com.moim.moimbackend.gathering.dto.CreateGatheringRequest;
+import com.moim.moimbackend.gathering.dto.CreateGatheringResponse;
+import com.moim.moimbackend.gathering.entity.Gathering;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 모임 일괄 생성(createGatherings) 검증.
+ *
+ * - 하나라도 검증에 실패하면 몇 번째 항목인지 알려주고 아무것도 저장하지 않는다
+ * - 한 배치 안의 공유 코드는 블록 경계를 넘어가도 모두 다르다 (실제 ShareCodeAllocator 사용)
+ * - 응답은 요청 순서이고, 관리 토큰은 각자 자기 모임 ID로 서명된다
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringBatchCreateTest {
+
+    /** 블록 크기보다 큰 배치 → 배치 도중 새 블록을 받는 경로도 검증 */
+    private static final long BLOCK_SIZE = 100;
+    private static final int BATCH_SIZE = 300;
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+    @Mock
+    private GatheringRefCache gatheringRefCache;
+
+    private GatheringService gatheringService;
+    private TokenSigner tokenSigner;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        tokenSigner = new TokenSigner("", "");
+        gatheringService = new GatheringService(gatheringRepository, gatheringRefCache, new ObjectMapper(),
+                tokenSigner, new ShareCodeAllocator(gatheringRepository, "test-key"));
+    }
+
+    @Test
+    void 중간_항목이_검증에_실패하면_몇_번째인지_알려주고_아무것도_저장하지_않는다() {
+        List<CreateGatheringRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(request("모임 " + i, Instant.now().plusSeconds(3600)));
+        }
+        requests.set(2, request("마감이 너무 이름", Instant.now().plusSeconds(60)));
+
+        assertThatThrownBy(() -> gatheringService.createGatherings(requests))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("gatherings[2]: ")
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DEADLINE_PAST);
+        // 검증은 코드 할당/저장보다 먼저 → 시퀀스도 소비하지 않음
+        verifyNoInteractions(gatheringRepository);
+    }
+
+    @Test
+    void 타입이_잘못된_항목도_인덱스와_함께_INVALID_INPUT() {
+        CreateGatheringRequest invalid = request("모임", Instant.now().plusSeconds(3600));
+        invalid.setType("WEEKLY");
+
+        assertThatThrownBy(() -> gatheringService.createGatherings(
+                List.of(request("모임", Instant.now().plusSeconds(3600)), invalid)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("gatherings[1]: ")
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_INPUT);
+        verify(gatheringRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void 한_배치의_공유_코드는_모두_다르고_응답은_요청_순서() {
+        stubSequence();
+        when(gatheringRepository.findExistingShareCodes(anyCollection())).thenReturn(List.of());
+        List<Gathering> saved = new ArrayList<>();
+        when(gatheringRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Gathering> gatherings = invocation.getArgument(0);
+            gatherings.forEach(gathering -> ReflectionTestUtils.setField(gathering, "id", ids.incrementAndGet()));
+            saved.addAll(gatherings);
+            return gatherings;
+        });
+
+        List<CreateGatheringRequest> requests = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(request("모임 " + i, Instant.now().plusSeconds(3600 + i)));
+        }
+        List<CreateGatheringResponse> responses = gatheringService.createGatherings(requests);
+
+        assertThat(responses).hasSize(BATCH_SIZE);
+        assertThat(responses).extracting(CreateGatheringResponse::getShareCode).doesNotHaveDuplicates();
+        verify(gatheringRepository, times(1)).saveAll(anyList());
+        verify(gatheringRepository, times((int) (BATCH_SIZE / BLOCK_SIZE))).nextShareCodeBlock();
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Gathering gathering = saved.get(i);
+            CreateGatheringResponse response = responses.get(i);
+            assertThat(gathering.getTitle()).isEqualTo("모임 " + i);
+            assertThat(response.getShareCode()).isEqualTo(gathering.getShareCode());
+            assertThat(response.getDeadline()).isEqualTo(requests.get(i).getDeadline().toString());
+            assertThat(tokenSigner.verify(response.getAdminToken(), TokenType.ADMIN).getGatheringId())
+                    .isEqualTo(gathering.getId());
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void stubSequence() {
+        when(gatheringRepository.findShareCodeBlockSize()).thenReturn(Optional.of(BLOCK_SIZE));
+        when(gatheringRepository.nextShareCodeBlock()).thenAnswer(invocation -> sequence.getAndAdd(BLOCK_SIZE));
+    }
+
+    /** 시간 1개 + 장소 1개 후보의 BOTH 모임 */
+    private static CreateGatheringRequest request(String title, Instant deadline) {
+        CreateGatheringRequest.TimeCandidateItem time = new CreateGatheringRequest.TimeCandidateItem();
+        time.setDate("2030-01-01");
+        time.setStartTime("19:00");
+        CreateGatheringRequest.PlaceCandidateItem place = new CreateGatheringRequest.PlaceCandidateItem();
+        place.setName("강남역");
+
+        CreateGatheringRequest request = new CreateGatheringRequest();
+        request.setTitle(title);
+        request.setHostName("주최자");
+        request.setType("BOTH");
+        request.setDeadline(deadline);
+        request.setTimeCandidates(List.of(time));
+        request.setPlaceCandidates(List.of(place));
+        return request;
+    }
+}
@@ -0,0 +1,214 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.gathering.dto.CreateGatheringRequest;
+import com.moim.moimbackend.gathering.dto.CreateGatheringResponse;
+import com.moim.moimbackend.gathering.dto.GatheringDetailResponse;
+import com.moim.moimbackend.gathering.entity.Gathering;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import com.moim.moimbackend.support.TestDatabase;
+import com.moim.moimbackend.vote.entity.CandidateType;
+import com.moim.moimbackend.vote.repository.ParticipantRepository;
+import com.moim.moimbackend.vote.repository.VoteRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임 상세 조회 읽기 모델(GatheringRepository.findDetailByShareCode) 검증.
+ *
+ * 엔티티 경로: 모임 SELECT → 시간/장소 후보 컬렉션 → 투표 행 → 참여자 수 (집계 캐시 미스 기준).
+ * 같은 데이터에서 두 경로의 응답 JSON이 같은지, 읽기 모델이 SQL 한 문장으로 끝나는지 확인한다.
+ * 분위기 태그는 생성 시 배열(mood_tag_list, V8)로 정규화해서 저장하고 조회는 그대로 읽는다.
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class GatheringDetailQueryTest {
+
+    private static final int GATHERINGS = 20;
+
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        seedGatherings();
+        context = database.startApplication(
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        database.close();
+    }
+
+    @Test
+    void 읽기_모델은_SQL_한_문장으로_엔티티_경로와_같은_응답을_만든다() throws Exception {
+        GatheringService gatheringService = context.getBean(GatheringService.class);
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        Statistics statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class).getStatistics();
+
+        for (String shareCode : shareCodes()) {
+            statistics.clear();
+            GatheringDetailResponse actual = gatheringService.getGathering(shareCode);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+            assertThat(objectMapper.writeValueAsString(actual))
+                    .isEqualTo(objectMapper.writeValueAsString(getGatheringFromEntities(shareCode)));
+        }
+    }
+
+    @Test
+    void 분위기_태그는_생성_시_정규화해서_저장하고_그대로_읽는다() {
+        GatheringService gatheringService = context.getBean(GatheringService.class);
+
+        CreateGatheringResponse created = gatheringService.createGathering(
+                placeOnlyRequest(" 조용한, ,분위기좋은 ,,"));
+
+        assertThat(database.jdbcTemplate().queryForObject(
+                "SELECT array_to_string(pc.mood_tag_list, '|') FROM place_candidate pc " +
+                "JOIN gathering g ON g.id = pc.gathering_id WHERE g.share_code = ?",
+                String.class, created.getShareCode()))
+                .isEqualTo("조용한|분위기좋은");
+        assertThat(gatheringService.getGathering(created.getShareCode()).getPlaceCandidates())
+                .singleElement()
+                .satisfies(place -> assertThat(place.getMoodTags()).containsExactly("조용한", "분위기좋은"));
+    }
+
+    @Test
+    void 태그가_없으면_빈_배열() {
+        GatheringService gatheringService = context.getBean(GatheringService.class);
+
+        CreateGatheringResponse created = gatheringService.createGathering(placeOnlyRequest(null));
+
+        assertThat(gatheringService.getGathering(created.getShareCode()).getPlaceCandidates())
+                .singleElement()
+                .satisfies(place -> assertThat(place.getMoodTags()).isEmpty());
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 읽기 모델 도입 전 GatheringService.getGathering (집계 캐시 미스일 때의 조회와 같음) */
+    private GatheringDetailResponse getGatheringFromEntities(String shareCode) {
+        GatheringRepository gatheringRepository = context.getBean(GatheringRepository.class);
+        VoteRepository voteRepository = context.getBean(VoteRepository.class);
+        ParticipantRepository participantRepository = context.getBean(ParticipantRepository.class);
+        TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        return readOnly.execute(status -> {
+            Gathering gathering = gatheringRepository.findByShareCode(shareCode).orElseThrow();
+            Map<CandidateType, Map<Long, Long>> voteCounts = new HashMap<>();
+            for (Object[] row : voteRepository.findVoteRowsByGatheringId(gathering.getId())) {
+                voteCounts.computeIfAbsent((CandidateType) row[0], type -> new HashMap<>())
+                        .merge((Long) row[1], 1L, Long::sum);
+            }
+            Map<Long, Long> timeVotes = voteCounts.getOrDefault(CandidateType.TIME, Map.of());
+            Map<Long, Long> placeVotes = voteCounts.getOrDefault(CandidateType.PLACE, Map.of());
+
+            return GatheringDetailResponse.builder()
+                    .title(gathering.getTitle())
+                    .hostName(gathering.getHostName())
+                    .description(gathering.getDescription())
+                    .type(gathering.getType().name())
+                    .status(gathering.getStatus().name())
+                    .deadline(gathering.getDeadline().toString())
+                    .timeCandidates(gathering.getTimeCandidates().stream()
+                            .map(tc -> GatheringDetailResponse.TimeCandidateItem.builder()
+                                    .id(tc.getId())
+                                    .date(tc.getCandidateDate().toString())
+                                    .startTime(tc.getStartTime().toString())
+                                    .endTime(tc.getEndTime() != null ? tc.getEndTime().toString() : null)
+                                    .voteCount(timeVotes.getOrDefault(tc.getId(), 0L))
+                                    .build())
+                            .toList())
+                    .placeCandidates(gathering.getPlaceCandidates().stream()
+                            .map(pc -> GatheringDetailResponse.PlaceCandidateItem.builder()
+                                    .id(pc.getId())
+                                    .name(pc.getName())
+                                    .mapLink(pc.getMapLink())
+                                    .memo(pc.getMemo())
+                                    .estCost(pc.getEstCost())
+                                    .travelMin(pc.getTravelMin())
+                                    .moodTags(pc.getMoodTagList())
+                                    .voteCount(placeVotes.getOrDefault(pc.getId(), 0L))
+                                    .build())
+                            .toList())
+                    .participantCount((int) participantRepository.countByGatheringId(gathering.getId()))
+                    .build();
+        });
+    }
+
+    private CreateGatheringRequest placeOnlyRequest(String moodTags) {
+        CreateGatheringRequest.PlaceCandidateItem place = new CreateGatheringRequest.PlaceCandidateItem();
+        place.setName("강남 고기집");
+        place.setMoodTags(moodTags);
+
+        CreateGatheringRequest request = new CreateGatheringRequest();
+        request.setTitle("태그 모임");
+        request.setHostName("주최자");
+        request.setType("PLACE_ONLY");
+        request.setDeadline(Instant.now().plus(1, ChronoUnit.DAYS));
+        request.setPlaceCandidates(List.of(place));
+        return request;
+    }
+
+    private List<String> shareCodes() {
+        return database.jdbcTemplate().queryForList("SELECT share_code FROM gathering ORDER BY id", String.class);
+    }
+
+    /**
+     * BOTH 모임: 시간 후보 5개(일부는 종료 시간 없음), 장소 후보 5개(일부는 태그/비용 없음), 참여자 10명.
+     * 분위기 태그는 생성 경로처럼 원문(mood_tags)과 정규화 배열(mood_tag_list)을 함께 넣는다.
+     * 참여자마다 시간 후보 2개 + 장소 후보 1개에 투표 (후보별 득표수가 서로 다르도록).
+     * 마감은 하루 뒤 → 정리 스캔 대상이 아님.
+     */
+    private void seedGatherings() {
+        database.inTransaction(jdbc -> {
+            jdbc.update("INSERT INTO gathering (share_code, title, host_name, description, type, admin_token_hash, deadline) " +
+                    "SELECT 'Q' || lpad(n::text, 6, '0'), '모임 ' || n, '주최자', '설명 ' || n, 'BOTH', repeat('0', 64), " +
+                    "NOW() + INTERVAL '1 day' FROM generate_series(1, ?) n", GATHERINGS);
+            jdbc.update("INSERT INTO time_candidate (gathering_id, candidate_date, start_time, end_time, display_order) " +
+                    "SELECT g.id, CURRENT_DATE + o, TIME '18:00' + o * INTERVAL '30 minutes', " +
+                    "CASE WHEN o % 2 = 0 THEN TIME '22:00' END, o FROM gathering g, generate_series(0, 4) o");
+            jdbc.update("INSERT INTO place_candidate (gathering_id, name, map_link, memo, est_cost, travel_min, " +
+                    "                             mood_tags, mood_tag_list, display_order) " +
+                    "SELECT g.id, '장소 ' || o, 'https://map.example/' || o, '메모 ' || o, " +
+                    "CASE WHEN o % 2 = 0 THEN 10000 * o END, 10 * o, " +
+                    "CASE WHEN o % 2 = 1 THEN '조용한, 분위기좋은' END, " +
+                    "CASE WHEN o % 2 = 1 THEN ARRAY['조용한', '분위기좋은'] ELSE '{}' END, " +
+                    "o FROM gathering g, generate_series(0, 4) o");
+            jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                    "SELECT g.id, '참여자 ' || n, repeat('0', 64) FROM gathering g, generate_series(1, 10) n");
+            jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                    "SELECT p.gathering_id, p.id, t.id, 'TIME' FROM participant p " +
+                    "JOIN time_candidate t ON t.gathering_id = p.gathering_id " +
+                    "WHERE t.display_order IN (p.id % 5, (p.id + 1) % 5)");
+            jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                    "SELECT p.gathering_id, p.id, c.id, 'PLACE' FROM participant p " +
+                    "JOIN place_candidate c ON c.gathering_id = p.gathering_id " +
+                    "WHERE c.display_order = p.id % 3");
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.moim.moimbackend.common.security.TokenHashUtil;
+import com.moim.moimbackend.common.util.ShareCodeGenerator;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.entity.GatheringType;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공유 코드 → 모임 최소 정보 캐시 검증.
+ *
+ * open addressing 테이블의 삽입/제거(backward shift)가 섞여도
+ * 모든 코드가 자기 모임으로 정확히 해석되는지, 크기 상한이 지켜지는지 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class GatheringRefCacheTest {
+
+    private static final int MAX_ENTRIES = 64;
+    private static final String ADMIN_TOKEN = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String TOKEN_HASH = TokenHashUtil.hash(ADMIN_TOKEN);
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    private GatheringRefCache cache;
+
+    /** 테스트용 "DB": shareCode → 모임 ID */
+    private final Map<String, Long> gatherings = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        cache = new GatheringRefCache(gatheringRepository, MAX_ENTRIES, 60);
+        when(gatheringRepository.findRefByShareCode(anyString())).thenAnswer(invocation -> {
+            String shareCode = invocation.getArgument(0);
+            return Optional.ofNullable(gatherings.get(shareCode)).map(id -> new GatheringRef(
+                    id, shareCode, GatheringStatus.VOTING, GatheringType.BOTH,
+                    Instant.now().plusSeconds(3600), TOKEN_HASH));
+        });
+    }
+
+    @Test
+    void 상한을_넘겨도_모든_코드가_자기_모임으로_해석된다() {
+        List<String> codes = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            String code = ShareCodeGenerator.generate();
+            if (gatherings.putIfAbsent(code, id) == null) {
+                codes.add(code);
+            }
+        }
+
+        // 삽입 + CLOCK 제거가 반복되도록 여러 번 섞어서 조회
+        Random random = new Random(42);
+        for (int round = 0; round < 5; round++) {
+            Collections.shuffle(codes, random);
+            for (String code : codes) {
+                GatheringRef ref = cache.resolve(code);
+                assertThat(ref.getId()).isEqualTo(gatherings.get(code));
+                assertThat(ref.getShareCode()).isEqualTo(code);
+                assertThat(cache.matchesAdminToken(ref, ADMIN_TOKEN)).isTrue();
+            }
+            assertThat(cache.size()).isLessThanOrEqualTo(MAX_ENTRIES);
+        }
+    }
+
+    @Test
+    void 캐시_적중시_DB를_조회하지_않고_상태_전이는_제자리_반영된다() {
+        gatherings.put("aB3kX7", 7L);
+
+        cache.resolve("aB3kX7");
+        cache.onStatusChanged(new GatheringStatusChangedEvent(7L, "aB3kX7", GatheringStatus.TIEBREAK, 3));
+        GatheringRef ref = cache.resolve("aB3kX7");
+
+        verify(gatheringRepository, times(1)).findRefByShareCode("aB3kX7");
+        assertThat(ref.getStatus()).isEqualTo(GatheringStatus.TIEBREAK);
+    }
+
+    @Test
+    void 캐시_적중시_관리_토큰은_저장된_해시_바이트와_비교한다() {
+        gatherings.put("aB3kX7", 7L);
+        cache.resolve("aB3kX7");
+        GatheringRef hit = cache.resolve("aB3kX7");
+
+        assertThat(hit.getAdminTokenHash()).isNull();  // 적중 경로는 hex 문자열을 만들지 않음
+        assertThat(cache.matchesAdminToken(hit, ADMIN_TOKEN)).isTrue();
+        assertThat(cache.matchesAdminToken(hit, "other-token")).isFalse();
+        assertThat(cache.matchesAdminToken(hit, null)).isFalse();
+        verify(gatheringRepository, times(1)).findRefByShareCode("aB3kX7");
+    }
+
+    @Test
+    void 적중_후_항목이_제거됐으면_관리_토큰은_DB_해시로_검증한다() {
+        gatherings.put("aB3kX7", 7L);
+        cache.resolve("aB3kX7");
+        GatheringRef hit = cache.resolve("aB3kX7");
+
+        // 다른 코드를 상한 이상 채워서 aB3kX7을 밀어냄
+        for (long id = 100; id < 100 + MAX_ENTRIES * 4L; id++) {
+            String code = ShareCodeGenerator.encode(id);
+            gatherings.put(code, id);
+            cache.resolve(code);
+        }
+
+        assertThat(cache.matchesAdminToken(hit, ADMIN_TOKEN)).isTrue();
+        verify(gatheringRepository, times(2)).findRefByShareCode("aB3kX7");
+    }
+
+    @Test
+    void 상한이_0이면_캐시하지_않고_매번_DB에서_조회한다() {
+        GatheringRefCache disabled = new GatheringRefCache(gatheringRepository, 0, 60);
+        gatherings.put("aB3kX7", 7L);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(disabled.resolve("aB3kX7").getId()).isEqualTo(7L);
+        }
+
+        verify(gatheringRepository, times(3)).findRefByShareCode("aB3kX7");
+        assertThat(disabled.size()).isZero();
+    }
+}
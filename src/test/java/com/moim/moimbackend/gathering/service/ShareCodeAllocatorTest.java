@@ -0,0 +1,94 @@
+package com.moim.moimbackend.gathering.service;
+
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * 공유 코드 할당 검증.
+ *
+ * 블록 크기를 시퀀스 정의에서 읽는지, 블록당 DB 호출이 1회씩인지,
+ * 이전 방식의 무작위 코드와 겹치는 값은 건너뛰는지 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShareCodeAllocatorTest {
+
+    private static final long BLOCK_SIZE = 10;
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    private ShareCodeAllocator allocator;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        allocator = new ShareCodeAllocator(gatheringRepository, "test-key");
+        lenient().when(gatheringRepository.findShareCodeBlockSize()).thenReturn(Optional.of(BLOCK_SIZE));
+        lenient().when(gatheringRepository.nextShareCodeBlock())
+                .thenAnswer(invocation -> sequence.getAndAdd(BLOCK_SIZE));
+    }
+
+    @Test
+    void 블록_크기는_시퀀스에서_읽고_블록마다_nextval_1회() {
+        when(gatheringRepository.findExistingShareCodes(anyCollection())).thenReturn(List.of());
+
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < BLOCK_SIZE * 3; i++) {
+            codes.add(allocator.next());
+        }
+
+        assertThat(codes).hasSize((int) BLOCK_SIZE * 3);
+        verify(gatheringRepository, times(1)).findShareCodeBlockSize();
+        verify(gatheringRepository, times(3)).nextShareCodeBlock();
+        verify(gatheringRepository, times(3)).findExistingShareCodes(anyCollection());
+    }
+
+    @Test
+    void 기존_코드와_겹치는_값은_건너뛴다() {
+        // 첫 블록 코드를 미리 구해 두고, 그중 두 개가 이미 쓰였다고 응답
+        List<String> firstBlock = new ArrayList<>();
+        doAnswer(invocation -> {
+            Collection<String> candidates = invocation.getArgument(0);
+            if (firstBlock.isEmpty()) {
+                firstBlock.addAll(candidates);
+                return List.of(firstBlock.get(0), firstBlock.get(3));
+            }
+            return List.of();
+        }).when(gatheringRepository).findExistingShareCodes(anyCollection());
+
+        List<String> allocated = new ArrayList<>();
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            allocated.add(allocator.next());
+        }
+
+        assertThat(allocated).doesNotContain(firstBlock.get(0), firstBlock.get(3));
+        assertThat(allocated).startsWith(firstBlock.get(1), firstBlock.get(2), firstBlock.get(4));
+        // 건너뛴 2개만큼 두 번째 블록으로 넘어감
+        verify(gatheringRepository, times(2)).nextShareCodeBlock();
+    }
+
+    @Test
+    void 시퀀스가_없으면_할당하지_않는다() {
+        when(gatheringRepository.findShareCodeBlockSize()).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> allocator.next()).isInstanceOf(IllegalStateException.class);
+        verify(gatheringRepository, never()).nextShareCodeBlock();
+    }
+}
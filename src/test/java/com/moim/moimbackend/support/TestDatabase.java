@@ -0,0 +1,154 @@
+package com.moim.moimbackend.support;
+
+import com.moim.moimbackend.MoimBackendApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * PostgreSQL 통합 테스트용 임시 스키마.
+ *
+ * MOIM_TEST_DB_URL 데이터베이스 안에 moim_test_xxxxxxxx 스키마를 새로 만들고 마이그레이션을 버전 순으로 적용한다.
+ * 모든 연결(테스트의 JdbcTemplate, 앱 컨텍스트의 풀)은 currentSchema를 붙인 URL로 열어서 이 스키마만 본다.
+ * close()는 이 스키마만 지운다 → public 등 기존 스키마는 건드리지 않고, 여러 테스트가 같은 DB에서 동시에 돌 수 있다.
+ *
+ * 사용하는 테스트는 @EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")로 막아 둔다:
+ *   MOIM_TEST_DB_URL=jdbc:postgresql://localhost:5432/moim_test MOIM_TEST_DB_USER=... MOIM_TEST_DB_PASSWORD=... ./gradlew test
+ */
+public final class TestDatabase implements AutoCloseable {
+
+    private final String schema;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    private TestDatabase(String baseUrl, String username, String password) {
+        this.schema = "moim_test_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        this.url = baseUrl + (baseUrl.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+        this.username = username;
+        this.password = password;
+
+        new JdbcTemplate(new DriverManagerDataSource(baseUrl, username, password))
+                .execute("CREATE SCHEMA " + schema);
+        this.dataSource = new DriverManagerDataSource(url, username, password);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        migrate();
+    }
+
+    /** 임시 스키마 생성 + 마이그레이션 적용 */
+    public static TestDatabase create() {
+        return new TestDatabase(
+                System.getenv("MOIM_TEST_DB_URL"),
+                System.getenv().getOrDefault("MOIM_TEST_DB_USER", "postgres"),
+                System.getenv().getOrDefault("MOIM_TEST_DB_PASSWORD", ""));
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    /** 스키마를 비우고 마이그레이션을 다시 적용 (같은 스키마를 여러 테스트가 이어 쓸 때) */
+    public void reset() {
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+        migrate();
+    }
+
+    /** 테스트 데이터 삽입을 한 트랜잭션으로 */
+    public void inTransaction(Consumer<JdbcTemplate> work) {
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+                .executeWithoutResult(status -> work.accept(jdbcTemplate));
+    }
+
+    public long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    /**
+     * 다른 세션이 holderPid 세션의 잠금을 기다리기 시작할 때까지 대기 (경쟁 순서를 고정하는 테스트용).
+     * holderPid는 잠금을 잡은 연결에서 SELECT pg_backend_pid()로 읽는다.
+     */
+    public void awaitBlockedBy(int holderPid) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (count("SELECT COUNT(*) FROM pg_stat_activity WHERE ? = ANY(pg_blocking_pids(pid))", holderPid) == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("pid " + holderPid + "의 잠금을 기다리는 세션이 없음");
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /** 이 스키마를 쓰는 앱 컨텍스트 속성 (datasource, 스키마 검증) */
+    public List<String> springProperties() {
+        return List.of(
+                "spring.datasource.url=" + url,
+                "spring.datasource.username=" + username,
+                "spring.datasource.password=" + password,
+                "spring.flyway.enabled=false",
+                "spring.jpa.hibernate.ddl-auto=validate",
+                "spring.jpa.properties.hibernate.default_schema=" + schema);
+    }
+
+    /** 이 스키마를 쓰는 앱 컨텍스트 시작 (웹 서버 없음, 추가 속성은 뒤에 붙여서 덮어씀) */
+    public ConfigurableApplicationContext startApplication(String... properties) {
+        List<String> all = new ArrayList<>(springProperties());
+        all.addAll(List.of(properties));
+        return new SpringApplicationBuilder(MoimBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(all.toArray(String[]::new))
+                .run();
+    }
+
+    /** 임시 스키마 삭제 */
+    @Override
+    public void close() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+    }
+
+    // ========== Private 메서드 ==========
+
+    private void migrate() {
+        try {
+            Resource[] migrations = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:db/migration/V*.sql");
+            Arrays.sort(migrations, Comparator.comparingInt(TestDatabase::version));
+            new ResourceDatabasePopulator(migrations).execute(dataSource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int version(Resource migration) {
+        String name = migration.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+}
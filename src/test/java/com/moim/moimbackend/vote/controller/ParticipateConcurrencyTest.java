@@ -0,0 +1,124 @@
+package com.moim.moimbackend.vote.controller;
+
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.support.TestDatabase;
+import com.moim.moimbackend.vote.dto.ParticipateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 닉네임 동시 참여 검증.
+ *
+ * 닉네임 NAMES개를 각각 ATTEMPTS_PER_NAME번씩 섞어서 THREADS개 스레드가 한꺼번에 참여시킨다.
+ * 존재 확인 후 INSERT하는 구현이면 같은 이름의 요청들이 모두 확인을 통과하고 UNIQUE 위반(500)이 난다.
+ * 이름마다 정확히 한 요청만 201이고 나머지는 DUPLICATE_NAME인지, 투표/버전이 성공한 요청만큼만 반영됐는지 확인한다.
+ * 투표 그룹 커밋(moim.vote-batch.enabled)을 켠 경우도 같은 결과여야 한다 (배치 실패 → 개별 재실행).
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class ParticipateConcurrencyTest {
+
+    private static final String SHARE_CODE = "J0in01";
+    private static final int NAMES = 50;
+    private static final int ATTEMPTS_PER_NAME = 8;
+    private static final int THREADS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        database.close();
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void 같은_닉네임은_한_명만_참여하고_나머지는_DUPLICATE_NAME(boolean voteBatch) throws Exception {
+        context = database.startApplication(
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000",
+                "moim.vote-batch.enabled=" + voteBatch);
+        Long timeCandidateId = seedGathering();
+        long initialVersion = database.count("SELECT version FROM gathering");
+
+        VoteController controller = context.getBean(VoteController.class);
+        List<String> names = new ArrayList<>();
+        for (int attempt = 0; attempt < ATTEMPTS_PER_NAME; attempt++) {
+            for (int i = 0; i < NAMES; i++) {
+                names.add("참여자" + i);
+            }
+        }
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = offset; i < names.size(); i += THREADS) {
+                    ParticipateRequest request = new ParticipateRequest();
+                    request.setName(names.get(i));
+                    request.setTimeCandidateIds(List.of(timeCandidateId));
+                    try {
+                        controller.participate(SHARE_CODE, request);
+                        created.incrementAndGet();
+                    } catch (BusinessException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_NAME);
+                        duplicates.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+
+        assertThat(created).hasValue(NAMES);
+        assertThat(duplicates).hasValue(NAMES * (ATTEMPTS_PER_NAME - 1));
+        assertThat(database.count("SELECT COUNT(*) FROM participant")).isEqualTo(NAMES);
+        assertThat(database.count("SELECT COUNT(DISTINCT name) FROM participant")).isEqualTo(NAMES);
+        // 실패한 요청의 투표/버전 증가는 롤백됨
+        assertThat(database.count("SELECT COUNT(*) FROM vote")).isEqualTo(NAMES);
+        assertThat(database.count("SELECT version FROM gathering") - initialVersion).isEqualTo(NAMES);
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 시간 후보 1개인 VOTING 모임, 후보 ID 반환 */
+    private Long seedGathering() {
+        database.inTransaction(jdbc -> {
+            jdbc.update("INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, status, deadline) " +
+                    "VALUES (?, '동시 참여', '주최자', 'TIME_ONLY', repeat('0', 64), 'VOTING', NOW() + INTERVAL '1 day')",
+                    SHARE_CODE);
+            jdbc.update("INSERT INTO time_candidate (gathering_id, candidate_date, start_time, display_order) " +
+                    "SELECT id, CURRENT_DATE + 7, TIME '19:00', 0 FROM gathering");
+        });
+        return database.count("SELECT id FROM time_candidate");
+    }
+}
@@ -0,0 +1,121 @@
+package com.moim.moimbackend.vote.controller;
+
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
+import com.moim.moimbackend.support.TestDatabase;
+import com.moim.moimbackend.vote.dto.PatchVotesRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PATCH /votes 동시 추가 검증.
+ *
+ * 같은 참여자가 같은 후보를 추가하는 요청 두 개를 같은 순간에 보낸다 (더블 클릭, 탭 두 개).
+ * 두 요청 모두 기존 투표를 "없음"으로 읽으므로, 추가가 멱등이 아니면 늦은 쪽이 UNIQUE 위반(500)으로 실패한다.
+ * 둘 다 200이고, 투표 행과 버전 증가는 참여자당 1번인지 확인한다.
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class VotePatchConcurrencyTest {
+
+    private static final String SHARE_CODE = "P0tch1";
+    private static final int PARTICIPANTS = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        context = database.startApplication(
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        database.close();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_후보를_동시에_추가해도_둘_다_성공하고_한_번만_반영된다() {
+        Long gatheringId = seedGathering();
+        Long timeCandidateId = database.jdbcTemplate().queryForObject(
+                "SELECT id FROM time_candidate WHERE gathering_id = ?", Long.class, gatheringId);
+        long initialVersion = version(gatheringId);
+
+        VoteController controller = context.getBean(VoteController.class);
+        TokenSigner tokenSigner = context.getBean(TokenSigner.class);
+        List<HttpStatus> statuses = new ArrayList<>();
+
+        for (Map<String, Object> row : database.jdbcTemplate().queryForList("SELECT id FROM participant")) {
+            long participantId = ((Number) row.get("id")).longValue();
+            String sessionToken = tokenSigner.issue(TokenType.SESSION, gatheringId, participantId, tokenSigner.newNonce());
+            PatchVotesRequest request = new PatchVotesRequest();
+            request.setAddTimeCandidateIds(List.of(timeCandidateId));
+
+            CyclicBarrier start = new CyclicBarrier(2);
+            List<CompletableFuture<HttpStatus>> requests = List.of(
+                    patch(controller, sessionToken, request, start),
+                    patch(controller, sessionToken, request, start));
+            requests.forEach(future -> statuses.add(future.join()));
+        }
+
+        assertThat(statuses).hasSize(PARTICIPANTS * 2).containsOnly(HttpStatus.OK);
+        assertThat(database.count("SELECT COUNT(*) FROM vote")).isEqualTo(PARTICIPANTS);
+        // 실제로 INSERT한 쪽만 버전을 올림 → 참여자당 1
+        assertThat(version(gatheringId) - initialVersion).isEqualTo(PARTICIPANTS);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private CompletableFuture<HttpStatus> patch(VoteController controller, String sessionToken,
+                                                PatchVotesRequest request, CyclicBarrier start) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                start.await();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return HttpStatus.valueOf(controller.patchVotes(SHARE_CODE, sessionToken, request).getStatusCode().value());
+        }, executor);
+    }
+
+    /** 시간 후보 1개, 아직 투표하지 않은 참여자 PARTICIPANTS명인 VOTING 모임 */
+    private Long seedGathering() {
+        database.inTransaction(jdbc -> {
+            jdbc.update("INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, status, deadline) " +
+                    "VALUES (?, '동시 투표', '주최자', 'TIME_ONLY', repeat('0', 64), 'VOTING', NOW() + INTERVAL '1 day')",
+                    SHARE_CODE);
+            jdbc.update("INSERT INTO time_candidate (gathering_id, candidate_date, start_time, display_order) " +
+                    "SELECT id, CURRENT_DATE + 7, TIME '19:00', 0 FROM gathering");
+            jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                    "SELECT g.id, '참여자 ' || n, repeat('0', 64) FROM gathering g, generate_series(1, ?) n",
+                    PARTICIPANTS);
+        });
+        return database.jdbcTemplate().queryForObject(
+                "SELECT id FROM gathering WHERE share_code = ?", Long.class, SHARE_CODE);
+    }
+
+    private long version(Long gatheringId) {
+        return database.count("SELECT version FROM gathering WHERE id = ?", gatheringId);
+    }
+}
@@ -0,0 +1,138 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.vote.dto.VoteChangesResponse;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모임별 변경 기록 링 버퍼 검증.
+ *
+ * 버전이 연속인 구간만 변경분으로 돌려주고, 기록이 부족하면 null(→ 전체 스냅샷)인지 확인한다.
+ */
+class VoteChangeLogTest {
+
+    private static final String SHARE_CODE = "aB3kX7";
+    private static final int CAPACITY = 8;
+
+    private VoteChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new VoteChangeLog(CAPACITY, 3600);
+    }
+
+    @Test
+    void since_이후의_변경만_버전순으로_반환한다() {
+        for (long version = 2; version <= 5; version++) {
+            changeLog.onVoteChanged(voteChanged(version));
+        }
+
+        assertThat(versions(changeLog.since(SHARE_CODE, 3))).containsExactly(4L, 5L);
+        assertThat(versions(changeLog.since(SHARE_CODE, 1))).containsExactly(2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void 최신_버전이면_빈_목록() {
+        changeLog.onVoteChanged(voteChanged(2));
+
+        assertThat(changeLog.since(SHARE_CODE, 2)).isEmpty();
+    }
+
+    @Test
+    void 기록이_없으면_null() {
+        assertThat(changeLog.since(SHARE_CODE, 0)).isNull();
+    }
+
+    @Test
+    void 커밋_후_리스너_순서가_뒤바뀌어도_버전순으로_끼워_넣는다() {
+        changeLog.onVoteChanged(voteChanged(2));
+        changeLog.onVoteChanged(voteChanged(4));
+        changeLog.onVoteChanged(voteChanged(3));
+
+        assertThat(versions(changeLog.since(SHARE_CODE, 1))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void 같은_버전은_한_번만_기록한다() {
+        changeLog.onVoteChanged(voteChanged(2));
+        changeLog.onVoteChanged(voteChanged(2));
+
+        assertThat(versions(changeLog.since(SHARE_CODE, 1))).containsExactly(2L);
+    }
+
+    @Test
+    void 중간_버전이_비면_그_앞까지만_반환한다() {
+        changeLog.onVoteChanged(voteChanged(2));
+        changeLog.onVoteChanged(voteChanged(3));
+        changeLog.onVoteChanged(voteChanged(5));
+
+        assertThat(versions(changeLog.since(SHARE_CODE, 1))).containsExactly(2L, 3L);
+        // 바로 다음 버전(4)이 없으면 변경분으로 응답 불가
+        assertThat(changeLog.since(SHARE_CODE, 3)).isNull();
+    }
+
+    @Test
+    void 버퍼가_한_바퀴_돌면_버려진_구간의_since는_null() {
+        for (long version = 2; version <= 2 + CAPACITY + 3; version++) {
+            changeLog.onVoteChanged(voteChanged(version));
+        }
+
+        // 보관 중: 6 ~ 13
+        assertThat(changeLog.since(SHARE_CODE, 1)).isNull();
+        assertThat(changeLog.since(SHARE_CODE, 4)).isNull();
+        assertThat(versions(changeLog.since(SHARE_CODE, 5))).hasSize(CAPACITY).startsWith(6L).endsWith(13L);
+    }
+
+    @Test
+    void 가득_찬_버퍼에_보관_구간보다_오래된_버전은_무시한다() {
+        for (long version = 10; version < 10 + CAPACITY; version++) {
+            changeLog.onVoteChanged(voteChanged(version));
+        }
+        changeLog.onVoteChanged(voteChanged(3));
+
+        assertThat(versions(changeLog.since(SHARE_CODE, 9))).hasSize(CAPACITY).startsWith(10L);
+    }
+
+    @Test
+    void 최종_상태_전이도_변경분으로_남는다() {
+        changeLog.onVoteChanged(voteChanged(2));
+        changeLog.onStatusChanged(new GatheringStatusChangedEvent(1L, SHARE_CODE, GatheringStatus.CONFIRMED, 3));
+
+        List<VoteChangesResponse.Change> changes = changeLog.since(SHARE_CODE, 2);
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getType()).isEqualTo("STATUS_CHANGED");
+        assertThat(changes.get(0).getStatus()).isEqualTo("CONFIRMED");
+    }
+
+    @Test
+    void 모임별로_따로_기록한다() {
+        changeLog.onVoteChanged(voteChanged(2));
+
+        assertThat(changeLog.since("zZ9yY8", 1)).isNull();
+    }
+
+    // ========== Private 메서드 ==========
+
+    private static VoteChangedEvent voteChanged(long version) {
+        return VoteChangedEvent.builder()
+                .gatheringId(1L)
+                .shareCode(SHARE_CODE)
+                .version(version)
+                .participantId(1L)
+                .timeAdded(Set.of(version))
+                .build();
+    }
+
+    private static List<Long> versions(List<VoteChangesResponse.Change> changes) {
+        return changes.stream().map(VoteChangesResponse.Change::getVersion).toList();
+    }
+}
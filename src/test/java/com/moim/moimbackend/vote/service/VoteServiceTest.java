@@ -0,0 +1,254 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.common.security.TokenSigner;
+import com.moim.moimbackend.common.security.TokenSigner.TokenType;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
+import com.moim.moimbackend.gathering.entity.Gathering;
+import com.moim.moimbackend.gathering.entity.GatheringType;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import com.moim.moimbackend.gathering.service.GatheringRefCache;
+import com.moim.moimbackend.vote.dto.ParticipateRequest;
+import com.moim.moimbackend.vote.dto.PatchVotesRequest;
+import com.moim.moimbackend.vote.entity.CandidateType;
+import com.moim.moimbackend.vote.entity.Participant;
+import com.moim.moimbackend.vote.entity.Vote;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import com.moim.moimbackend.vote.repository.ParticipantRepository;
+import com.moim.moimbackend.vote.repository.VoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 투표 서비스 단위 테스트.
+ *
+ * 참여/투표 변경의 쓰기 경로와 이벤트 발행 검증.
+ * 투표 현황 조회의 SQL 문장 수는 실제 DB로 VoteSummaryQueryTest에서 센다.
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteServiceTest {
+
+    private static final String SHARE_CODE = "aB3kX7";
+    private static final long GATHERING_ID = 1L;
+
+    @Mock
+    private GatheringRepository gatheringRepository;
+    @Mock
+    private ParticipantRepository participantRepository;
+    @Mock
+    private VoteRepository voteRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private VoteService voteService;
+    private TokenSigner tokenSigner;
+
+    private Gathering gathering;
+
+    @BeforeEach
+    void setUp() {
+        VoteTallyCache voteTallyCache = new VoteTallyCache(participantRepository, voteRepository, 600, 100);
+        tokenSigner = new TokenSigner("", "");
+        voteService = new VoteService(gatheringRepository, new GatheringRefCache(gatheringRepository, 100, 60),
+                participantRepository, voteRepository, voteTallyCache, new VoteChangeLog(256, 3600),
+                tokenSigner, eventPublisher);
+
+        gathering = Gathering.builder()
+                .id(GATHERING_ID)
+                .shareCode(SHARE_CODE)
+                .title("금요일 회식")
+                .hostName("주최자")
+                .type(GatheringType.BOTH)
+                .adminTokenHash("hash")
+                .deadline(Instant.now().plusSeconds(3600))
+                .build();
+    }
+
+    @Test
+    void participate_닉네임_중복이면_INSERT_결과없음_DUPLICATE_NAME() {
+        ParticipateRequest request = new ParticipateRequest();
+        request.setName(" 김민수 ");
+        request.setTimeCandidateIds(List.of(1L, 2L));
+
+        stubGatheringRef();
+        when(participantRepository.insertIfNameAvailable(eq(GATHERING_ID), eq("김민수"), anyString()))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> voteService.participate(SHARE_CODE, request))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.DUPLICATE_NAME);
+
+        // 사전 존재 확인 없이 INSERT 1회로 판정, 투표/버전/이벤트는 건드리지 않음
+        verify(participantRepository).insertIfNameAvailable(eq(GATHERING_ID), eq("김민수"), anyString());
+        verifyNoMoreInteractions(participantRepository);
+        verifyNoInteractions(voteRepository, eventPublisher);
+        verify(gatheringRepository, never()).incrementVersionIfVoting(GATHERING_ID);
+    }
+
+    @Test
+    void patchVotes_새로_추가된_후보만_INSERT하고_변경_이벤트를_발행한다() {
+        Participant participant = stubParticipant(100L, "김민수");
+        when(voteRepository.findByParticipantId(100L)).thenReturn(List.of(vote(1L, participant, 10L, CandidateType.TIME)));
+        when(voteRepository.insertIgnoringDuplicates(GATHERING_ID, 100L, "TIME", Set.of(11L))).thenReturn(List.of(11L));
+        when(gatheringRepository.incrementVersionIfVoting(GATHERING_ID)).thenReturn(Optional.of(2L));
+
+        PatchVotesRequest request = new PatchVotesRequest();
+        request.setAddTimeCandidateIds(List.of(10L, 11L));  // 10은 이미 투표함
+        voteService.patchVotes(SHARE_CODE, sessionToken(100L), request);
+
+        VoteChangedEvent event = publishedEvent();
+        assertThat(event.getVersion()).isEqualTo(2L);
+        assertThat(event.getTimeAdded()).containsExactly(11L);
+        assertThat(event.getParticipantName()).isEqualTo("김민수");
+        verify(voteRepository, never()).deleteAllByIdIn(any());
+        verify(voteRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void patchVotes_동시_요청이_먼저_추가했으면_버전과_이벤트를_건드리지_않는다() {
+        // 두 요청 모두 "없음"으로 읽었지만 다른 요청이 먼저 INSERT → ON CONFLICT DO NOTHING으로 0행
+        stubParticipant(100L, "김민수");
+        when(voteRepository.findByParticipantId(100L)).thenReturn(List.of());
+        when(voteRepository.insertIgnoringDuplicates(GATHERING_ID, 100L, "TIME", Set.of(11L))).thenReturn(List.of());
+
+        PatchVotesRequest request = new PatchVotesRequest();
+        request.setAddTimeCandidateIds(List.of(11L));
+        voteService.patchVotes(SHARE_CODE, sessionToken(100L), request);
+
+        verify(gatheringRepository, never()).incrementVersionIfVoting(GATHERING_ID);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchVotes_해제한_후보의_투표_행만_삭제한다() {
+        Participant participant = stubParticipant(100L, "김민수");
+        when(voteRepository.findByParticipantId(100L)).thenReturn(List.of(
+                vote(1L, participant, 10L, CandidateType.TIME),
+                vote(2L, participant, 20L, CandidateType.PLACE)));
+        when(gatheringRepository.incrementVersionIfVoting(GATHERING_ID)).thenReturn(Optional.of(3L));
+
+        PatchVotesRequest request = new PatchVotesRequest();
+        request.setRemovePlaceCandidateIds(List.of(20L, 21L));  // 21은 투표한 적 없음
+        voteService.patchVotes(SHARE_CODE, sessionToken(100L), request);
+
+        verify(voteRepository).deleteAllByIdIn(List.of(2L));
+        verify(voteRepository, never()).insertIgnoringDuplicates(any(), any(), any(), any());
+        assertThat(publishedEvent().getPlaceRemoved()).containsExactly(20L);
+    }
+
+    @Test
+    void patchVotes_변경이_없으면_아무것도_쓰지_않는다() {
+        Participant participant = stubParticipant(100L, "김민수");
+        when(voteRepository.findByParticipantId(100L)).thenReturn(List.of(vote(1L, participant, 10L, CandidateType.TIME)));
+
+        PatchVotesRequest request = new PatchVotesRequest();
+        request.setAddTimeCandidateIds(List.of(10L));
+        voteService.patchVotes(SHARE_CODE, sessionToken(100L), request);
+
+        verify(voteRepository).findByParticipantId(100L);
+        verifyNoMoreInteractions(voteRepository);
+        verify(gatheringRepository, never()).incrementVersionIfVoting(GATHERING_ID);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void patchVotes_다른_모임의_세션_토큰이면_UNAUTHORIZED() {
+        stubGatheringRef();
+        String otherToken = tokenSigner.issue(TokenType.SESSION, GATHERING_ID + 1, 100L, tokenSigner.newNonce());
+
+        assertThatThrownBy(() -> voteService.patchVotes(SHARE_CODE, otherToken, new PatchVotesRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UNAUTHORIZED);
+        verifyNoInteractions(voteRepository, eventPublisher);
+    }
+
+    @Test
+    void patchVotes_서명이_맞아도_없는_참여자면_UNAUTHORIZED() {
+        stubGatheringRef();
+        when(participantRepository.findByIdAndGatheringId(100L, GATHERING_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> voteService.patchVotes(SHARE_CODE, sessionToken(100L), new PatchVotesRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.UNAUTHORIZED);
+        verifyNoInteractions(voteRepository, eventPublisher);
+    }
+
+    @Test
+    void patchVotes_집계_캐시에_있는_참여자는_DB_확인_없이_통과한다() {
+        stubGatheringRef();
+        when(gatheringRepository.findVersionById(GATHERING_ID)).thenReturn(Optional.of(0L));
+        when(participantRepository.findByGatheringId(GATHERING_ID)).thenReturn(List.of(participant(100L, "김민수")));
+        when(voteRepository.findVoteRowsByGatheringId(GATHERING_ID)).thenReturn(List.of());
+        voteService.getVoteSummary(SHARE_CODE);  // 집계 캐시에 참여자 적재
+        when(participantRepository.getReferenceById(100L)).thenReturn(participant(100L, "김민수"));
+
+        voteService.patchVotes(SHARE_CODE, sessionToken(100L), new PatchVotesRequest());
+
+        verify(participantRepository, never()).findByIdAndGatheringId(anyLong(), anyLong());
+    }
+
+    private void stubGatheringRef() {
+        when(gatheringRepository.findRefByShareCode(SHARE_CODE)).thenReturn(Optional.of(new GatheringRef(
+                GATHERING_ID, SHARE_CODE, gathering.getStatus(), gathering.getType(),
+                gathering.getDeadline(), gathering.getAdminTokenHash())));
+    }
+
+    /** 모임 + 서명 토큰으로 찾을 참여자 스텁 */
+    private Participant stubParticipant(Long id, String name) {
+        stubGatheringRef();
+        Participant participant = participant(id, name);
+        when(participantRepository.findByIdAndGatheringId(id, GATHERING_ID)).thenReturn(Optional.of(participant));
+        return participant;
+    }
+
+    private String sessionToken(Long participantId) {
+        return tokenSigner.issue(TokenType.SESSION, GATHERING_ID, participantId, tokenSigner.newNonce());
+    }
+
+    private VoteChangedEvent publishedEvent() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return (VoteChangedEvent) captor.getValue();
+    }
+
+    private Vote vote(Long id, Participant participant, Long candidateId, CandidateType type) {
+        return Vote.builder()
+                .id(id)
+                .gathering(gathering)
+                .participant(participant)
+                .candidateId(candidateId)
+                .candidateType(type)
+                .build();
+    }
+
+    private Participant participant(Long id, String name) {
+        return Participant.builder()
+                .id(id)
+                .gathering(gathering)
+                .name(name)
+                .sessionTokenHash("hash")
+                .build();
+    }
+}
@@ -0,0 +1,359 @@
+package com.moim.moimbackend.vote.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.gathering.dto.GatheringRef;
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.entity.GatheringType;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.gathering.repository.GatheringRepository;
+import com.moim.moimbackend.vote.dto.VoteSummaryResponse;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 투표 현황 스트림 허브 검증.
+ *
+ * 실제 연결 대신 보낸 이벤트를 기록하는 emitter를 쓰고,
+ * 전송 작업은 테스트가 직접 실행하는 Executor로 돌려서 순서를 고정한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteStreamHubTest {
+
+    private static final String SHARE_CODE = "aB3kX7";
+    private static final long GATHERING_ID = 1L;
+
+    @Mock
+    private VoteService voteService;
+    @Mock
+    private GatheringRepository gatheringRepository;
+
+    /** 전송 작업 대기열 (runPending()으로 실행) */
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private final AtomicInteger summaryVersion = new AtomicInteger();
+
+    private VoteStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = newHub(pending::add, 100);
+        lenient().when(gatheringRepository.findRefByShareCode(anyString()))
+                .thenAnswer(invocation -> Optional.of(ref(invocation.getArgument(0), GatheringStatus.VOTING)));
+        lenient().when(voteService.getVoteSummary(anyString()))
+                .thenAnswer(invocation -> summary(summaryVersion.incrementAndGet()));
+    }
+
+    @Test
+    void 구독자를_등록한_뒤에_현황을_읽는다() {
+        // 현황을 읽는 시점에 이미 등록돼 있어야 그 사이 커밋된 변경을 놓치지 않는다
+        doAnswer(invocation -> {
+            assertThat(hub.getSubscriberCount()).isEqualTo(1);
+            return summary(summaryVersion.incrementAndGet());
+        }).when(voteService).getVoteSummary(SHARE_CODE);
+
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        assertThat(emitters.get(0).sent()).containsExactly("votes:1");
+    }
+
+    @Test
+    void 초기_현황보다_갱신이_먼저_오면_초기_현황은_보내지_않는다() {
+        // 초기 현황을 읽는 도중 커밋된 변경의 갱신이 먼저 전달된 상황
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                hub.onVoteChanged(changed(SHARE_CODE));
+                runPending();
+                return summary(0);
+            }
+            return summary(summaryVersion.incrementAndGet());
+        }).when(voteService).getVoteSummary(SHARE_CODE);
+
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        assertThat(emitters.get(0).sent()).containsExactly("votes:1");
+    }
+
+    @Test
+    void 투표_변경을_같은_모임의_모든_구독자에게_보낸다() {
+        hub.subscribe(SHARE_CODE);
+        hub.subscribe(SHARE_CODE);
+        hub.subscribe("zZ9yY8");
+        runPending();
+
+        hub.onVoteChanged(changed(SHARE_CODE));
+        runPending();
+
+        assertThat(emitters.get(0).sent()).endsWith("votes:4");
+        assertThat(emitters.get(1).sent()).endsWith("votes:4");
+        assertThat(emitters.get(2).sent()).containsExactly("votes:3");
+        // 구독 3회 + 갱신 1회 (구독자 수와 무관하게 모임당 한 번만 조회/직렬화)
+        verify(voteService, times(4)).getVoteSummary(anyString());
+    }
+
+    @Test
+    void 연속된_변경은_최신_현황_하나로_합쳐진다() {
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        for (int i = 0; i < 5; i++) {
+            hub.onVoteChanged(changed(SHARE_CODE));
+        }
+        assertThat(pending).hasSize(1);
+        runPending();
+
+        assertThat(emitters.get(0).sent()).containsExactly("votes:1", "votes:2");
+    }
+
+    @Test
+    void 느린_구독자는_중간_현황을_건너뛴다() {
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        // 첫 갱신의 전송 작업이 돌기 전에 두 번째 갱신 도착 → 마지막 현황만 전송
+        hub.onVoteChanged(changed(SHARE_CODE));
+        pending.poll().run();
+        Runnable drain = pending.poll();
+        hub.onVoteChanged(changed(SHARE_CODE));
+        pending.poll().run();
+        assertThat(pending).isEmpty();
+        drain.run();
+
+        assertThat(emitters.get(0).sent()).containsExactly("votes:1", "votes:3");
+    }
+
+    @Test
+    void 최종_상태가_되면_status를_보내고_스트림을_종료한다() {
+        hub.subscribe(SHARE_CODE);
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        hub.onStatusChanged(new GatheringStatusChangedEvent(GATHERING_ID, SHARE_CODE, GatheringStatus.CONFIRMED, 7));
+        runPending();
+
+        for (RecordingEmitter emitter : emitters) {
+            assertThat(emitter.sent()).containsExactly("votes:" + emitter.snapshotVersion, "status:CONFIRMED:7");
+            assertThat(emitter.completed).isTrue();
+        }
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void 타이브레이크_전이는_스트림을_유지한다() {
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        hub.onStatusChanged(new GatheringStatusChangedEvent(GATHERING_ID, SHARE_CODE, GatheringStatus.TIEBREAK, 3));
+        runPending();
+
+        assertThat(emitters.get(0).sent()).containsExactly("votes:1", "status:TIEBREAK:3");
+        assertThat(emitters.get(0).completed).isFalse();
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 이미_끝난_모임을_구독하면_현황과_status를_보내고_바로_종료한다() {
+        when(gatheringRepository.findRefByShareCode(SHARE_CODE))
+                .thenReturn(Optional.of(ref(SHARE_CODE, GatheringStatus.EXPIRED)));
+        when(gatheringRepository.findVersionByShareCode(SHARE_CODE)).thenReturn(Optional.of(5L));
+
+        hub.subscribe(SHARE_CODE);
+        runPending();
+
+        assertThat(emitters.get(0).sent()).containsExactly("votes:1", "status:EXPIRED:5");
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void 없는_모임을_구독하면_등록을_되돌린다() {
+        when(gatheringRepository.findRefByShareCode("nOnE00")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> hub.subscribe("nOnE00"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GATHERING_NOT_FOUND);
+        assertThat(hub.getSubscriberCount()).isZero();
+
+        // 토픽도 남지 않아야 함 → 이후 변경 이벤트에 갱신 작업이 생기지 않음
+        hub.onVoteChanged(changed("nOnE00"));
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    void 연결_상한을_넘으면_RATE_LIMITED() {
+        hub = newHub(pending::add, 2);
+        hub.subscribe(SHARE_CODE);
+        hub.subscribe(SHARE_CODE);
+
+        assertThatThrownBy(() -> hub.subscribe(SHARE_CODE))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.RATE_LIMITED);
+        assertThat(hub.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 전송_대기열이_가득_차면_연결을_끊는다() {
+        hub = newHub(task -> {
+            throw new RejectedExecutionException("full");
+        }, 100);
+
+        hub.subscribe(SHARE_CODE);
+
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    /**
+     * 부하 검증: 구독자 1만 명 × 실제 전송 풀.
+     * 변경 1회의 팬아웃이 모든 구독자에게 도착하는지만 본다 (시간 단언 없음, 30초는 행 방지용).
+     */
+    @Test
+    void 구독자_1만명에게_팬아웃() throws InterruptedException {
+        int subscribers = 10_000;
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(4);
+        pool.setMaxPoolSize(4);
+        pool.setQueueCapacity(subscribers * 2);
+        pool.initialize();
+        try {
+            hub = newHub(pool, subscribers);
+            for (int i = 0; i < subscribers; i++) {
+                hub.subscribe(SHARE_CODE);
+            }
+
+            CountDownLatch delivered = new CountDownLatch(subscribers);
+            emitters.forEach(emitter -> emitter.onSent("votes:" + (subscribers + 1), delivered::countDown));
+            hub.onVoteChanged(changed(SHARE_CODE));
+
+            assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+            assertThat(hub.getSubscriberCount()).isEqualTo(subscribers);
+            verify(voteService, times(subscribers + 1)).getVoteSummary(SHARE_CODE);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    private VoteStreamHub newHub(Executor sender, int maxSubscribers) {
+        emitters.clear();
+        return new VoteStreamHub(voteService, gatheringRepository, new ObjectMapper(), maxSubscribers, 16, sender,
+                () -> {
+                    RecordingEmitter emitter = new RecordingEmitter();
+                    synchronized (emitters) {
+                        emitters.add(emitter);
+                    }
+                    return emitter;
+                });
+    }
+
+    private void runPending() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static VoteChangedEvent changed(String shareCode) {
+        return VoteChangedEvent.builder().gatheringId(GATHERING_ID).shareCode(shareCode).version(1).build();
+    }
+
+    private GatheringRef ref(String shareCode, GatheringStatus status) {
+        return new GatheringRef(GATHERING_ID, shareCode, status, GatheringType.BOTH,
+                Instant.now().plusSeconds(3600), "a".repeat(64));
+    }
+
+    /** participantCount에 조회 순번을 넣어서 어느 현황이 전송됐는지 구분 */
+    private static VoteSummaryResponse summary(int version) {
+        return VoteSummaryResponse.builder()
+                .participantCount(version)
+                .participantNames(List.of())
+                .timeCandidateVotes(List.of())
+                .placeCandidateVotes(List.of())
+                .build();
+    }
+
+    /**
+     * 보낸 이벤트를 "votes:{participantCount}" / "status:{status}:{version}" 형태로 기록.
+     * (서블릿 비동기 요청 없이 동작하도록 send/complete만 가로챈다)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        private volatile String watched;
+        private volatile Runnable onWatched;
+        volatile boolean completed;
+        int snapshotVersion;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            String text = items.stream().map(item -> item.getData().toString()).collect(Collectors.joining());
+            String name = text.substring(text.indexOf("event:") + 6, text.indexOf('\n'));
+            String data = text.substring(text.indexOf("data:") + 5).trim();
+            String event = name + ":" + describe(name, data);
+            if (sent.isEmpty() && name.equals("votes")) {
+                snapshotVersion = Integer.parseInt(describe(name, data));
+            }
+            sent.add(event);
+            if (event.equals(watched)) {
+                onWatched.run();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> sent() {
+            return List.copyOf(sent);
+        }
+
+        void onSent(String event, Runnable callback) {
+            this.onWatched = callback;
+            this.watched = event;
+        }
+
+        private static String describe(String name, String data) {
+            try {
+                var json = MAPPER.readTree(data);
+                return name.equals("votes")
+                        ? json.get("participantCount").asText()
+                        : json.get("status").asText() + ":" + json.get("version").asText();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
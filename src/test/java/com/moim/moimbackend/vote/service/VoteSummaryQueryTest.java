@@ -0,0 +1,114 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.support.TestDatabase;
+import com.moim.moimbackend.vote.dto.VoteSummaryResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 투표 현황 조회(VoteService.getVoteSummary)의 SQL 문장 수 검증.
+ *
+ * 후보 수(1, 10, 30개)가 달라도 Hibernate가 준비한 문장 수가 같은지 센다.
+ * 첫 조회: 모임 최소 정보 1 + 버전 1 + 참여자 목록 1 + 전체 투표 1 = 4문장
+ * 이후 조회: GatheringRefCache / VoteTallyCache 적중 → 버전 조회 1문장
+ *
+ * 로컬 PostgreSQL이 필요하므로 MOIM_TEST_DB_URL이 있을 때만 실행 (임시 스키마 사용, TestDatabase 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class VoteSummaryQueryTest {
+
+    private static final List<Integer> CANDIDATE_COUNTS = List.of(1, 10, 30);
+    private static final int PARTICIPANTS = 5;
+
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+        seedGatherings();
+        context = database.startApplication(
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000");
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        database.close();
+    }
+
+    @Test
+    void 투표_현황_조회의_SQL_문장_수는_후보_수와_무관하게_고정() {
+        VoteService voteService = context.getBean(VoteService.class);
+        Statistics statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class).getStatistics();
+
+        for (int candidates : CANDIDATE_COUNTS) {
+            String shareCode = shareCode(candidates);
+
+            statistics.clear();
+            VoteSummaryResponse response = voteService.getVoteSummary(shareCode);
+            assertThat(statistics.getPrepareStatementCount()).as("후보 %d개, 첫 조회", candidates).isEqualTo(4);
+
+            statistics.clear();
+            voteService.getVoteSummary(shareCode);
+            assertThat(statistics.getPrepareStatementCount()).as("후보 %d개, 캐시 적중", candidates).isEqualTo(1);
+
+            assertThat(response.getParticipantCount()).isEqualTo(PARTICIPANTS);
+            assertThat(response.getTimeCandidateVotes()).hasSize(candidates)
+                    .allSatisfy(vote -> assertThat(vote.getVoteCount()).isEqualTo(PARTICIPANTS));
+            assertThat(response.getPlaceCandidateVotes()).hasSize(candidates)
+                    .allSatisfy(vote -> assertThat(vote.getVoterNames()).hasSize(PARTICIPANTS));
+        }
+    }
+
+    // ========== Private 메서드 ==========
+
+    private static String shareCode(int candidates) {
+        return "C" + String.format("%05d", candidates);
+    }
+
+    /**
+     * 후보 수별 BOTH 모임 1개씩: 시간/장소 후보 각 N개, 참여자 5명, 참여자마다 모든 후보에 투표.
+     * 마감은 하루 뒤 → 정리 스캔 대상이 아님.
+     */
+    private void seedGatherings() {
+        database.inTransaction(jdbc -> {
+            for (int candidates : CANDIDATE_COUNTS) {
+                Long gatheringId = jdbc.queryForObject(
+                        "INSERT INTO gathering (share_code, title, host_name, type, admin_token_hash, deadline) " +
+                        "VALUES (?, ?, '주최자', 'BOTH', repeat('0', 64), NOW() + INTERVAL '1 day') RETURNING id",
+                        Long.class, shareCode(candidates), "후보 " + candidates + "개 모임");
+                jdbc.update("INSERT INTO time_candidate (gathering_id, candidate_date, start_time, display_order) " +
+                        "SELECT ?, CURRENT_DATE + o, TIME '18:00', o FROM generate_series(0, ? - 1) o",
+                        gatheringId, candidates);
+                jdbc.update("INSERT INTO place_candidate (gathering_id, name, display_order) " +
+                        "SELECT ?, '장소 ' || o, o FROM generate_series(0, ? - 1) o",
+                        gatheringId, candidates);
+                jdbc.update("INSERT INTO participant (gathering_id, name, session_token_hash) " +
+                        "SELECT ?, '참여자 ' || n, repeat('0', 64) FROM generate_series(1, ?) n",
+                        gatheringId, PARTICIPANTS);
+                jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                        "SELECT p.gathering_id, p.id, t.id, 'TIME' FROM participant p " +
+                        "JOIN time_candidate t ON t.gathering_id = p.gathering_id WHERE p.gathering_id = ?",
+                        gatheringId);
+                jdbc.update("INSERT INTO vote (gathering_id, participant_id, candidate_id, candidate_type) " +
+                        "SELECT p.gathering_id, p.id, c.id, 'PLACE' FROM participant p " +
+                        "JOIN place_candidate c ON c.gathering_id = p.gathering_id WHERE p.gathering_id = ?",
+                        gatheringId);
+            }
+        });
+    }
+}
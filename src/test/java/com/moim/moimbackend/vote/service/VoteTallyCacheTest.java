@@ -0,0 +1,228 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.gathering.entity.GatheringStatus;
+import com.moim.moimbackend.gathering.event.GatheringStatusChangedEvent;
+import com.moim.moimbackend.vote.entity.CandidateType;
+import com.moim.moimbackend.vote.entity.Participant;
+import com.moim.moimbackend.vote.event.VoteChangedEvent;
+import com.moim.moimbackend.vote.repository.ParticipantRepository;
+import com.moim.moimbackend.vote.repository.VoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 투표 집계 캐시 단위 테스트.
+ *
+ * 저장소는 mock → 로드 횟수 = findByGatheringId 호출 횟수로 캐시 적중/재로드를 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class VoteTallyCacheTest {
+
+    private static final long GATHERING_ID = 1L;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+    @Mock
+    private VoteRepository voteRepository;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 투표_변경_이벤트의_추가와_삭제를_반영한다() {
+        VoteTallyCache cache = cache(100);
+        stubLoad(List.of(participant(100L, "김민수")), List.<Object[]>of(row(CandidateType.TIME, 1L, 100L)));
+        cache.get(GATHERING_ID, GatheringStatus.VOTING, 0);
+
+        // v1: 새 참여자가 시간 1, 2에 투표 / v2: 기존 참여자가 시간 1을 해제하고 장소 5에 투표
+        cache.onVoteChanged(event(1, 101L, "이영희", Set.of(1L, 2L), Set.of(), Set.of()));
+        cache.onVoteChanged(event(2, 100L, null, Set.of(), Set.of(1L), Set.of(5L)));
+
+        VoteTally tally = cache.get(GATHERING_ID, GatheringStatus.VOTING, 2);
+
+        assertThat(tally.getParticipantCount()).isEqualTo(2);
+        assertThat(tally.getVoters(CandidateType.TIME)).isEqualTo(Map.of(1L, List.of(101L), 2L, List.of(101L)));
+        assertThat(tally.getVoteCounts(CandidateType.PLACE)).isEqualTo(Map.of(5L, 1L));
+        verify(participantRepository, times(1)).findByGatheringId(GATHERING_ID);
+    }
+
+    @Test
+    void 순서가_바뀐_이벤트는_앞_버전이_올_때까지_보류한다() {
+        VoteTallyCache cache = cache(100);
+        stubLoad(List.of(participant(100L, "김민수")), List.of());
+        cache.get(GATHERING_ID, GatheringStatus.VOTING, 0);
+
+        // v2가 먼저 도착 → v1이 빠져 있으므로 반영하지 않음
+        cache.onVoteChanged(event(2, 100L, null, Set.of(7L), Set.of(), Set.of()));
+        assertThat(cache.get(GATHERING_ID, GatheringStatus.VOTING, 0).getVoters(CandidateType.TIME)).isEmpty();
+
+        // v1 도착 → v1, v2 순서로 반영되고 v2 조회가 캐시에서 나감
+        cache.onVoteChanged(event(1, 100L, null, Set.of(3L), Set.of(), Set.of()));
+        VoteTally tally = cache.get(GATHERING_ID, GatheringStatus.VOTING, 2);
+
+        assertThat(tally.getVoters(CandidateType.TIME)).isEqualTo(Map.of(3L, List.of(100L), 7L, List.of(100L)));
+        verify(participantRepository, times(1)).findByGatheringId(GATHERING_ID);
+    }
+
+    @Test
+    void 이미_로드에_반영된_버전의_이벤트는_건너뛴다() {
+        VoteTallyCache cache = cache(100);
+        stubLoad(List.of(participant(100L, "김민수")), List.of());
+        cache.get(GATHERING_ID, GatheringStatus.VOTING, 3);
+
+        cache.onVoteChanged(event(3, 100L, null, Set.of(1L), Set.of(), Set.of()));
+
+        assertThat(cache.get(GATHERING_ID, GatheringStatus.VOTING, 3).getVoters(CandidateType.TIME)).isEmpty();
+    }
+
+    @Test
+    void DB_버전이_더_크면_다시_로드한다() {
+        VoteTallyCache cache = cache(100);
+        when(participantRepository.findByGatheringId(GATHERING_ID))
+                .thenReturn(List.of(participant(100L, "김민수")))
+                .thenReturn(List.of(participant(100L, "김민수"), participant(101L, "이영희")));
+        when(voteRepository.findVoteRowsByGatheringId(GATHERING_ID)).thenReturn(List.of());
+
+        assertThat(cache.get(GATHERING_ID, GatheringStatus.VOTING, 0).getParticipantCount()).isEqualTo(1);
+        // 다른 인스턴스에서 참여 → 이 인스턴스에는 이벤트가 오지 않음
+        assertThat(cache.get(GATHERING_ID, GatheringStatus.VOTING, 1).getParticipantCount()).isEqualTo(2);
+        assertThat(cache.get(GATHERING_ID, GatheringStatus.VOTING, 1).getParticipantCount()).isEqualTo(2);
+
+        verify(participantRepository, times(2)).findByGatheringId(GATHERING_ID);
+    }
+
+    @Test
+    void 최대_모임_수를_넘으면_캐시하지_않고_매번_집계한다() {
+        VoteTallyCache cache = cache(1);
+        when(participantRepository.findByGatheringId(anyLong())).thenReturn(List.of(participant(100L, "김민수")));
+        when(voteRepository.findVoteRowsByGatheringId(anyLong())).thenReturn(List.of());
+
+        cache.get(1L, GatheringStatus.VOTING, 0);
+        cache.get(1L, GatheringStatus.VOTING, 0);
+        cache.get(2L, GatheringStatus.VOTING, 0);
+        cache.get(2L, GatheringStatus.VOTING, 0);
+
+        verify(participantRepository, times(1)).findByGatheringId(1L);
+        verify(participantRepository, times(2)).findByGatheringId(2L);
+        assertThat(cache.findParticipantName(2L, 100L)).isNull();
+    }
+
+    @Test
+    void TIEBREAK_전환은_버전만_올리고_확정되면_제거한다() {
+        VoteTallyCache cache = cache(100);
+        stubLoad(List.of(participant(100L, "김민수")), List.of());
+        cache.get(GATHERING_ID, GatheringStatus.VOTING, 0);
+
+        cache.onStatusChanged(new GatheringStatusChangedEvent(GATHERING_ID, "aB3kX7", GatheringStatus.TIEBREAK, 1));
+        cache.get(GATHERING_ID, GatheringStatus.TIEBREAK, 1);
+        verify(participantRepository, times(1)).findByGatheringId(GATHERING_ID);
+        assertThat(cache.findParticipantName(GATHERING_ID, 100L)).isEqualTo("김민수");
+
+        cache.onStatusChanged(new GatheringStatusChangedEvent(GATHERING_ID, "aB3kX7", GatheringStatus.CONFIRMED, 2));
+        assertThat(cache.findParticipantName(GATHERING_ID, 100L)).isNull();
+    }
+
+    @Test
+    void 오래_조회되지_않은_모임은_제거한다() {
+        VoteTallyCache cache = cache(100);  // idle-ttl 600초
+        stubLoad(List.of(participant(100L, "김민수")), List.of());
+        cache.get(GATHERING_ID, GatheringStatus.VOTING, 0);
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(599));
+        cache.evictIdle();
+        assertThat(cache.findParticipantName(GATHERING_ID, 100L)).isEqualTo("김민수");
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(2));
+        cache.evictIdle();
+        assertThat(cache.findParticipantName(GATHERING_ID, 100L)).isNull();
+    }
+
+    @Test
+    void 같은_모임의_동시_미스는_DB를_한_번만_읽는다() throws Exception {
+        VoteTallyCache cache = cache(100);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(participantRepository.findByGatheringId(GATHERING_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(participant(100L, "김민수"));
+        });
+        when(voteRepository.findVoteRowsByGatheringId(GATHERING_ID)).thenReturn(List.of());
+
+        CompletableFuture<VoteTally> first =
+                CompletableFuture.supplyAsync(() -> cache.get(GATHERING_ID, GatheringStatus.VOTING, 0));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<VoteTally> second =
+                CompletableFuture.supplyAsync(() -> cache.get(GATHERING_ID, GatheringStatus.VOTING, 0));
+
+        // 로드 중에는 아직 로드되지 않은 항목으로 보임
+        assertThat(cache.findParticipantName(GATHERING_ID, 100L)).isNull();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getParticipantCount()).isEqualTo(1);
+        assertThat(second.get(5, TimeUnit.SECONDS).getParticipantCount()).isEqualTo(1);
+        verify(participantRepository, times(1)).findByGatheringId(GATHERING_ID);
+    }
+
+    @Test
+    void 로드가_실패하면_다음_조회가_다시_로드한다() {
+        VoteTallyCache cache = cache(100);
+        when(participantRepository.findByGatheringId(GATHERING_ID))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of(participant(100L, "김민수")));
+        when(voteRepository.findVoteRowsByGatheringId(GATHERING_ID)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> cache.get(GATHERING_ID, GatheringStatus.VOTING, 0))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(GATHERING_ID, GatheringStatus.VOTING, 0).getParticipantCount()).isEqualTo(1);
+    }
+
+    // ========== 헬퍼 ==========
+
+    private VoteTallyCache cache(int maxGatherings) {
+        return new VoteTallyCache(participantRepository, voteRepository, 600, maxGatherings, now::get);
+    }
+
+    private void stubLoad(List<Participant> participants, List<Object[]> voteRows) {
+        when(participantRepository.findByGatheringId(GATHERING_ID)).thenReturn(participants);
+        when(voteRepository.findVoteRowsByGatheringId(GATHERING_ID)).thenReturn(new ArrayList<>(voteRows));
+    }
+
+    private static Object[] row(CandidateType type, Long candidateId, Long participantId) {
+        return new Object[]{type, candidateId, participantId};
+    }
+
+    private static Participant participant(Long id, String name) {
+        return Participant.builder().id(id).name(name).sessionTokenHash("hash").build();
+    }
+
+    private static VoteChangedEvent event(long version, Long participantId, String participantName,
+                                          Set<Long> timeAdded, Set<Long> timeRemoved, Set<Long> placeAdded) {
+        return VoteChangedEvent.builder()
+                .gatheringId(GATHERING_ID)
+                .shareCode("aB3kX7")
+                .version(version)
+                .participantId(participantId)
+                .participantName(participantName)
+                .newParticipant(participantName != null)
+                .timeAdded(timeAdded)
+                .timeRemoved(timeRemoved)
+                .placeAdded(placeAdded)
+                .build();
+    }
+}
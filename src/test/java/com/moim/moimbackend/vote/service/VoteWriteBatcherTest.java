@@ -0,0 +1,223 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.common.exception.BusinessException;
+import com.moim.moimbackend.common.exception.ErrorCode;
+import com.moim.moimbackend.config.BackgroundThreads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 투표 쓰기 그룹 커밋 검증.
+ *
+ * 트랜잭션 매니저는 목으로 두고 커밋/롤백 횟수로 배치 경계를 확인한다.
+ * - maxSize만큼 모이면 한 트랜잭션으로 커밋
+ * - 배치 중 하나가 실패하면 나머지는 개별 재실행으로 성공
+ * - 종료 시 큐에 남은 작업까지 커밋하고, 종료 후 요청은 거절
+ * - 큐가 가득 차거나 커밋 대기 시간을 넘으면 SERVER_BUSY
+ *
+ * 실제 DB에서 on/off의 moim.vote.write 히스토그램을 비교하는 부하 테스트는 VoteWriteBurstTest.
+ */
+class VoteWriteBatcherTest {
+
+    private static final long WAIT_FOREVER_MILLIS = 60_000;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final BackgroundThreads backgroundThreads = new BackgroundThreads(new StandardEnvironment());
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private VoteWriteBatcher batcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void maxSize만큼_모이면_한_트랜잭션으로_커밋한다() throws Exception {
+        batcher = batcher(5, WAIT_FOREVER_MILLIS, 100, WAIT_FOREVER_MILLIS);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            results.add(submit(() -> value));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(results.get(i).get(10, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void 배치_중_하나가_실패하면_그_작업만_실패하고_나머지는_개별_커밋된다() throws Exception {
+        batcher = batcher(3, WAIT_FOREVER_MILLIS, 100, WAIT_FOREVER_MILLIS);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<String> first = submit(() -> {
+            runs.incrementAndGet();
+            return "first";
+        });
+        Future<String> failing = submit(() -> {
+            throw new BusinessException(ErrorCode.DUPLICATE_NAME);
+        });
+        Future<String> third = submit(() -> {
+            runs.incrementAndGet();
+            return "third";
+        });
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(third.get(10, TimeUnit.SECONDS)).isEqualTo("third");
+        assertThatThrownBy(() -> failing.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e.getCause()).getErrorCode())
+                .isEqualTo(ErrorCode.DUPLICATE_NAME);
+        // 배치 트랜잭션 1(롤백) + 개별 3 (커밋 2, 롤백 1), 성공 작업은 배치 + 개별로 2번씩 실행
+        verify(transactionManager, times(4)).getTransaction(any());
+        verify(transactionManager, times(2)).commit(any());
+        verify(transactionManager, times(2)).rollback(any());
+        assertThat(runs).hasValue(4);
+    }
+
+    @Test
+    void 종료하면_큐에_남은_작업까지_커밋하고_이후_요청은_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(1, 0, 100, WAIT_FOREVER_MILLIS);
+
+        // 첫 작업이 쓰기 스레드를 붙잡은 동안 나머지가 큐에 쌓임
+        Future<Integer> blocking = submit(() -> {
+            await(release);
+            return 0;
+        });
+        List<Future<Integer>> queued = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            int value = i;
+            queued.add(submit(() -> value));
+        }
+        awaitQueued(10);
+
+        Future<?> shutdown = callers.submit(() -> {
+            batcher.shutdown();
+            return null;
+        });
+        release.countDown();
+        shutdown.get(10, TimeUnit.SECONDS);
+
+        assertThat(blocking.get()).isZero();
+        for (int i = 0; i < queued.size(); i++) {
+            assertThat(queued.get(i).get()).isEqualTo(i + 1);
+        }
+        assertThatThrownBy(() -> batcher.execute(() -> 1))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVER_BUSY);
+    }
+
+    @Test
+    void 큐가_가득_차면_바로_SERVER_BUSY() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(1, 0, 1, WAIT_FOREVER_MILLIS);
+
+        Future<Integer> blocking = submit(() -> {
+            await(release);
+            return 0;
+        });
+        awaitTransactions(1);
+        Future<Integer> queued = submit(() -> 1);
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> batcher.execute(() -> 2))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVER_BUSY);
+
+        release.countDown();
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isZero();
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void 커밋_대기_시간을_넘으면_SERVER_BUSY이고_큐에_있던_작업은_실행되지_않는다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(1, 0, 100, 200);
+        AtomicInteger lateRuns = new AtomicInteger();
+
+        Future<Integer> blocking = submit(() -> {
+            await(release);
+            return 0;
+        });
+        awaitTransactions(1);
+
+        assertThatThrownBy(() -> batcher.execute(lateRuns::incrementAndGet))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SERVER_BUSY);
+
+        release.countDown();
+        blocking.get(10, TimeUnit.SECONDS);
+        batcher.shutdown();
+        assertThat(lateRuns).hasValue(0);
+    }
+
+    @Test
+    void 비활성화_상태면_호출_스레드에서_바로_실행한다() {
+        batcher = new VoteWriteBatcher(transactionManager, new SimpleMeterRegistry(), backgroundThreads, false, 64, 5, 100, 1000);
+
+        assertThat(batcher.execute(() -> "direct")).isEqualTo("direct");
+        verifyNoInteractions(transactionManager);
+    }
+
+    // ========== Private 메서드 ==========
+
+    private VoteWriteBatcher batcher(int maxSize, long maxWaitMillis, int queueCapacity, long awaitTimeoutMillis) {
+        return new VoteWriteBatcher(transactionManager, new SimpleMeterRegistry(), backgroundThreads,
+                true, maxSize, maxWaitMillis, queueCapacity, awaitTimeoutMillis);
+    }
+
+    private <T> Future<T> submit(Supplier<T> operation) {
+        return callers.submit(() -> batcher.execute(operation));
+    }
+
+    /** 쓰기 스레드가 트랜잭션을 count번 시작할 때까지 대기 (= 작업이 큐에서 빠져 실행 중) */
+    private void awaitTransactions(int count) {
+        verify(transactionManager, timeout(10_000).times(count)).getTransaction(any());
+    }
+
+    /** 큐에 count개가 쌓일 때까지 대기 */
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (batcher.queued() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("queued=" + batcher.queued() + ", expected=" + count);
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.moim.moimbackend.vote.service;
+
+import com.moim.moimbackend.gathering.dto.CreateGatheringRequest;
+import com.moim.moimbackend.gathering.service.GatheringService;
+import com.moim.moimbackend.support.TestDatabase;
+import com.moim.moimbackend.vote.dto.ParticipateRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 투표 쓰기 몰림(burst)에서 그룹 커밋 on/off의 moim.vote.write 히스토그램 비교.
+ *
+ * 한 모임에 동시 참여 요청을 몰아넣고(컨트롤러처럼 VoteWriteBatcher.execute 경유),
+ * 같은 부하를 moim.vote-batch.enabled=false(direct)와 true(batch)로 한 번씩 돌린다.
+ * - 두 모드 모두 모든 요청이 저장되고, 요청마다 모임 버전이 1씩 오르는지
+ * - 두 모드 모두 모든 요청이 히스토그램에 기록되는지
+ * - batch 모드는 요청 수보다 적은 트랜잭션으로 커밋하는지 (moim.vote.batch.size)
+ * 지연 분포는 환경에 따라 달라서 단언하지 않고, 버킷에서 계산한 p50/p99/max를 로그로 남긴다.
+ *
+ * 오래 걸리므로 기본으로는 건너뛴다 (MOIM_TEST_DB_URL + MOIM_TEST_VOTE_BURST=true일 때 실행).
+ */
+@EnabledIfEnvironmentVariable(named = "MOIM_TEST_DB_URL", matches = ".+")
+class VoteWriteBurstTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteWriteBurstTest.class);
+
+    private static final int WRITES = 2000;
+    private static final int CALLERS = 64;
+
+    private TestDatabase database;
+    private ConfigurableApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        database = TestDatabase.create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+        database.close();
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "MOIM_TEST_VOTE_BURST", matches = "true")
+    void 참여_요청이_몰리면_그룹_커밋_on_off의_쓰기_지연_히스토그램을_비교한다() throws Exception {
+        HistogramSnapshot direct = burst(false);
+
+        database.reset();
+        HistogramSnapshot batch = burst(true);
+        DistributionSummary batchSize = context.getBean(MeterRegistry.class).get("moim.vote.batch.size").summary();
+
+        assertThat(batchSize.totalAmount()).isEqualTo(WRITES);
+        assertThat(batchSize.count()).isLessThan(WRITES);
+
+        log.info("[투표 쓰기 burst] {}건, 동시 {}명, 배치 커밋 {}회 (평균 {}건)",
+                WRITES, CALLERS, batchSize.count(), String.format("%.1f", batchSize.mean()));
+        log.info("[투표 쓰기 burst] direct p50={}ms p99={}ms max={}ms",
+                percentileMillis(direct, 0.5), percentileMillis(direct, 0.99), maxMillis(direct));
+        log.info("[투표 쓰기 burst] batch  p50={}ms p99={}ms max={}ms",
+                percentileMillis(batch, 0.5), percentileMillis(batch, 0.99), maxMillis(batch));
+    }
+
+    // ========== Private 메서드 ==========
+
+    /** 새 앱 컨텍스트에서 참여 요청 WRITES건을 동시에 보내고 moim.vote.write 스냅샷 반환 */
+    private HistogramSnapshot burst(boolean batchEnabled) throws Exception {
+        if (context != null) {
+            context.close();
+        }
+        context = database.startApplication(
+                "moim.vote-batch.enabled=" + batchEnabled,
+                "moim.deadline.timer.enabled=false",
+                "moim.deadline.sweep-millis=3600000");
+        VoteService voteService = context.getBean(VoteService.class);
+        VoteWriteBatcher batcher = context.getBean(VoteWriteBatcher.class);
+
+        String shareCode = context.getBean(GatheringService.class).createGathering(gatheringRequest()).getShareCode();
+        List<Long> timeIds = candidateIds("time_candidate", shareCode);
+        List<Long> placeIds = candidateIds("place_candidate", shareCode);
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<CompletableFuture<?>> writes = new ArrayList<>(WRITES);
+            for (int i = 0; i < WRITES; i++) {
+                ParticipateRequest request = participateRequest("참여자 " + i, timeIds, placeIds);
+                writes.add(CompletableFuture.runAsync(
+                        () -> batcher.execute(() -> voteService.participate(shareCode, request)), callers));
+            }
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).get(10, TimeUnit.MINUTES);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(database.count("SELECT COUNT(*) FROM participant")).isEqualTo(WRITES);
+        assertThat(database.count("SELECT version FROM gathering WHERE share_code = ?", shareCode)).isEqualTo(WRITES);
+
+        Timer writeTimer = context.getBean(MeterRegistry.class)
+                .get("moim.vote.write").tag("mode", batchEnabled ? "batch" : "direct").timer();
+        HistogramSnapshot snapshot = writeTimer.takeSnapshot();
+
+        assertThat(snapshot.count()).isEqualTo(WRITES);
+        assertThat(snapshot.histogramCounts()).isNotEmpty();  // publishPercentileHistogram 버킷
+        return snapshot;
+    }
+
+    /** 누적 버킷에서 비율 이상이 처음 포함되는 버킷 상한 (히스토그램 근사치) */
+    private static long percentileMillis(HistogramSnapshot snapshot, double percentile) {
+        double target = snapshot.count() * percentile;
+        for (CountAtBucket bucket : snapshot.histogramCounts()) {
+            if (bucket.count() >= target) {
+                return Math.round(bucket.bucket(TimeUnit.MILLISECONDS));
+            }
+        }
+        return maxMillis(snapshot);
+    }
+
+    private static long maxMillis(HistogramSnapshot snapshot) {
+        return Math.round(snapshot.max(TimeUnit.MILLISECONDS));
+    }
+
+    private CreateGatheringRequest gatheringRequest() {
+        CreateGatheringRequest.TimeCandidateItem time = new CreateGatheringRequest.TimeCandidateItem();
+        time.setDate(LocalDate.now().plusDays(1).toString());
+        time.setStartTime("18:00");
+        CreateGatheringRequest.PlaceCandidateItem place = new CreateGatheringRequest.PlaceCandidateItem();
+        place.setName("강남역");
+
+        CreateGatheringRequest request = new CreateGatheringRequest();
+        request.setTitle("몰림 모임");
+        request.setHostName("주최자");
+        request.setType("BOTH");
+        request.setDeadline(Instant.now().plus(1, ChronoUnit.DAYS));
+        request.setTimeCandidates(List.of(time));
+        request.setPlaceCandidates(List.of(place));
+        return request;
+    }
+
+    private ParticipateRequest participateRequest(String name, List<Long> timeIds, List<Long> placeIds) {
+        ParticipateRequest request = new ParticipateRequest();
+        request.setName(name);
+        request.setTimeCandidateIds(timeIds);
+        request.setPlaceCandidateIds(placeIds);
+        return request;
+    }
+
+    private List<Long> candidateIds(String table, String shareCode) {
+        return database.jdbcTemplate().queryForList(
+                "SELECT c.id FROM " + table + " c JOIN gathering g ON g.id = c.gathering_id " +
+                "WHERE g.share_code = ? ORDER BY c.display_order", Long.class, shareCode);
+    }
+}